@@ -19,6 +19,7 @@ public final class NBTConstants {
 
     //Server to Client specific sync NBT tags
     public static final String ACTIVE = "active";
+    public static final String CLIENT_NEIGHBORS = "clientNeighbors";
     public static final String CLIENT_NEXT = "clientNext";
     public static final String CLIENT_PREVIOUS = "clientPrevious";
     public static final String COMPLEX = "complex";
@@ -149,6 +150,7 @@ public final class NBTConstants {
     public static final String OVERRIDE = "override";
     public static final String OWNER_UUID = "owner";
     public static final String PARTIAL_WASTE = "partialWaste";
+    public static final String PATH = "path";
     public static final String PATH_TYPE = "pathType";
     public static final String PICKUP_DROPS = "dropPickup";
     public static final String PIGMENT_NAME = "pigmentName";
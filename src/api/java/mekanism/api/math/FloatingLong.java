@@ -19,8 +19,7 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
 
     private static final DecimalFormat df = new DecimalFormat("0.0000", DecimalFormatSymbols.getInstance(Locale.ENGLISH));
 
-    //TODO: Eventually we should define a way of doing a set of operations all at once, and outputting a new value
-    // given that way we can internally do all the calculations using primitives rather than spamming a lot of objects
+    //Note: For doing a set of operations all at once without creating a lot of intermediary objects, see FloatingLongAccumulator
     /**
      * The maximum number of decimal digits we can represent
      */
@@ -28,15 +27,15 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
     /**
      * The maximum value we can represent as a decimal
      */
-    private static final short MAX_DECIMAL = 9_999;
+    static final short MAX_DECIMAL = 9_999;
     /**
      * The value which represents 1.0, this is one more than the value of {@link #MAX_DECIMAL}
      */
-    private static final short SINGLE_UNIT = MAX_DECIMAL + 1;
+    static final short SINGLE_UNIT = MAX_DECIMAL + 1;
     /**
      * The maximum value where the decimal can be eliminated without {@link #value} overflowing, want to be able to shift twice
      */
-    private static final long MAX_LONG_SHIFT = Long.divideUnsigned(Long.divideUnsigned(-1L, SINGLE_UNIT), SINGLE_UNIT);
+    static final long MAX_LONG_SHIFT = Long.divideUnsigned(Long.divideUnsigned(-1L, SINGLE_UNIT), SINGLE_UNIT);
     /**
      * A constant holding the value {@code 0}
      */
@@ -1006,14 +1005,14 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
     /**
      * Internal helper to determine if the result of unsigned long multiplication will overflow.
      */
-    private static boolean multiplyLongsWillOverFlow(long a, long b) {
+    static boolean multiplyLongsWillOverFlow(long a, long b) {
         return (a != 0 && b != 0 && Long.compareUnsigned(b, Long.divideUnsigned(-1, a)) > 0);
     }
 
     /**
      * Internal helper to multiply two longs and clamp if they overflow.
      */
-    private static long multiplyLongs(long a, long b) {
+    static long multiplyLongs(long a, long b) {
         if (a == 0 || b == 0) {
             return 0;
         } else if (multiplyLongsWillOverFlow(a, b)) {
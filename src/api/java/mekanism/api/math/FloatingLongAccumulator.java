@@ -0,0 +1,314 @@
+package mekanism.api.math;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import net.minecraft.MethodsReturnNonnullByDefault;
+
+/**
+ * A mutable accumulator for {@link FloatingLong} values, backed directly by the primitive value and decimal. All operations modify this accumulator in place and,
+ * unless otherwise noted, do not create any objects, which makes it suitable for doing a set of operations all at once in hot code paths and only creating a
+ * {@link FloatingLong} for the final result via {@link #toFloatingLong()}.
+ *
+ * @implNote The results of all operations are identical to the corresponding operations on {@link FloatingLong}, including clamping at {@link FloatingLong#ZERO}
+ * and {@link FloatingLong#MAX_VALUE}.
+ */
+@ParametersAreNonnullByDefault
+@MethodsReturnNonnullByDefault
+public class FloatingLongAccumulator {
+
+    private long value;
+    private short decimal;
+
+    /**
+     * Creates an accumulator starting at zero.
+     */
+    public FloatingLongAccumulator() {
+    }
+
+    /**
+     * Creates an accumulator starting at the given value.
+     */
+    public FloatingLongAccumulator(FloatingLong initial) {
+        set(initial);
+    }
+
+    /**
+     * @return the unsigned long representing the whole number value of this accumulator
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * @return the short representing the decimal value of this accumulator
+     */
+    public short getDecimal() {
+        return decimal;
+    }
+
+    public FloatingLongAccumulator set(FloatingLong other) {
+        return setAndClampValues(other.getValue(), other.getDecimal());
+    }
+
+    public FloatingLongAccumulator set(FloatingLongAccumulator other) {
+        return setAndClampValues(other.value, other.decimal);
+    }
+
+    public FloatingLongAccumulator setZero() {
+        value = 0;
+        decimal = 0;
+        return this;
+    }
+
+    private FloatingLongAccumulator setAndClampValues(long value, short decimal) {
+        this.value = value;
+        this.decimal = clampDecimal(decimal);
+        return this;
+    }
+
+    private static short clampDecimal(short decimal) {
+        if (decimal < 0) {
+            return 0;
+        } else if (decimal > FloatingLong.MAX_DECIMAL) {
+            return FloatingLong.MAX_DECIMAL;
+        }
+        return decimal;
+    }
+
+    /**
+     * Checks if this accumulator is zero.
+     *
+     * @see FloatingLong#isZero()
+     */
+    public boolean isZero() {
+        return value == 0 && decimal <= 0;
+    }
+
+    /**
+     * Adds the given {@link FloatingLong} to this accumulator, clamping at {@link FloatingLong#MAX_VALUE} rather than overflowing.
+     *
+     * @see FloatingLong#plusEqual(FloatingLong)
+     */
+    public FloatingLongAccumulator add(FloatingLong toAdd) {
+        return add(toAdd.getValue(), toAdd.getDecimal());
+    }
+
+    /**
+     * Adds the given accumulator to this accumulator, clamping at {@link FloatingLong#MAX_VALUE} rather than overflowing.
+     *
+     * @see FloatingLong#plusEqual(FloatingLong)
+     */
+    public FloatingLongAccumulator add(FloatingLongAccumulator toAdd) {
+        return add(toAdd.value, toAdd.decimal);
+    }
+
+    private FloatingLongAccumulator add(long toAddValue, short toAddDecimal) {
+        if ((value < 0 && toAddValue < 0) || ((value < 0 || toAddValue < 0) && (value + toAddValue >= 0))) {
+            return setAndClampValues(-1, FloatingLong.MAX_DECIMAL);
+        }
+        long newValue = value + toAddValue;
+        short newDecimal = (short) (decimal + toAddDecimal);
+        if (newDecimal > FloatingLong.MAX_DECIMAL) {
+            if (newValue == -1) {
+                newDecimal = FloatingLong.MAX_DECIMAL;
+            } else {
+                newDecimal -= FloatingLong.SINGLE_UNIT;
+                newValue++;
+            }
+        }
+        return setAndClampValues(newValue, newDecimal);
+    }
+
+    /**
+     * Subtracts the given {@link FloatingLong} from this accumulator, clamping at {@link FloatingLong#ZERO} rather than becoming negative.
+     *
+     * @see FloatingLong#minusEqual(FloatingLong)
+     */
+    public FloatingLongAccumulator subtract(FloatingLong toSubtract) {
+        return subtract(toSubtract.getValue(), toSubtract.getDecimal());
+    }
+
+    /**
+     * Subtracts the given accumulator from this accumulator, clamping at {@link FloatingLong#ZERO} rather than becoming negative.
+     *
+     * @see FloatingLong#minusEqual(FloatingLong)
+     */
+    public FloatingLongAccumulator subtract(FloatingLongAccumulator toSubtract) {
+        return subtract(toSubtract.value, toSubtract.decimal);
+    }
+
+    private FloatingLongAccumulator subtract(long toSubtractValue, short toSubtractDecimal) {
+        if (compareTo(toSubtractValue, toSubtractDecimal) < 0) {
+            //Clamp the result at zero as floating longs cannot become negative
+            return setZero();
+        }
+        long newValue = value - toSubtractValue;
+        short newDecimal = (short) (decimal - toSubtractDecimal);
+        if (newDecimal < 0) {
+            newDecimal += FloatingLong.SINGLE_UNIT;
+            newValue--;
+        }
+        return setAndClampValues(newValue, newDecimal);
+    }
+
+    /**
+     * Multiplies this accumulator by the given {@link FloatingLong}, clamping at {@link FloatingLong#MAX_VALUE} rather than overflowing.
+     *
+     * @see FloatingLong#timesEqual(FloatingLong)
+     */
+    public FloatingLongAccumulator multiply(FloatingLong toMultiply) {
+        long otherValue = toMultiply.getValue();
+        short otherDecimal = toMultiply.getDecimal();
+        //(a+b)*(c+d) where numbers represent decimal, numbers represent value
+        if (FloatingLong.multiplyLongsWillOverFlow(value, otherValue)) {
+            return setAndClampValues(-1, FloatingLong.MAX_DECIMAL);
+        }
+        long ourValue = value;
+        short ourDecimal = decimal;
+        setAndClampValues(FloatingLong.multiplyLongs(ourValue, otherValue), (short) 0);//a * c
+        addLongTimesDecimal(ourValue, otherDecimal);//a * d
+        addLongTimesDecimal(otherValue, ourDecimal);//b * c
+        return add(0, clampDecimal((short) ((long) ourDecimal * (long) otherDecimal / FloatingLong.SINGLE_UNIT)));//b * d
+    }
+
+    private void addLongTimesDecimal(long value, short decimal) {
+        //This can't overflow!
+        if (Long.compareUnsigned(value, Long.divideUnsigned(-1, FloatingLong.SINGLE_UNIT)) > 0) {
+            add(Long.divideUnsigned(value, FloatingLong.SINGLE_UNIT) * decimal, clampDecimal((short) (value % FloatingLong.SINGLE_UNIT * decimal)));
+        } else {
+            add(Long.divideUnsigned(value * decimal, FloatingLong.SINGLE_UNIT), clampDecimal((short) (value * decimal % FloatingLong.SINGLE_UNIT)));
+        }
+    }
+
+    /**
+     * Divides this accumulator by the given unsigned long primitive, rounding to the nearest 0.0001.
+     *
+     * @throws ArithmeticException if {@code toDivide} is zero.
+     * @see FloatingLong#divideEquals(long)
+     */
+    public FloatingLongAccumulator divide(long toDivide) {
+        if (toDivide == 0) {
+            throw new ArithmeticException("Division by zero");
+        } else if (isZero()) {
+            return setZero();
+        }
+        long val = Long.divideUnsigned(value, toDivide);
+        long rem = Long.remainderUnsigned(value, toDivide);
+        long dec;
+        if (Long.compareUnsigned(rem, FloatingLong.MAX_LONG_SHIFT / 10) >= 0) {
+            dec = Long.divideUnsigned(rem, Long.divideUnsigned(toDivide, FloatingLong.SINGLE_UNIT * 10L));
+        } else {
+            dec = Long.divideUnsigned(rem * FloatingLong.SINGLE_UNIT * 10L, toDivide);
+            dec += Long.divideUnsigned(decimal * 10L, toDivide);
+        }
+        if (Long.remainderUnsigned(dec, 10) >= 5) {
+            dec += 10;
+            if (dec >= FloatingLong.SINGLE_UNIT * 10) {
+                val++;
+                dec -= FloatingLong.SINGLE_UNIT * 10;
+            }
+        }
+        dec /= 10;
+        return setAndClampValues(val, (short) dec);
+    }
+
+    /**
+     * Divides this accumulator by the given {@link FloatingLong}, clamping at {@link FloatingLong#MAX_VALUE} rather than overflowing.
+     *
+     * @throws ArithmeticException if {@code toDivide} is zero.
+     * @implNote This only avoids creating objects if {@code toDivide} is a whole number, as otherwise it falls back to {@link FloatingLong#divideEquals(FloatingLong)}.
+     * @see FloatingLong#divideEquals(FloatingLong)
+     */
+    public FloatingLongAccumulator divide(FloatingLong toDivide) {
+        if (toDivide.isZero()) {
+            throw new ArithmeticException("Division by zero");
+        } else if (isZero()) {
+            return setZero();
+        } else if (toDivide.getDecimal() == 0) {
+            return divide(toDivide.getValue());
+        }
+        return set(toFloatingLong().divideEquals(toDivide));
+    }
+
+    /**
+     * Sets this accumulator to the smaller of its current value and the given {@link FloatingLong}.
+     */
+    public FloatingLongAccumulator min(FloatingLong other) {
+        return compareTo(other) > 0 ? set(other) : this;
+    }
+
+    /**
+     * Sets this accumulator to the smaller of its current value and the value of the given accumulator.
+     */
+    public FloatingLongAccumulator min(FloatingLongAccumulator other) {
+        return compareTo(other) > 0 ? set(other) : this;
+    }
+
+    /**
+     * Sets this accumulator to the larger of its current value and the given {@link FloatingLong}.
+     */
+    public FloatingLongAccumulator max(FloatingLong other) {
+        return compareTo(other) < 0 ? set(other) : this;
+    }
+
+    /**
+     * @see FloatingLong#compareTo(FloatingLong)
+     */
+    public int compareTo(FloatingLong toCompare) {
+        return compareTo(toCompare.getValue(), toCompare.getDecimal());
+    }
+
+    /**
+     * @see FloatingLong#compareTo(FloatingLong)
+     */
+    public int compareTo(FloatingLongAccumulator toCompare) {
+        return compareTo(toCompare.value, toCompare.decimal);
+    }
+
+    private int compareTo(long otherValue, short otherDecimal) {
+        int valueCompare = Long.compareUnsigned(value, otherValue);
+        if (valueCompare == 0) {
+            if (decimal < otherDecimal) {
+                return -2;
+            } else if (decimal > otherDecimal) {
+                return 2;
+            }
+            return 0;
+        }
+        return valueCompare;
+    }
+
+    public boolean smallerThan(FloatingLong toCompare) {
+        return compareTo(toCompare) < 0;
+    }
+
+    public boolean smallerOrEqual(FloatingLong toCompare) {
+        return compareTo(toCompare) <= 0;
+    }
+
+    public boolean greaterThan(FloatingLong toCompare) {
+        return compareTo(toCompare) > 0;
+    }
+
+    public boolean greaterOrEqual(FloatingLong toCompare) {
+        return compareTo(toCompare) >= 0;
+    }
+
+    /**
+     * @return {@code true} if this accumulator is equal in value to the given {@link FloatingLong}, {@code false} otherwise.
+     */
+    public boolean equals(FloatingLong other) {
+        return value == other.getValue() && decimal == other.getDecimal();
+    }
+
+    /**
+     * Creates a new mutable {@link FloatingLong} with the current value of this accumulator.
+     */
+    public FloatingLong toFloatingLong() {
+        return FloatingLong.create(value, decimal);
+    }
+
+    @Override
+    public String toString() {
+        return toFloatingLong().toString();
+    }
+}
@@ -627,6 +627,19 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_CHUNK_LOADED, "Loaded chunk (%1$s).");
         add(MekanismLang.COMMAND_CHUNK_UNLOADED, "Unloaded chunk (%1$s).");
         add(MekanismLang.COMMAND_DEBUG, "Toggled debug mode: %1$s.");
+        add(MekanismLang.COMMAND_CONTAINER_SYNC_EMPTY, "No container data has been synced since the stats were last reset.");
+        add(MekanismLang.COMMAND_CONTAINER_SYNC_ENTRY, "%1$s: %2$s bytes per tick (%3$s bytes in %4$s packets over %5$s ticks).");
+        add(MekanismLang.COMMAND_CONTAINER_SYNC_RESET, "Reset container sync stats.");
+        add(MekanismLang.COMMAND_NETWORKS_START, "Started profiling transmitter networks.");
+        add(MekanismLang.COMMAND_NETWORKS_STOP, "Stopped profiling transmitter networks.");
+        add(MekanismLang.COMMAND_NETWORKS_TOP_EMPTY, "No transmitter networks have been profiled.");
+        add(MekanismLang.COMMAND_NETWORKS_TOP_ENTRY, "%1$s. %2$s at (%3$s) in %4$s: %5$s µs per tick, %6$s µs max update.");
+        add(MekanismLang.COMMAND_NETWORKS_DUMP, "Saved transmitter network profile to %1$s.");
+        add(MekanismLang.COMMAND_ERROR_NETWORKS_DUMP, "Failed to save transmitter network profile.");
+        add(MekanismLang.COMMAND_RECIPE_LOOKUPS_EMPTY, "No recipe lookups have been made since recipes were last loaded.");
+        add(MekanismLang.COMMAND_RECIPE_LOOKUPS_ENTRY, "%1$s: %2$s of %3$s lookups skipped for inputs without recipes (%4$s).");
+        add(MekanismLang.COMMAND_TRANSPORTER_PATHS, "Transporter path cache: %1$s hits, %2$s misses (%3$s hit rate), %4$s evictions. %5$s paths cached across %6$s networks.");
+        add(MekanismLang.COMMAND_TRANSPORTER_PATHS_RESET, "Reset transporter path cache stats.");
         add(MekanismLang.COMMAND_TEST_RULES, "Enabled keepInventory, and disabled doMobSpawning, doDaylightCycle, doWeatherCycle and mobGriefing!");
         add(MekanismLang.COMMAND_TP, "Teleported to (%1$s) - saved last position on stack.");
         add(MekanismLang.COMMAND_TPOP, "Returned to (%1$s); %2$s positions on stack.");
@@ -1034,6 +1047,7 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.MINER_RADIUS, "Radi: %1$s");
         add(MekanismLang.MINER_IDLE, "Not ready");
         add(MekanismLang.MINER_SEARCHING, "Searching");
+        add(MekanismLang.MINER_SEARCHING_PROGRESS, "Searching: %1$s");
         add(MekanismLang.MINER_PAUSED, "Paused");
         add(MekanismLang.MINER_READY, "Ready");
         //Boiler
@@ -6,6 +6,7 @@ import mekanism.api.NBTConstants;
 import mekanism.common.tile.prefab.TileEntityInternalMultiblock;
 import mekanism.common.util.NBTUtils;
 import mekanism.common.util.WorldUtils;
+import mekanism.generators.common.content.turbine.TurbineMultiblockData;
 import mekanism.generators.common.registries.GeneratorsBlocks;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
@@ -87,6 +88,7 @@ public class TileEntityTurbineRotor extends TileEntityInternalMultiblock impleme
         if (blades < 2) {
             // Add the blades to this rotor
             blades++;
+            bladesChanged(1);
             if (position == -1) {
                 //If we haven't gotten a position assigned yet (single rotor height) then rescan it to set things to the correct values
                 // This will also handle sending the update to the client
@@ -112,6 +114,7 @@ public class TileEntityTurbineRotor extends TileEntityInternalMultiblock impleme
         } else if (blades > 0) {
             // Remove blades from this rotor
             blades--;
+            bladesChanged(-1);
 
             // Update client state
             sendUpdatePacket();
@@ -124,6 +127,13 @@ public class TileEntityTurbineRotor extends TileEntityInternalMultiblock impleme
         return next != null && next.removeBlade();
     }
 
+    private void bladesChanged(int change) {
+        if (getMultiblock() instanceof TurbineMultiblockData turbine && turbine.isFormed()) {
+            //Blades only affect how much the turbine can produce, so update the formed turbine directly rather than forming it again
+            turbine.blades += change;
+        }
+    }
+
     @Override
     public void clearContent() {
         blades = 0;
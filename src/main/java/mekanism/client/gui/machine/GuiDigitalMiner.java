@@ -19,6 +19,7 @@ import mekanism.client.gui.element.tab.GuiVisualsTab;
 import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.energy.MinerEnergyContainer;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.miner.MinerFilter;
 import mekanism.common.content.miner.ThreadMinerSearch.State;
 import mekanism.common.inventory.container.slot.SlotOverlay;
@@ -68,7 +69,11 @@ public class GuiDigitalMiner extends GuiMekanismTile<TileEntityDigitalMiner, Mek
                 runningType = MekanismLang.IDLE;
             }
             list.add(runningType.translate());
-            list.add(tile.searcher.state.getTextComponent());
+            if (tile.searcher.state == State.SEARCHING) {
+                list.add(MekanismLang.MINER_SEARCHING_PROGRESS.translate(TextUtils.getPercent(tile.getSearchProgress())));
+            } else {
+                list.add(tile.searcher.state.getTextComponent());
+            }
             list.add(MekanismLang.MINER_TO_MINE.translate(TextUtils.format(tile.getToMine())));
             return list;
         }).spacing(1).clearFormat());
@@ -118,7 +123,8 @@ public class GuiDigitalMiner extends GuiMekanismTile<TileEntityDigitalMiner, Mek
     private void updateEnabledButtons() {
         startButton.active = tile.searcher.state == State.IDLE || !tile.isRunning();
         stopButton.active = tile.searcher.state != State.IDLE && tile.isRunning();
-        configButton.active = tile.searcher.state == State.IDLE;
+        //Note: If the miner updates its targets, changing the filters doesn't require searching again
+        configButton.active = tile.searcher.state == State.IDLE || (tile.searcher.state == State.FINISHED && MekanismConfig.general.minerUpdateTargets.get());
     }
 
     @Override
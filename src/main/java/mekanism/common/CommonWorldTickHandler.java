@@ -13,6 +13,7 @@ import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.radiation.RadiationManager;
+import mekanism.common.tile.base.TileUpdateBatcher;
 import mekanism.common.util.WorldUtils;
 import mekanism.common.world.GenHandler;
 import net.minecraft.resources.ResourceKey;
@@ -161,6 +162,7 @@ public class CommonWorldTickHandler {
     private void tickEnd(ServerLevel world) {
         if (!world.isClientSide) {
             RadiationManager.INSTANCE.tickServerWorld(world);
+            TileUpdateBatcher.flush(world);
             if (flushTagAndRecipeCaches) {
                 //Loop all open containers and if it is a portable qio dashboard force refresh the window's recipes
                 for (ServerPlayer player : world.players()) {
@@ -133,6 +133,19 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_CHUNK_LOADED("command", "chunk.loaded"),
     COMMAND_CHUNK_UNLOADED("command", "chunk.unloaded"),
     COMMAND_DEBUG("command", "debug"),
+    COMMAND_CONTAINER_SYNC_EMPTY("command", "container_sync.empty"),
+    COMMAND_CONTAINER_SYNC_ENTRY("command", "container_sync.entry"),
+    COMMAND_CONTAINER_SYNC_RESET("command", "container_sync.reset"),
+    COMMAND_NETWORKS_START("command", "networks.start"),
+    COMMAND_NETWORKS_STOP("command", "networks.stop"),
+    COMMAND_NETWORKS_TOP_EMPTY("command", "networks.top.empty"),
+    COMMAND_NETWORKS_TOP_ENTRY("command", "networks.top.entry"),
+    COMMAND_NETWORKS_DUMP("command", "networks.dump"),
+    COMMAND_ERROR_NETWORKS_DUMP("command", "error.networks.dump"),
+    COMMAND_RECIPE_LOOKUPS_EMPTY("command", "recipe_lookups.empty"),
+    COMMAND_RECIPE_LOOKUPS_ENTRY("command", "recipe_lookups.entry"),
+    COMMAND_TRANSPORTER_PATHS("command", "transporter_paths"),
+    COMMAND_TRANSPORTER_PATHS_RESET("command", "transporter_paths.reset"),
     COMMAND_TEST_RULES("command", "testrules"),
     COMMAND_TP("command", "tp"),
     COMMAND_TPOP("command", "tpop"),
@@ -538,6 +551,7 @@ public enum MekanismLang implements ILangEntry {
     MINER_RADIUS("miner", "radius"),
     MINER_IDLE("miner", "idle"),
     MINER_SEARCHING("miner", "searching"),
+    MINER_SEARCHING_PROGRESS("miner", "searching.progress"),
     MINER_PAUSED("miner", "paused"),
     MINER_READY("miner", "ready"),
     //Boiler
@@ -0,0 +1,188 @@
+package mekanism.common.capabilities;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectArrayMap;
+import java.lang.ref.WeakReference;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import mekanism.api.energy.IStrictEnergyHandler;
+import mekanism.common.integration.energy.EnergyCompatUtils;
+import mekanism.common.integration.energy.IEnergyCompat;
+import mekanism.common.integration.energy.StrictEnergyCompat;
+import mekanism.common.util.CapabilityUtils;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.MethodsReturnNonnullByDefault;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.common.util.NonNullConsumer;
+
+/**
+ * Caches the tiles next to a tile and the capabilities they expose towards it, so that things like ejecting don't have to look up the neighboring tiles and their
+ * capabilities every time they try to output to them. Everything cached for a side gets dropped when the cached tile is removed, when one of the capabilities of it that
+ * we cached gets invalidated, or when {@link #invalidate(BlockPos)} is called due to a neighbor changing.
+ *
+ * @apiNote Only use this on the server.
+ */
+@ParametersAreNonnullByDefault
+@MethodsReturnNonnullByDefault
+public class NeighborCapabilityCache {
+
+    private final Map<Direction, NeighborInfo> neighbors = new EnumMap<>(Direction.class);
+    private final Map<Direction, NonNullConsumer<LazyOptional<?>>> invalidationListeners = new EnumMap<>(Direction.class);
+    private final BlockEntity tile;
+
+    public NeighborCapabilityCache(BlockEntity tile) {
+        this.tile = tile;
+    }
+
+    public void invalidate(Direction side) {
+        neighbors.remove(side);
+    }
+
+    /**
+     * Invalidates the side the given neighbor is on, if it is adjacent to the tile.
+     */
+    public void invalidate(BlockPos neighborPos) {
+        if (!neighbors.isEmpty()) {
+            BlockPos pos = tile.getBlockPos();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (neighborPos.getX() == pos.getX() + side.getStepX() && neighborPos.getY() == pos.getY() + side.getStepY() &&
+                    neighborPos.getZ() == pos.getZ() + side.getStepZ()) {
+                    invalidate(side);
+                    break;
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        neighbors.clear();
+    }
+
+    /**
+     * @return The tile on the given side, or {@code null} if there is no tile or the position isn't loaded.
+     */
+    @Nullable
+    public BlockEntity getNeighbor(Direction side) {
+        NeighborInfo info = getNeighborInfo(side);
+        return info == null ? null : info.tile;
+    }
+
+    /**
+     * Gets the capability the tile on the given side exposes towards us.
+     */
+    public <T> LazyOptional<T> getCapability(Direction side, Capability<T> capability) {
+        NeighborInfo info = getNeighborInfo(side);
+        if (info == null) {
+            return LazyOptional.empty();
+        }
+        LazyOptional<?> cached = info.capabilities.get(capability);
+        if (cached == null) {
+            cached = CapabilityUtils.getCapability(info.tile, capability, side.getOpposite());
+            info.capabilities.put(capability, cached);
+            if (cached.isPresent()) {
+                CapabilityUtils.addListener(cached, getInvalidationListener(side));
+            }
+        }
+        return (LazyOptional<T>) cached;
+    }
+
+    /**
+     * Gets the strict energy handler the tile on the given side exposes towards us, wrapping whichever energy capability it supports.
+     */
+    public LazyOptional<IStrictEnergyHandler> getStrictEnergyHandler(Direction side) {
+        NeighborInfo info = getNeighborInfo(side);
+        if (info == null) {
+            return LazyOptional.empty();
+        }
+        if (info.energyHandler == null) {
+            info.energyHandler = LazyOptional.empty();
+            Direction opposite = side.getOpposite();
+            for (IEnergyCompat energyCompat : EnergyCompatUtils.getCompats()) {
+                if (energyCompat.isUsable()) {
+                    LazyOptional<?> source = CapabilityUtils.getCapability(info.tile, energyCompat.getCapability(), opposite);
+                    if (source.isPresent()) {
+                        //Note: We listen to the source capability as wrapped handlers don't get invalidated when the capability they wrap does
+                        CapabilityUtils.addListener(source, getInvalidationListener(side));
+                        if (energyCompat instanceof StrictEnergyCompat) {
+                            //Our lazy optional is already the proper type
+                            info.energyHandler = (LazyOptional<IStrictEnergyHandler>) source;
+                        } else {
+                            info.energyHandler = energyCompat.getLazyStrictEnergyHandler(info.tile, opposite);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+        return info.energyHandler;
+    }
+
+    @Nullable
+    private NeighborInfo getNeighborInfo(Direction side) {
+        NeighborInfo info = neighbors.get(side);
+        if (info != null) {
+            if (!info.tile.isRemoved()) {
+                return info;
+            }
+            neighbors.remove(side);
+        }
+        Level level = tile.getLevel();
+        if (level == null) {
+            return null;
+        }
+        //Note: We don't cache there not being a tile, as we wouldn't find out when the chunk of a position that isn't loaded gets loaded
+        BlockEntity neighbor = WorldUtils.getTileEntity(level, tile.getBlockPos().relative(side));
+        if (neighbor == null) {
+            return null;
+        }
+        info = new NeighborInfo(neighbor);
+        neighbors.put(side, info);
+        return info;
+    }
+
+    private NonNullConsumer<LazyOptional<?>> getInvalidationListener(Direction side) {
+        //Note: We reuse the listener for each side so that when we cache capabilities of the same tile again we don't keep adding more listeners to it
+        return invalidationListeners.computeIfAbsent(side, s -> new InvalidationListener(this, s));
+    }
+
+    private static class NeighborInfo {
+
+        private final BlockEntity tile;
+        private final Map<Capability<?>, LazyOptional<?>> capabilities = new Reference2ObjectArrayMap<>();
+        @Nullable
+        private LazyOptional<IStrictEnergyHandler> energyHandler;
+
+        private NeighborInfo(BlockEntity tile) {
+            this.tile = tile;
+        }
+    }
+
+    private static class InvalidationListener implements NonNullConsumer<LazyOptional<?>> {
+
+        //Note: We only keep a weak reference to the cache from inside the listener so that if our tile gets unloaded it can be released from memory
+        // instead of being referenced by the listener still in the tile in a neighboring chunk
+        private final WeakReference<NeighborCapabilityCache> cache;
+        private final Direction side;
+
+        private InvalidationListener(NeighborCapabilityCache cache, Direction side) {
+            this.cache = new WeakReference<>(cache);
+            this.side = side;
+        }
+
+        @Override
+        public void accept(@Nonnull LazyOptional<?> ignored) {
+            NeighborCapabilityCache neighborCache = cache.get();
+            if (neighborCache != null) {
+                neighborCache.invalidate(side);
+            }
+        }
+    }
+}
@@ -53,7 +53,10 @@ public class CommandMek {
                       MekanismAPI.debug = !MekanismAPI.debug;
                       ctx.getSource().sendSuccess(MekanismLang.COMMAND_DEBUG.translateColored(EnumColor.GRAY, OnOff.of(MekanismAPI.debug, true)), true);
                       return 0;
-                  });
+                  }).then(NetworkCommand.register())
+                  .then(RecipeLookupCommand.register())
+                  .then(ContainerSyncCommand.register())
+                  .then(TransporterPathsCommand.register());
         }
     }
 
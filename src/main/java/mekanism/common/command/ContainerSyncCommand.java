@@ -0,0 +1,40 @@
+package mekanism.common.command;
+
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import java.util.List;
+import mekanism.api.text.EnumColor;
+import mekanism.common.MekanismLang;
+import mekanism.common.inventory.container.sync.ContainerSyncStats;
+import mekanism.common.inventory.container.sync.ContainerSyncStats.SyncStats;
+import mekanism.common.util.text.TextUtils;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+
+public class ContainerSyncCommand {
+
+    private ContainerSyncCommand() {
+    }
+
+    static ArgumentBuilder<CommandSourceStack, ?> register() {
+        return Commands.literal("container_sync")
+              .executes(ctx -> {
+                  CommandSourceStack source = ctx.getSource();
+                  List<SyncStats> stats = ContainerSyncStats.getStats();
+                  if (stats.isEmpty()) {
+                      source.sendSuccess(MekanismLang.COMMAND_CONTAINER_SYNC_EMPTY.translateColored(EnumColor.GRAY), false);
+                  }
+                  for (SyncStats typeStats : stats) {
+                      source.sendSuccess(MekanismLang.COMMAND_CONTAINER_SYNC_ENTRY.translateColored(EnumColor.GRAY, EnumColor.INDIGO,
+                            typeStats.getType().getRegistryName(), EnumColor.INDIGO, TextUtils.format(typeStats.getBytesPerTick()), EnumColor.INDIGO,
+                            typeStats.getBytes(), EnumColor.INDIGO, typeStats.getPackets(), EnumColor.INDIGO, typeStats.getTicks()), false);
+                  }
+                  return stats.size();
+              })
+              .then(Commands.literal("reset")
+                    .executes(ctx -> {
+                        ContainerSyncStats.reset();
+                        ctx.getSource().sendSuccess(MekanismLang.COMMAND_CONTAINER_SYNC_RESET.translateColored(EnumColor.GRAY), true);
+                        return 0;
+                    }));
+    }
+}
@@ -0,0 +1,87 @@
+package mekanism.common.command;
+
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import mekanism.api.text.EnumColor;
+import mekanism.common.Mekanism;
+import mekanism.common.MekanismLang;
+import mekanism.common.lib.transmitter.NetworkProfiler;
+import mekanism.common.lib.transmitter.NetworkProfiler.NetworkStats;
+import mekanism.common.lib.transmitter.NetworkProfiler.Phase;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraftforge.fml.loading.FMLPaths;
+
+public class NetworkCommand {
+
+    private static final SimpleCommandExceptionType DUMP_FAILED = new SimpleCommandExceptionType(MekanismLang.COMMAND_ERROR_NETWORKS_DUMP.translate());
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss", Locale.ROOT);
+
+    private NetworkCommand() {
+    }
+
+    static ArgumentBuilder<CommandSourceStack, ?> register() {
+        return Commands.literal("networks")
+              .then(Commands.literal("start")
+                    .executes(ctx -> {
+                        NetworkProfiler.start();
+                        ctx.getSource().sendSuccess(MekanismLang.COMMAND_NETWORKS_START.translateColored(EnumColor.GRAY), true);
+                        return 0;
+                    }))
+              .then(Commands.literal("stop")
+                    .executes(ctx -> {
+                        NetworkProfiler.stop();
+                        ctx.getSource().sendSuccess(MekanismLang.COMMAND_NETWORKS_STOP.translateColored(EnumColor.GRAY), true);
+                        return 0;
+                    }))
+              .then(Commands.literal("top")
+                    .executes(ctx -> top(ctx.getSource(), 10))
+                    .then(Commands.argument("count", IntegerArgumentType.integer(1, 100))
+                          .executes(ctx -> top(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "count")))))
+              .then(Commands.literal("dump")
+                    .executes(ctx -> dump(ctx.getSource())));
+    }
+
+    private static int top(CommandSourceStack source, int count) {
+        List<NetworkStats> slowest = NetworkProfiler.getSlowest(count);
+        if (slowest.isEmpty()) {
+            source.sendSuccess(MekanismLang.COMMAND_NETWORKS_TOP_EMPTY.translateColored(EnumColor.GRAY), false);
+        }
+        for (int i = 0; i < slowest.size(); i++) {
+            NetworkStats stats = slowest.get(i);
+            BlockPos pos = stats.getPosition();
+            Component position = pos == null ? MekanismLang.NONE.translate() : MekanismLang.GENERIC_BLOCK_POS.translate(pos.getX(), pos.getY(), pos.getZ());
+            Object dimension = stats.getDimension() == null ? MekanismLang.NONE.translate() : stats.getDimension();
+            source.sendSuccess(MekanismLang.COMMAND_NETWORKS_TOP_ENTRY.translateColored(EnumColor.GRAY, i + 1, EnumColor.INDIGO, stats.getType(), EnumColor.INDIGO,
+                  position, EnumColor.INDIGO, dimension, EnumColor.INDIGO, toMicros(stats.getAverageTickNanos()), EnumColor.INDIGO,
+                  toMicros(stats.getMaxNanos(Phase.UPDATE))), false);
+        }
+        return slowest.size();
+    }
+
+    private static int dump(CommandSourceStack source) throws CommandSyntaxException {
+        Path path = FMLPaths.GAMEDIR.get().resolve("debug").resolve("mekanism_networks_" + FILE_DATE_FORMAT.format(LocalDateTime.now()) + ".csv");
+        try {
+            NetworkProfiler.dump(path);
+        } catch (IOException e) {
+            Mekanism.logger.error("Failed to save transmitter network profile to {}", path, e);
+            throw DUMP_FAILED.create();
+        }
+        source.sendSuccess(MekanismLang.COMMAND_NETWORKS_DUMP.translateColored(EnumColor.GRAY, EnumColor.INDIGO, path.toString()), true);
+        return 0;
+    }
+
+    private static String toMicros(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000D);
+    }
+}
@@ -0,0 +1,43 @@
+package mekanism.common.command;
+
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import mekanism.api.text.EnumColor;
+import mekanism.common.MekanismLang;
+import mekanism.common.recipe.IMekanismRecipeTypeProvider;
+import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.cache.AbstractInputRecipeCache;
+import mekanism.common.recipe.lookup.cache.NegativeLookupCache;
+import mekanism.common.util.text.TextUtils;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+
+public class RecipeLookupCommand {
+
+    private RecipeLookupCommand() {
+    }
+
+    static ArgumentBuilder<CommandSourceStack, ?> register() {
+        return Commands.literal("recipe_lookups")
+              .executes(ctx -> {
+                  CommandSourceStack source = ctx.getSource();
+                  int types = 0;
+                  for (IMekanismRecipeTypeProvider<?, ?> recipeTypeProvider : MekanismRecipeType.RECIPE_TYPES.getAllRecipeTypes()) {
+                      MekanismRecipeType<?, ?> recipeType = recipeTypeProvider.getRecipeType();
+                      if (recipeType.getInputCache() instanceof AbstractInputRecipeCache<?> inputCache) {
+                          NegativeLookupCache negativeLookups = inputCache.getNegativeLookups();
+                          long lookups = negativeLookups.getLookups();
+                          if (lookups > 0) {
+                              long hits = negativeLookups.getHits();
+                              source.sendSuccess(MekanismLang.COMMAND_RECIPE_LOOKUPS_ENTRY.translateColored(EnumColor.GRAY, EnumColor.INDIGO, recipeType,
+                                    EnumColor.INDIGO, hits, EnumColor.INDIGO, lookups, EnumColor.INDIGO, TextUtils.getPercent(hits / (double) lookups)), false);
+                              types++;
+                          }
+                      }
+                  }
+                  if (types == 0) {
+                      source.sendSuccess(MekanismLang.COMMAND_RECIPE_LOOKUPS_EMPTY.translateColored(EnumColor.GRAY), false);
+                  }
+                  return types;
+              });
+    }
+}
@@ -0,0 +1,34 @@
+package mekanism.common.command;
+
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import mekanism.api.text.EnumColor;
+import mekanism.common.MekanismLang;
+import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.content.transporter.PathfinderCache.CacheStats;
+import mekanism.common.util.text.TextUtils;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+
+public class TransporterPathsCommand {
+
+    private TransporterPathsCommand() {
+    }
+
+    static ArgumentBuilder<CommandSourceStack, ?> register() {
+        return Commands.literal("transporter_paths")
+              .executes(ctx -> {
+                  CacheStats stats = PathfinderCache.getStats();
+                  long lookups = stats.hits() + stats.misses();
+                  ctx.getSource().sendSuccess(MekanismLang.COMMAND_TRANSPORTER_PATHS.translateColored(EnumColor.GRAY, EnumColor.INDIGO, stats.hits(),
+                        EnumColor.INDIGO, stats.misses(), EnumColor.INDIGO, TextUtils.getPercent(lookups == 0 ? 0 : stats.hits() / (double) lookups),
+                        EnumColor.INDIGO, stats.evictions(), EnumColor.INDIGO, stats.cachedPaths(), EnumColor.INDIGO, stats.networks()), false);
+                  return stats.cachedPaths();
+              })
+              .then(Commands.literal("reset")
+                    .executes(ctx -> {
+                        PathfinderCache.resetStats();
+                        ctx.getSource().sendSuccess(MekanismLang.COMMAND_TRANSPORTER_PATHS_RESET.translateColored(EnumColor.GRAY), true);
+                        return 0;
+                    }));
+    }
+}
@@ -36,6 +36,8 @@ public class GeneralConfig extends BaseMekanismConfig {
     private static final String RADIATION_CATEGORY = "radiation";
     private static final String PREFILLED_CATEGORY = "prefilled";
     private static final String NUTRITIONAL_PASTE_CATEGORY = "nutritional_paste";
+    private static final String TRANSMITTER_CATEGORY = "transmitters";
+    private static final String QIO_CATEGORY = "qio";
 
     private final ForgeConfigSpec configSpec;
 
@@ -59,6 +61,12 @@ public class GeneralConfig extends BaseMekanismConfig {
     //Dynamic Tank
     public final CachedIntValue dynamicTankFluidPerTank;
     public final CachedLongValue dynamicTankChemicalPerTank;
+    //Transmitters
+    public final CachedBooleanValue transporterPathTree;
+    public final CachedIntValue transporterPathCacheSize;
+    public final CachedBooleanValue parallelNetworkTicks;
+    public final CachedIntValue energyAcceptorBackoff;
+    public final CachedBooleanValue incrementalNetworkSplits;
     //Prefilled
     public final CachedBooleanValue prefilledFluidTanks;
     public final CachedBooleanValue prefilledGasTanks;
@@ -87,6 +95,8 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue minerSilkMultiplier;
     public final CachedIntValue minerMaxRadius;
     public final CachedIntValue minerTicksPerMine;
+    public final CachedIntValue minerSearchThreads;
+    public final CachedBooleanValue minerUpdateTargets;
     //Laser
     public final CachedBooleanValue aestheticWorldDamage;
     public final CachedIntValue laserRange;
@@ -116,6 +126,9 @@ public class GeneralConfig extends BaseMekanismConfig {
     //SPS
     public final CachedIntValue spsInputPerAntimatter;
     public final CachedFloatingLongValue spsEnergyPerInput;
+    //QIO
+    public final CachedIntValue qioViewerSyncRate;
+    public final CachedIntValue qioViewerPageSize;
 
     GeneralConfig() {
         ForgeConfigSpec.Builder builder = new ForgeConfigSpec.Builder();
@@ -157,6 +170,19 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("chemicalPerTank", 16_000_000, 1, Long.MAX_VALUE / maxVolume));
         builder.pop();
 
+        builder.comment("Transmitter Settings").push(TRANSMITTER_CATEGORY);
+        transporterPathTree = CachedBooleanValue.wrap(this, builder.comment("If enabled, Logistical Transporters calculate the paths to all possible destinations of a stack with a single search of the network, instead of running a separate search for each destination.")
+              .define("transporterPathTree", true));
+        transporterPathCacheSize = CachedIntValue.wrap(this, builder.comment("Maximum number of paths Logistical Transporters cache per network. When the limit is reached the least recently used paths are removed.")
+              .defineInRange("transporterPathCacheSize", 4_096, 1, Integer.MAX_VALUE));
+        parallelNetworkTicks = CachedBooleanValue.wrap(this, builder.comment("If enabled, energy, fluid and chemical networks check which of their acceptors can accept contents in parallel on a separate thread pool, before transferring on the server thread in the normal order. This requires the capabilities of all connected blocks to be safe to query off the server thread, so it is disabled by default.")
+              .define("parallelNetworkTicks", false));
+        energyAcceptorBackoff = CachedIntValue.wrap(this, builder.comment("Maximum number of ticks Universal Cable networks wait before checking again if an acceptor that could not accept any energy can accept energy. The wait doubles each time the acceptor still can't accept energy. Acceptors are checked again right away when blocks next to the network change. Acceptors that start accepting energy again because they used some of their stored energy are only noticed once the wait is over, so machines with small buffers may be starved. Set to zero to check all acceptors every tick.")
+              .defineInRange("energyAcceptorBackoff", 0, 0, 1_200));
+        incrementalNetworkSplits = CachedBooleanValue.wrap(this, builder.comment("If enabled, when a transmitter is removed its network only searches outwards from the transmitters next to it to find out if the network was split, and keeps its contents if it was not. Disable to instead always rebuild the entire network from scratch.")
+              .define("incrementalNetworkSplits", true));
+        builder.pop();
+
         builder.comment("Auto Eject Settings").push(EJECT_CATEGORY);
         fluidAutoEjectRate = CachedIntValue.wrap(this, builder.comment("Rate at which fluid gets auto ejected from tiles.")
               .define("fluid", 1_024));
@@ -235,6 +261,10 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("maxRadius", 32, 1, Integer.MAX_VALUE));
         minerTicksPerMine = CachedIntValue.wrap(this, builder.comment("Number of ticks required to mine a single block with a Digital Miner (without any upgrades).")
               .defineInRange("ticksPerMine", 80, 1, Integer.MAX_VALUE));
+        minerSearchThreads = CachedIntValue.wrap(this, builder.comment("Number of threads shared between all Digital Miners for searching for blocks to mine. Changes only apply once the server is restarted.")
+              .defineInRange("searchThreads", 2, 1, 64));
+        minerUpdateTargets = CachedBooleanValue.wrap(this, builder.comment("If enabled, Digital Miners that finished searching keep track of changes to the blocks in their area and to their filters instead of having to be reset and search again. This keeps a copy of the blocks in the area of each Digital Miner in memory.")
+              .define("updateTargets", true));
         builder.pop();
 
         builder.comment("Laser Settings").push(LASER_SETTINGS);
@@ -305,6 +335,13 @@ public class GeneralConfig extends BaseMekanismConfig {
               "energyPerInput", FloatingLong.createConst(1_000_000));
         builder.pop();
 
+        builder.comment("QIO Settings").push(QIO_CATEGORY);
+        qioViewerSyncRate = CachedIntValue.wrap(this, builder.comment("Minimum number of ticks between sending the changes to the items stored in a QIO frequency to the players viewing them. Changes made in between are combined into a single update.")
+              .defineInRange("viewerSyncRate", 2, 1, 100));
+        qioViewerPageSize = CachedIntValue.wrap(this, builder.comment("Maximum number of item types sent per tick to a player that opens a QIO Item Viewer. Frequencies storing more types than this are sent over multiple ticks.")
+              .defineInRange("viewerPageSize", 512, 16, 8_192));
+        builder.pop();
+
         builder.pop();
         configSpec = builder.build();
     }
@@ -10,6 +10,7 @@ import mekanism.api.AutomationType;
 import mekanism.api.annotations.FieldsAreNonnullByDefault;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 import mekanism.common.capabilities.energy.MachineEnergyContainer;
 import mekanism.common.tier.InductionProviderTier;
 import mekanism.common.tile.multiblock.TileEntityInductionCell;
@@ -29,12 +30,15 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     //TODO: Eventually we could look into extending FloatingLong to have a "BigInt" styled implementation that is used by the class
     // at the very least for keeping track of the cached values and rates
-    private FloatingLong queuedOutput = FloatingLong.ZERO;
-    private FloatingLong queuedInput = FloatingLong.ZERO;
+    private final FloatingLongAccumulator queuedOutput = new FloatingLongAccumulator();
+    private final FloatingLongAccumulator queuedInput = new FloatingLongAccumulator();
     private FloatingLong lastOutput = FloatingLong.ZERO;
     private FloatingLong lastInput = FloatingLong.ZERO;
 
-    private FloatingLong cachedTotal = FloatingLong.ZERO;
+    private final FloatingLongAccumulator cachedTotal = new FloatingLongAccumulator();
+    //Scratch accumulator for calculating the amount to add or remove when ticking without creating intermediary objects
+    //Note: Only use this from tick, as other methods may get called off the main thread such as when networks are preparing their updates in parallel
+    private final FloatingLongAccumulator tickScratch = new FloatingLongAccumulator();
     private FloatingLong transferCap = FloatingLong.ZERO;
     private FloatingLong storageCap = FloatingLong.ZERO;
 
@@ -45,21 +49,31 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     }
 
     public void addCell(BlockPos pos, TileEntityInductionCell cell) {
+        clearRemoved(pos);
         //As we already have the two different variables just pass them instead of accessing world to get tile again
         MachineEnergyContainer<TileEntityInductionCell> energyContainer = cell.getEnergyContainer();
         cells.put(pos, energyContainer);
         storageCap = storageCap.plusEqual(energyContainer.getMaxEnergy());
-        cachedTotal = cachedTotal.plusEqual(energyContainer.getEnergy());
+        cachedTotal.add(energyContainer.getEnergy());
     }
 
     public void addProvider(BlockPos pos, TileEntityInductionProvider provider) {
+        clearRemoved(pos);
         providers.put(pos, provider.tier);
         transferCap = transferCap.plusEqual(provider.tier.getOutput());
     }
 
-    //TODO: I believe this is needed or at least will be after we eventually rewrite some of the multiblock system
-    // currently I think it may just be rechecking the entire structure when something changes internally
-    // We need to validate that does properly happen even if the cell is floating in the middle and not touching any walls
+    /**
+     * If a cell or provider was removed from the given position but not yet cleared out, clear it out now so that it doesn't end up clearing out whatever replaced it.
+     */
+    private void clearRemoved(BlockPos pos) {
+        if (invalidPositions.remove(pos)) {
+            cells.remove(pos);
+            providers.remove(pos);
+        }
+    }
+
+    //TODO: We need to validate that this properly happens even if the cell is floating in the middle and not touching any walls
     // We may also want to make cells and providers extend TileEntityInternalMultiblock
     public void removeInternal(BlockPos pos) {
         if (invalidPositions.add(pos)) {
@@ -71,8 +85,8 @@ public class MatrixEnergyContainer implements IEnergyContainer {
                 //TODO: Handle this better, as I believe we *technically* could have this cause the cached total to become negative
                 // It may work better if we just flush the buffer writing immediately, and then recalculate the cached totals/caps
                 IEnergyContainer cellContainer = cells.get(pos);
-                storageCap = storageCap.plusEqual(cellContainer.getMaxEnergy());
-                cachedTotal = cachedTotal.minusEqual(cellContainer.getEnergy());
+                storageCap = storageCap.minusEqual(cellContainer.getMaxEnergy());
+                cachedTotal.subtract(cellContainer.getEnergy());
             }
         }
     }
@@ -83,11 +97,11 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         //And reset everything
         cells.clear();
         providers.clear();
-        queuedOutput = FloatingLong.ZERO;
-        queuedInput = FloatingLong.ZERO;
+        queuedOutput.setZero();
+        queuedInput.setZero();
         lastOutput = FloatingLong.ZERO;
         lastInput = FloatingLong.ZERO;
-        cachedTotal = FloatingLong.ZERO;
+        cachedTotal.setZero();
         transferCap = FloatingLong.ZERO;
         storageCap = FloatingLong.ZERO;
     }
@@ -103,19 +117,19 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         int compare = queuedInput.compareTo(queuedOutput);
         if (compare < 0) {
             //queuedInput is smaller - we are removing energy
-            removeEnergy(queuedOutput.subtract(queuedInput));
+            removeEnergy(tickScratch.set(queuedOutput).subtract(queuedInput).toFloatingLong());
         } else if (compare > 0) {
             //queuedInput is larger - we are adding energy
-            addEnergy(queuedInput.subtract(queuedOutput));
+            addEnergy(tickScratch.set(queuedInput).subtract(queuedOutput).toFloatingLong());
         }
-        lastInput = queuedInput;
-        lastOutput = queuedOutput;
-        queuedInput = FloatingLong.ZERO;
-        queuedOutput = FloatingLong.ZERO;
+        lastInput = queuedInput.isZero() ? FloatingLong.ZERO : queuedInput.toFloatingLong();
+        lastOutput = queuedOutput.isZero() ? FloatingLong.ZERO : queuedOutput.toFloatingLong();
+        queuedInput.setZero();
+        queuedOutput.setZero();
     }
 
     private void addEnergy(FloatingLong energy) {
-        cachedTotal = cachedTotal.plusEqual(energy);
+        cachedTotal.add(energy);
         for (IEnergyContainer container : cells.values()) {
             //Note: inserting into the cell's energy container handles marking the cell for saving if it changes
             FloatingLong remainder = container.insert(energy, Action.EXECUTE, AutomationType.INTERNAL);
@@ -132,7 +146,7 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     }
 
     private void removeEnergy(FloatingLong energy) {
-        cachedTotal = cachedTotal.minusEqual(energy);
+        cachedTotal.subtract(energy);
         for (IEnergyContainer container : cells.values()) {
             //Note: extracting from the cell's energy container handles marking the cell for saving if it changes
             FloatingLong extracted = container.extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
@@ -154,7 +168,26 @@ public class MatrixEnergyContainer implements IEnergyContainer {
      */
     @Override
     public FloatingLong getEnergy() {
-        return cachedTotal.add(queuedInput).subtract(queuedOutput);
+        return calculateEnergy().toFloatingLong();
+    }
+
+    /**
+     * Calculates the energy post queue into a new accumulator.
+     *
+     * @implNote We use a new accumulator rather than a shared one, as energy networks may simulate inserting into the matrix from multiple threads at once.
+     */
+    private FloatingLongAccumulator calculateEnergy() {
+        return new FloatingLongAccumulator().set(cachedTotal).add(queuedInput).subtract(queuedOutput);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return calculateEnergy().isZero();
+    }
+
+    @Override
+    public FloatingLong getNeeded() {
+        return new FloatingLongAccumulator(storageCap).subtract(calculateEnergy()).toFloatingLong();
     }
 
     @Override
@@ -169,7 +202,9 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         if (amount.isZero() || !multiblock.isFormed()) {
             return amount;
         }
-        FloatingLong toAdd = amount.min(getRemainingInput()).min(getNeeded());
+        //Calculate how much we need, and then limit the amount to add by it, the remaining input rate, and the amount
+        FloatingLongAccumulator toAdd = new FloatingLongAccumulator(storageCap).subtract(calculateEnergy());
+        toAdd.min(new FloatingLongAccumulator(transferCap).subtract(queuedInput)).min(amount);
         if (toAdd.isZero()) {
             //Exit if we don't actually have anything to add, either due to how much we need
             // or due to the remaining rate limit
@@ -177,9 +212,9 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         }
         if (action.execute()) {
             //Increase how much we are inputting
-            queuedInput = queuedInput.plusEqual(toAdd);
+            queuedInput.add(toAdd);
         }
-        return amount.subtract(toAdd);
+        return amount.subtract(toAdd.toFloatingLong());
     }
 
     @Override
@@ -191,12 +226,16 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         // as we want to be as accurate as possible with the values we return
         // It is possible that the energy we have stored is a lot less than the amount we
         // can output at once such as if the matrix is almost empty.
-        amount = amount.min(getRemainingOutput()).min(getEnergy());
-        if (!amount.isZero() && action.execute()) {
+        FloatingLongAccumulator toExtract = calculateEnergy();
+        toExtract.min(new FloatingLongAccumulator(transferCap).subtract(queuedOutput)).min(amount);
+        if (toExtract.isZero()) {
+            return FloatingLong.ZERO;
+        }
+        if (action.execute()) {
             //Increase how much we are outputting by the amount we accepted
-            queuedOutput = queuedOutput.plusEqual(amount);
+            queuedOutput.add(toExtract);
         }
-        return amount;
+        return toExtract.toFloatingLong();
     }
 
     @Override
@@ -220,14 +259,6 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     }
 
-    private FloatingLong getRemainingInput() {
-        return transferCap.subtract(queuedInput);
-    }
-
-    private FloatingLong getRemainingOutput() {
-        return transferCap.subtract(queuedOutput);
-    }
-
     public FloatingLong getMaxTransfer() {
         return transferCap;
     }
@@ -14,6 +14,7 @@ import mekanism.common.tile.multiblock.TileEntityInductionCasing;
 import mekanism.common.tile.multiblock.TileEntityInductionCell;
 import mekanism.common.tile.multiblock.TileEntityInductionProvider;
 import mekanism.common.util.MekanismUtils;
+import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 
 public class MatrixMultiblockData extends MultiblockData {
@@ -74,6 +75,10 @@ public class MatrixMultiblockData extends MultiblockData {
         energyContainer.addProvider(provider.getBlockPos(), provider);
     }
 
+    public void removeInternal(BlockPos pos) {
+        energyContainer.removeInternal(pos);
+    }
+
     @Nonnull
     public MatrixEnergyContainer getEnergyContainer() {
         return energyContainer;
@@ -3,6 +3,7 @@ package mekanism.common.content.matrix;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import mekanism.common.content.blocktype.BlockType;
 import mekanism.common.lib.multiblock.CuboidStructureValidator;
 import mekanism.common.lib.multiblock.FormationProtocol.CasingType;
@@ -61,4 +62,17 @@ public class MatrixValidator extends CuboidStructureValidator<MatrixMultiblockDa
         providers.forEach(structure::addProvider);
         return FormationResult.SUCCESS;
     }
+
+    @Override
+    protected boolean canChangeInner(MatrixMultiblockData structure, BlockPos pos, BlockState state) {
+        //Cells and providers only affect how much energy the matrix can store and transfer, so they can be added, removed, or swapped without forming it again
+        return true;
+    }
+
+    @Override
+    protected void applyInnerChanges(MatrixMultiblockData structure, Set<BlockPos> changed) {
+        changed.forEach(structure::removeInternal);
+        cells.forEach(structure::addCell);
+        providers.forEach(structure::addProvider);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package mekanism.common.content.miner;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import mekanism.common.tile.machine.TileEntityDigitalMiner;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.world.BlockEvent;
+
+/**
+ * Tells Digital Miners that {@link ThreadMinerSearch#updatesTargets() update their targets} about blocks changing in their area.
+ *
+ * @implNote Only block changes that notify neighbors get seen, which covers blocks being placed and broken by players, machines and most other things. As miners still
+ * check each block before mining it, missing a change only means a miner may not mine a block that started matching its filters after it finished searching.
+ */
+public class MinerBlockChangeTracker {
+
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<Set<TileEntityDigitalMiner>>> minersByChunk = new HashMap<>();
+    private static final Map<TileEntityDigitalMiner, TrackedArea> trackedMiners = new HashMap<>();
+
+    private MinerBlockChangeTracker() {
+    }
+
+    public static void track(TileEntityDigitalMiner miner) {
+        Level level = miner.getLevel();
+        if (level == null || level.isClientSide() || trackedMiners.containsKey(miner)) {
+            return;
+        }
+        BlockPos start = miner.getStartingPos();
+        int diameter = miner.getDiameter();
+        TrackedArea area = new TrackedArea(level.dimension(), new ChunkPos(start), new ChunkPos(start.offset(diameter - 1, 0, diameter - 1)));
+        trackedMiners.put(miner, area);
+        Long2ObjectMap<Set<TileEntityDigitalMiner>> chunks = minersByChunk.computeIfAbsent(area.dimension(), dimension -> new Long2ObjectOpenHashMap<>());
+        for (int chunkX = area.min().x; chunkX <= area.max().x; chunkX++) {
+            for (int chunkZ = area.min().z; chunkZ <= area.max().z; chunkZ++) {
+                chunks.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), chunk -> new ObjectOpenHashSet<>()).add(miner);
+            }
+        }
+    }
+
+    public static void untrack(TileEntityDigitalMiner miner) {
+        TrackedArea area = trackedMiners.remove(miner);
+        if (area == null) {
+            return;
+        }
+        Long2ObjectMap<Set<TileEntityDigitalMiner>> chunks = minersByChunk.get(area.dimension());
+        if (chunks == null) {
+            return;
+        }
+        for (int chunkX = area.min().x; chunkX <= area.max().x; chunkX++) {
+            for (int chunkZ = area.min().z; chunkZ <= area.max().z; chunkZ++) {
+                long chunk = ChunkPos.asLong(chunkX, chunkZ);
+                Set<TileEntityDigitalMiner> miners = chunks.get(chunk);
+                if (miners != null && miners.remove(miner) && miners.isEmpty()) {
+                    chunks.remove(chunk);
+                }
+            }
+        }
+        if (chunks.isEmpty()) {
+            minersByChunk.remove(area.dimension());
+        }
+    }
+
+    public static void reset() {
+        minersByChunk.clear();
+        trackedMiners.clear();
+    }
+
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (event.getWorld() instanceof Level level && !level.isClientSide()) {
+            Long2ObjectMap<Set<TileEntityDigitalMiner>> chunks = minersByChunk.get(level.dimension());
+            if (chunks != null) {
+                Set<TileEntityDigitalMiner> miners = chunks.get(WorldUtils.getChunkPosAsLong(event.getPos()));
+                if (miners != null) {
+                    for (TileEntityDigitalMiner miner : miners) {
+                        miner.onBlockChanged(event.getPos());
+                    }
+                }
+            }
+        }
+    }
+
+    private record TrackedArea(ResourceKey<Level> dimension, ChunkPos min, ChunkPos max) {
+    }
+}
@@ -1,105 +1,413 @@
 package mekanism.common.content.miner;
 
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import java.util.BitSet;
-import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
 import mekanism.api.math.MathUtils;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.api.text.ILangEntry;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.tags.MekanismTags;
 import mekanism.common.tile.TileEntityBoundingBlock;
 import mekanism.common.tile.machine.TileEntityDigitalMiner;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
-import net.minecraft.world.level.PathNavigationRegion;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.LiquidBlock;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
 import net.minecraftforge.fluids.IFluidBlock;
 
-public class ThreadMinerSearch extends Thread {
+/**
+ * Searches the area of a Digital Miner for blocks to mine.
+ * <br><br>
+ * The blocks of the loaded chunk sections in the area get copied on the main thread, and then the sections get searched in parallel on a pool of threads that is
+ * shared by all miners. Whether a state should be mined only gets checked once per state, and sections that don't contain any states that should be mined get
+ * skipped without looking at each block.
+ * <br><br>
+ * If the miner {@link #updatesTargets() updates its targets}, the copies are kept once searching finished and kept up to date as blocks in the area change, so
+ * that when the filters change only the states that should now be mined differently have to be checked again, and only the sections containing those states have to
+ * be looked through.
+ */
+public class ThreadMinerSearch {
+
+    @Nullable
+    private static ExecutorService searchPool;
 
     private final TileEntityDigitalMiner tile;
     private final Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
-    private PathNavigationRegion chunkCache;
+    // the copied sections, by the section position as a long
+    private final Long2ObjectMap<SectionSnapshot> sections = new Long2ObjectOpenHashMap<>();
+    // indices of blocks in the miner's area that should never be mined
+    private final IntSet skippedIndices = new IntOpenHashSet();
+    // whether each state found so far should be mined, shared between the sections being searched
+    private final Map<BlockState, Boolean> statesToMine = new ConcurrentHashMap<>();
+    private final AtomicInteger found = new AtomicInteger();
+    private final AtomicInteger remainingSections = new AtomicInteger();
+    private boolean updateTargets;
+    private int totalSections;
+    private volatile boolean complete;
+    private volatile boolean cancelled;
     public State state = State.IDLE;
-    public int found = 0;
 
     public ThreadMinerSearch(TileEntityDigitalMiner tile) {
         this.tile = tile;
     }
 
-    public void setChunkCache(PathNavigationRegion cache) {
-        this.chunkCache = cache;
+    private static synchronized ExecutorService getSearchPool() {
+        if (searchPool == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            searchPool = Executors.newFixedThreadPool(MekanismConfig.general.minerSearchThreads.get(), runnable -> {
+                Thread thread = new Thread(runnable, "Mekanism Miner Search-" + threadCount.getAndIncrement());
+                thread.setDaemon(true);
+                thread.setContextClassLoader(Mekanism.class.getClassLoader());
+                return thread;
+            });
+        }
+        return searchPool;
+    }
+
+    public static synchronized void reset() {
+        if (searchPool != null) {
+            searchPool.shutdownNow();
+            searchPool = null;
+        }
     }
 
-    @Override
-    public void run() {
+    /**
+     * Starts searching the miner's area. Must be called on the main thread.
+     */
+    public void start(Level level) {
         state = State.SEARCHING;
-        List<MinerFilter<?>> filters = tile.getFilters();
-        if (!tile.getInverse() && filters.isEmpty()) {
-            state = State.FINISHED;
+        updateTargets = MekanismConfig.general.minerUpdateTargets.get();
+        if (!tile.getInverse() && tile.getFilters().isEmpty() && !updateTargets) {
+            //Note: If we are updating our targets we still need to copy the area in case filters get added later
+            complete = true;
             return;
         }
-        Map<Block, MinerFilter<?>> acceptedItems = new Object2ObjectOpenHashMap<>();
-        BlockPos pos = tile.getStartingPos();
+        snapshotSections(level);
+        totalSections = sections.size();
+        if (sections.isEmpty()) {
+            complete = true;
+            return;
+        }
+        remainingSections.set(totalSections);
+        ExecutorService pool = getSearchPool();
+        for (SectionSnapshot section : sections.values()) {
+            pool.execute(() -> search(section));
+        }
+    }
+
+    /**
+     * Stops any sections that haven't been searched yet from being searched, and makes sure the results don't get passed to the miner.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Passes the results to the miner once all sections have been searched. Must be called on the main thread.
+     */
+    public void tick() {
+        if (state == State.SEARCHING && complete && !cancelled) {
+            state = State.FINISHED;
+            if (!updateTargets) {
+                sections.clear();
+            }
+            tile.updateFromSearch(oresToMine, found.get());
+        }
+    }
+
+    public int getFound() {
+        return found.get();
+    }
+
+    /**
+     * @return How much of the area has been searched, between zero and one.
+     */
+    public double getProgress() {
+        if (complete) {
+            return 1;
+        } else if (totalSections == 0) {
+            return 0;
+        }
+        return (totalSections - remainingSections.get()) / (double) totalSections;
+    }
+
+    /**
+     * @return {@code true} if searching finished, and the miner should keep its targets up to date rather than search again when blocks or filters change.
+     */
+    public boolean updatesTargets() {
+        return updateTargets && state == State.FINISHED;
+    }
+
+    private void snapshotSections(Level level) {
+        BlockPos start = tile.getStartingPos();
         int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
-        BlockPos minerPos = tile.getBlockPos();
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
-                return;
+        //Skip the miner itself
+        addSkippedIndex(tile.getBlockPos());
+        int minChunkX = SectionPos.blockToSectionCoord(start.getX());
+        int maxChunkX = SectionPos.blockToSectionCoord(start.getX() + diameter - 1);
+        int minChunkZ = SectionPos.blockToSectionCoord(start.getZ());
+        int maxChunkZ = SectionPos.blockToSectionCoord(start.getZ() + diameter - 1);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                //Don't load any chunks, and just skip the ones that aren't loaded
+                ChunkAccess chunk = level.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
+                if (chunk == null) {
+                    continue;
+                }
+                for (BlockPos pos : chunk.getBlockEntitiesPos()) {
+                    if (chunk.getBlockEntity(pos) instanceof TileEntityBoundingBlock) {
+                        //Skip any bounding blocks
+                        addSkippedIndex(pos);
+                    }
+                }
+                for (int sectionY = SectionPos.blockToSectionCoord(tile.getMinY()), maxSectionY = SectionPos.blockToSectionCoord(tile.getMaxY());
+                     sectionY <= maxSectionY; sectionY++) {
+                    int sectionIndex = chunk.getSectionIndexFromSectionY(sectionY);
+                    if (sectionIndex < 0 || sectionIndex >= chunk.getSectionsCount()) {
+                        continue;
+                    }
+                    LevelChunkSection section = chunk.getSection(sectionIndex);
+                    if (!section.hasOnlyAir()) {
+                        //Note: We copy the states so that we don't read them while the main thread is changing them
+                        SectionPos sectionPos = SectionPos.of(chunkX, sectionY, chunkZ);
+                        sections.put(sectionPos.asLong(), new SectionSnapshot(sectionPos, section.getStates().copy()));
+                    }
+                }
             }
-            BlockPos testPos = pos.offset(i % diameter, i / diameter / diameter, (i / diameter) % diameter);
-            if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //Skip the miner itself, and also skip any bounding blocks
-                continue;
+        }
+    }
+
+    private void addSkippedIndex(BlockPos pos) {
+        int index = tile.getIndex(pos);
+        if (index != -1) {
+            skippedIndices.add(index);
+        }
+    }
+
+    private void search(SectionSnapshot section) {
+        try {
+            if (!cancelled && !tile.isRemoved()) {
+                BitSet sectionOres = searchSection(section);
+                if (sectionOres != null && !sectionOres.isEmpty()) {
+                    synchronized (oresToMine) {
+                        oresToMine.computeIfAbsent(section.pos().chunk().toLong(), chunk -> new BitSet()).or(sectionOres);
+                    }
+                }
             }
-            BlockState state = chunkCache.getBlockState(testPos);
-            if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || state.getDestroySpeed(chunkCache, testPos) < 0) {
-                //Skip air, blacklisted blocks, and unbreakable blocks
-                continue;
+        } catch (Exception e) {
+            Mekanism.logger.error("Failed to search section {} for Digital Miner at {}.", section.pos(), tile.getBlockPos(), e);
+        } finally {
+            if (remainingSections.decrementAndGet() == 0) {
+                complete = true;
             }
-            info = state.getBlock();
-            if (info instanceof LiquidBlock || info instanceof IFluidBlock) {
-                //Skip liquids
-                continue;
+        }
+    }
+
+    @Nullable
+    private BitSet searchSection(SectionSnapshot section) {
+        PalettedContainer<BlockState> states = section.states();
+        //Check which states in the section should be mined so that we can skip sections without any, and don't need to check each block of sections that only
+        // contain a single state
+        Set<BlockState> toMine = new ReferenceOpenHashSet<>();
+        AtomicInteger distinctStates = new AtomicInteger();
+        states.count((state, count) -> {
+            distinctStates.incrementAndGet();
+            if (shouldMine(state)) {
+                toMine.add(state);
             }
-            MinerFilter<?> filterFound = null;
-            if (acceptedItems.containsKey(info)) {
-                filterFound = acceptedItems.get(info);
-            } else {
-                if (tile.isReplaceTarget(info.asItem())) {
-                    continue;
-                }
-                for (MinerFilter<?> filter : filters) {
-                    if (filter.canFilter(state)) {
-                        filterFound = filter;
-                        break;
+        });
+        if (toMine.isEmpty()) {
+            return null;
+        }
+        boolean mineAll = distinctStates.get() == 1;
+        BitSet sectionOres = new BitSet();
+        boolean searched = forEachBlock(section.pos(), (index, x, y, z) -> {
+            if (mineAll || toMine.contains(states.get(x, y, z))) {
+                sectionOres.set(index);
+            }
+        });
+        if (!searched) {
+            return null;
+        }
+        found.addAndGet(sectionOres.cardinality());
+        return sectionOres;
+    }
+
+    /**
+     * Visits the blocks of a section that are in the miner's area and aren't skipped.
+     *
+     * @return {@code false} if searching got cancelled while visiting the blocks.
+     */
+    private boolean forEachBlock(SectionPos pos, BlockVisitor visitor) {
+        BlockPos start = tile.getStartingPos();
+        int diameter = tile.getDiameter();
+        int minX = Math.max(pos.minBlockX(), start.getX());
+        int maxX = Math.min(pos.maxBlockX(), start.getX() + diameter - 1);
+        int minY = Math.max(pos.minBlockY(), tile.getMinY());
+        int maxY = Math.min(pos.maxBlockY(), tile.getMaxY());
+        int minZ = Math.max(pos.minBlockZ(), start.getZ());
+        int maxZ = Math.min(pos.maxBlockZ(), start.getZ() + diameter - 1);
+        for (int y = minY; y <= maxY; y++) {
+            if (cancelled) {
+                return false;
+            }
+            int layerIndex = (y - start.getY()) * diameter * diameter;
+            for (int z = minZ; z <= maxZ; z++) {
+                int rowIndex = layerIndex + (z - start.getZ()) * diameter;
+                for (int x = minX; x <= maxX; x++) {
+                    int index = rowIndex + x - start.getX();
+                    if (!skippedIndices.contains(index)) {
+                        visitor.visit(index, x & 15, y & 15, z & 15);
                     }
                 }
-                acceptedItems.put(info, filterFound);
             }
-            if (tile.getInverse() == (filterFound == null)) {
-                long chunk = WorldUtils.getChunkPosAsLong(testPos);
-                oresToMine.computeIfAbsent(chunk, k -> new BitSet()).set(i);
-                found++;
+        }
+        return true;
+    }
+
+    /**
+     * Updates the copy of a block in the miner's area after it changed, and whether it should be mined. Must be called on the main thread once searching finished.
+     */
+    public void onBlockChanged(Level level, BlockPos pos, BlockState state, TargetUpdater updater) {
+        int index = tile.getIndex(pos);
+        if (index == -1) {
+            return;
+        }
+        long chunk = WorldUtils.getChunkPosAsLong(pos);
+        SectionPos sectionPos = SectionPos.of(pos);
+        SectionSnapshot section = sections.get(sectionPos.asLong());
+        if (section == null) {
+            //If the section was empty or not loaded when we searched, copy it now and check all its blocks as we don't know about any of them yet
+            ChunkAccess chunkAccess = level.getChunk(sectionPos.x(), sectionPos.z(), ChunkStatus.FULL, false);
+            if (chunkAccess == null) {
+                return;
+            }
+            PalettedContainer<BlockState> states = chunkAccess.getSection(chunkAccess.getSectionIndex(pos.getY())).getStates().copy();
+            section = new SectionSnapshot(sectionPos, states);
+            sections.put(sectionPos.asLong(), section);
+            updateSkippedIndex(level, pos, index);
+            forEachBlock(sectionPos, (i, x, y, z) -> updater.update(chunk, i, shouldMine(states.get(x, y, z))));
+        } else {
+            section.states().getAndSet(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15, state);
+            updater.update(chunk, index, !updateSkippedIndex(level, pos, index) && shouldMine(state));
+        }
+    }
+
+    /**
+     * @return {@code true} if the block should never be mined.
+     */
+    private boolean updateSkippedIndex(Level level, BlockPos pos, int index) {
+        if (pos.equals(tile.getBlockPos()) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, level, pos) != null) {
+            skippedIndices.add(index);
+            return true;
+        }
+        skippedIndices.remove(index);
+        return false;
+    }
+
+    /**
+     * Checks which states should be mined again after the miner's filters changed, and updates whether the blocks of the states that changed should be mined. Must be
+     * called on the main thread once searching finished.
+     */
+    public void onFiltersChanged(TargetUpdater updater) {
+        Set<BlockState> changed = new ReferenceOpenHashSet<>();
+        for (Map.Entry<BlockState, Boolean> entry : statesToMine.entrySet()) {
+            boolean mine = checkShouldMine(entry.getKey());
+            if (mine != entry.getValue()) {
+                entry.setValue(mine);
+                changed.add(entry.getKey());
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        for (SectionSnapshot section : sections.values()) {
+            PalettedContainer<BlockState> states = section.states();
+            //Only look through sections that may contain one of the states that changed
+            if (states.maybeHas(changed::contains)) {
+                long chunk = section.pos().chunk().toLong();
+                forEachBlock(section.pos(), (index, x, y, z) -> {
+                    BlockState state = states.get(x, y, z);
+                    if (changed.contains(state)) {
+                        updater.update(chunk, index, statesToMine.get(state));
+                    }
+                });
             }
         }
+    }
 
-        state = State.FINISHED;
-        chunkCache = null;
-        if (tile.searcher == this) {
-            //Only update search if we are still valid and didn't get replaced due to a reset call
-            tile.updateFromSearch(oresToMine, found);
+    private boolean shouldMine(BlockState state) {
+        return statesToMine.computeIfAbsent(state, this::checkShouldMine);
+    }
+
+    private boolean checkShouldMine(BlockState state) {
+        //Skip air, blacklisted blocks, and unbreakable blocks
+        //Note: We can't look at the actual world from the search threads, so this only skips blocks that are unbreakable regardless of their position. Blocks that are
+        // only unbreakable at their position get skipped by the miner checking the hardness in the world before mining them
+        if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || state.getDestroySpeed(EmptyBlockGetter.INSTANCE, BlockPos.ZERO) < 0) {
+            return false;
+        }
+        Block block = state.getBlock();
+        if (block instanceof LiquidBlock || block instanceof IFluidBlock || tile.isReplaceTarget(block.asItem())) {
+            //Skip liquids, and blocks we would replace what we mine with
+            return false;
         }
+        MinerFilter<?> filterFound = null;
+        for (MinerFilter<?> filter : tile.getFilters()) {
+            if (filter.canFilter(state)) {
+                filterFound = filter;
+                break;
+            }
+        }
+        return tile.getInverse() == (filterFound == null);
+    }
+
+    @FunctionalInterface
+    public interface TargetUpdater {
+
+        /**
+         * @param chunk The chunk the block is in as a long.
+         * @param index The index of the block in the miner's area.
+         * @param mine  Whether the block should be mined.
+         */
+        void update(long chunk, int index, boolean mine);
+    }
+
+    @FunctionalInterface
+    private interface BlockVisitor {
+
+        /**
+         * @param index The index of the block in the miner's area.
+         * @param x     The x position of the block in the section.
+         * @param y     The y position of the block in the section.
+         * @param z     The z position of the block in the section.
+         */
+        void visit(int index, int x, int y, int z);
+    }
+
+    private record SectionSnapshot(SectionPos pos, PalettedContainer<BlockState> states) {
     }
 
     public enum State implements IHasTextComponent {
@@ -125,4 +433,4 @@ public class ThreadMinerSearch extends Thread {
             return MathUtils.getByIndexMod(MODES, index);
         }
     }
-}
\ No newline at end of file
+}
@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -39,6 +38,7 @@ import mekanism.common.content.network.transmitter.BoxedPressurizedTube;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.ChemicalUtil;
 import mekanism.common.util.EmitUtils;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
@@ -59,6 +59,10 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
     @Nonnull
     public BoxedChemical lastChemical = BoxedChemical.EMPTY;
     private long prevTransferAmount;
+    @Nullable
+    private ChemicalHandlerTarget<?, ?, ?> preparedTarget;
+    @Nullable
+    private ChemicalStack<?> preparedStack;
 
     public BoxedChemicalNetwork(UUID networkID) {
         super(networkID);
@@ -245,23 +249,49 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
         }
     }
 
-    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long tickEmit(@Nonnull STACK stack) {
+    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>>
+    collectTargets(@Nonnull STACK stack) {
         ChemicalType chemicalType = ChemicalType.getTypeFor(stack);
-        Collection<Map<Direction, LazyOptional<BoxedChemicalHandler>>> acceptorValues = acceptorCache.getAcceptorValues();
-        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = new ChemicalHandlerTarget<>(stack, acceptorValues.size() * 2);
-        for (Map<Direction, LazyOptional<BoxedChemicalHandler>> acceptors : acceptorValues) {
-            for (LazyOptional<BoxedChemicalHandler> lazyAcceptor : acceptors.values()) {
-                lazyAcceptor.ifPresent(acceptor -> {
-                    IChemicalHandler<CHEMICAL, STACK> handler = acceptor.getHandlerFor(chemicalType);
-                    if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
-                        target.addHandler(handler);
-                    }
-                });
+        int positionCount = acceptorCache.getPositionCount();
+        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = new ChemicalHandlerTarget<>(stack, positionCount * 2);
+        for (int index = 0; index < positionCount; index++) {
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                LazyOptional<BoxedChemicalHandler> lazyAcceptor = acceptorCache.getAcceptor(index, side);
+                if (lazyAcceptor != null) {
+                    lazyAcceptor.ifPresent(acceptor -> {
+                        IChemicalHandler<CHEMICAL, STACK> handler = acceptor.getHandlerFor(chemicalType);
+                        if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
+                            target.addHandler(handler);
+                        }
+                    });
+                }
             }
         }
+        return target;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long tickEmit(@Nonnull STACK stack) {
+        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target;
+        if (preparedTarget != null && preparedStack != null && preparedStack.getType() == stack.getType() && preparedStack.getAmount() == stack.getAmount()) {
+            target = (ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>>) preparedTarget;
+        } else {
+            //We either didn't prepare in parallel, or the chemical we have to send has changed since we did, so we need to collect the targets again
+            target = collectTargets(stack);
+        }
         return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
     }
 
+    @Override
+    public void prepareUpdate() {
+        Current current = chemicalTank.getCurrent();
+        if (current != Current.EMPTY) {
+            ChemicalStack<?> stack = ChemicalUtil.copy(chemicalTank.getTankFromCurrent(current).getStack());
+            preparedTarget = collectTargets(stack);
+            preparedStack = stack;
+        }
+    }
+
     @Override
     public void onUpdate() {
         super.onUpdate();
@@ -277,6 +307,8 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
             prevTransferAmount = tickEmit(tank.getStack());
             MekanismUtils.logMismatchedStackSize(tank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
         }
+        preparedTarget = null;
+        preparedStack = null;
     }
 
     @Override
@@ -3,7 +3,7 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -13,14 +13,18 @@ import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.energy.IMekanismStrictEnergyHandler;
 import mekanism.api.energy.IStrictEnergyHandler;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.energy.BasicEnergyContainer;
 import mekanism.common.capabilities.energy.VariableCapacityEnergyContainer;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
 import mekanism.common.content.network.distribution.EnergyTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.UniversalCable;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.acceptor.AcceptorBackoff;
 import mekanism.common.util.EmitUtils;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.text.EnergyDisplay;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
@@ -33,6 +37,12 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     public final VariableCapacityEnergyContainer energyContainer;
     private FloatingLong prevTransferAmount = FloatingLong.ZERO;
     private FloatingLong floatingLongCapacity = FloatingLong.ZERO;
+    //Note: We reuse the same target each tick so that we don't have to allocate a new one, and the handlers and simulated amounts in it, every time we emit
+    private final EnergyAcceptorTarget target = new EnergyAcceptorTarget(0);
+    @Nullable
+    private FloatingLong preparedEnergy;
+    private final AcceptorBackoff acceptorBackoff = new AcceptorBackoff();
+    private long emitTicks;
 
     public EnergyNetwork(UUID networkID) {
         super(networkID);
@@ -102,12 +112,12 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
 
     @Override
     public synchronized void updateCapacity() {
-        FloatingLong sum = FloatingLong.ZERO;
+        FloatingLongAccumulator sum = new FloatingLongAccumulator();
         for (UniversalCable transmitter : transmitters) {
-            sum = sum.plusEqual(transmitter.getCapacityAsFloatingLong());
+            sum.add(transmitter.getCapacityAsFloatingLong());
         }
-        if (!floatingLongCapacity.equals(sum)) {
-            floatingLongCapacity = sum;
+        if (!sum.equals(floatingLongCapacity)) {
+            floatingLongCapacity = sum.toFloatingLong();
             capacity = floatingLongCapacity.longValue();
         }
     }
@@ -127,19 +137,68 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
         }
     }
 
-    private FloatingLong tickEmit(FloatingLong energyToSend) {
-        Collection<Map<Direction, LazyOptional<IStrictEnergyHandler>>> acceptorValues = acceptorCache.getAcceptorValues();
-        EnergyAcceptorTarget target = new EnergyAcceptorTarget(acceptorValues.size() * 2);
-        for (Map<Direction, LazyOptional<IStrictEnergyHandler>> acceptors : acceptorValues) {
-            for (LazyOptional<IStrictEnergyHandler> lazyAcceptor : acceptors.values()) {
-                lazyAcceptor.ifPresent(acceptor -> {
-                    if (acceptor.insertEnergy(energyToSend, Action.SIMULATE).smallerThan(energyToSend)) {
-                        target.addHandler(acceptor);
+    private void collectTargets(FloatingLong energyToSend) {
+        target.clear();
+        int positionCount = acceptorCache.getPositionCount();
+        int maxBackoff = MekanismConfig.general.energyAcceptorBackoff.get();
+        for (int index = 0; index < positionCount; index++) {
+            long pos = acceptorCache.getPosition(index);
+            for (Direction direction : EnumUtils.DIRECTIONS) {
+                LazyOptional<IStrictEnergyHandler> lazyAcceptor = acceptorCache.getAcceptor(index, direction);
+                if (lazyAcceptor == null) {
+                    continue;
+                }
+                int side = direction.ordinal();
+                if (acceptorBackoff.shouldSkip(pos, side, emitTicks)) {
+                    //Acceptor was unable to accept energy recently, skip checking it until the backoff is over or the acceptor changes
+                    continue;
+                }
+                Optional<IStrictEnergyHandler> acceptor = lazyAcceptor.resolve();
+                if (acceptor.isPresent()) {
+                    IStrictEnergyHandler handler = acceptor.get();
+                    FloatingLong remainder = handler.insertEnergy(energyToSend, Action.SIMULATE);
+                    if (remainder.smallerThan(energyToSend)) {
+                        //Store the simulated amount so that the handler doesn't have to be simulated again when sending
+                        target.addHandler(handler, energyToSend.subtract(remainder));
+                        acceptorBackoff.markAccepting(pos, side);
+                    } else {
+                        acceptorBackoff.markFull(pos, side, emitTicks, maxBackoff);
                     }
-                });
+                }
             }
         }
-        return EmitUtils.sendToAcceptors(target, energyToSend.copy());
+    }
+
+    private FloatingLong tickEmit(FloatingLong energyToSend) {
+        if (!energyToSend.equals(preparedEnergy)) {
+            //We either didn't prepare in parallel, or the amount we have to send has changed since we did, so we need to collect the targets again
+            collectTargets(energyToSend);
+        }
+        FloatingLong sent = EmitUtils.sendToAcceptors(target, energyToSend.copy());
+        //Clear the target so that it doesn't keep the handlers loaded until the next time we emit
+        target.clear();
+        return sent;
+    }
+
+    @Override
+    public void prepareUpdate() {
+        if (!energyContainer.isEmpty()) {
+            FloatingLong energyToSend = energyContainer.getEnergy().copy();
+            collectTargets(energyToSend);
+            preparedEnergy = energyToSend;
+        }
+    }
+
+    @Override
+    public void acceptorChanged(UniversalCable transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        acceptorBackoff.reset(transmitter.getTilePos().relative(side).asLong());
+    }
+
+    @Override
+    public void deregister() {
+        super.deregister();
+        acceptorBackoff.clear();
     }
 
     @Override
@@ -160,6 +219,8 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
             prevTransferAmount = tickEmit(energyContainer.getEnergy());
             energyContainer.extract(prevTransferAmount, Action.EXECUTE, AutomationType.INTERNAL);
         }
+        preparedEnergy = null;
+        emitTicks++;
     }
 
     @Override
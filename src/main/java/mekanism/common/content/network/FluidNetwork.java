@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -20,6 +19,7 @@ import mekanism.common.content.network.distribution.FluidTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.MechanicalPipe;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.EmitUtils;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.FluidUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.core.Direction;
@@ -39,6 +39,10 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
 
     //TODO: Make fluid storage support storing as longs?
     private int intCapacity;
+    @Nullable
+    private FluidHandlerTarget preparedTarget;
+    @Nullable
+    private FluidStack preparedFluid;
 
     public FluidNetwork(UUID networkID) {
         super(networkID);
@@ -149,21 +153,42 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
         }
     }
 
-    private int tickEmit(@Nonnull FluidStack fluidToSend) {
-        Collection<Map<Direction, LazyOptional<IFluidHandler>>> acceptorValues = acceptorCache.getAcceptorValues();
-        FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend, acceptorValues.size() * 2);
-        for (Map<Direction, LazyOptional<IFluidHandler>> acceptors : acceptorValues) {
-            for (LazyOptional<IFluidHandler> lazyAcceptor : acceptors.values()) {
-                lazyAcceptor.ifPresent(acceptor -> {
-                    if (FluidUtils.canFill(acceptor, fluidToSend)) {
-                        target.addHandler(acceptor);
-                    }
-                });
+    private FluidHandlerTarget collectTargets(@Nonnull FluidStack fluidToSend) {
+        int positionCount = acceptorCache.getPositionCount();
+        FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend, positionCount * 2);
+        for (int index = 0; index < positionCount; index++) {
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                LazyOptional<IFluidHandler> lazyAcceptor = acceptorCache.getAcceptor(index, side);
+                if (lazyAcceptor != null) {
+                    lazyAcceptor.ifPresent(acceptor -> {
+                        if (FluidUtils.canFill(acceptor, fluidToSend)) {
+                            target.addHandler(acceptor);
+                        }
+                    });
+                }
             }
         }
+        return target;
+    }
+
+    private int tickEmit(@Nonnull FluidStack fluidToSend) {
+        FluidHandlerTarget target = preparedTarget;
+        if (target == null || preparedFluid == null || !preparedFluid.isFluidStackIdentical(fluidToSend)) {
+            //We either didn't prepare in parallel, or the fluid we have to send has changed since we did, so we need to collect the targets again
+            target = collectTargets(fluidToSend);
+        }
         return EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
     }
 
+    @Override
+    public void prepareUpdate() {
+        if (!fluidTank.isEmpty()) {
+            FluidStack fluidToSend = fluidTank.getFluid().copy();
+            preparedTarget = collectTargets(fluidToSend);
+            preparedFluid = fluidToSend;
+        }
+    }
+
     @Override
     public void onUpdate() {
         super.onUpdate();
@@ -177,6 +202,8 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
             prevTransferAmount = tickEmit(fluidTank.getFluid());
             MekanismUtils.logMismatchedStackSize(fluidTank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
         }
+        preparedTarget = null;
+        preparedFluid = null;
     }
 
     @Override
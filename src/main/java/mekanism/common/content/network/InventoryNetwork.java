@@ -1,6 +1,8 @@
 package mekanism.common.content.network;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -26,6 +28,7 @@ import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.lib.transmitter.DynamicNetwork;
 import mekanism.common.tile.interfaces.ISideConfiguration;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -39,6 +42,10 @@ import net.minecraftforge.items.IItemHandler;
 public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
     private final Map<BlockPos, LogisticalTransporterBase> positionedTransmitters = new Object2ObjectOpenHashMap<>();
+    /**
+     * Positions that have changed since the last commit, used to only invalidate the cached paths that may be affected by the changes.
+     */
+    private final LongSet changedPositions = new LongOpenHashSet();
 
     public InventoryNetwork(UUID networkID) {
         super(networkID);
@@ -51,8 +58,8 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
 
     public List<AcceptorData> calculateAcceptors(TransitRequest request, TransporterStack stack, Long2ObjectMap<ChunkAccess> chunkMap) {
         List<AcceptorData> toReturn = new ArrayList<>();
-        for (Map.Entry<BlockPos, Map<Direction, LazyOptional<IItemHandler>>> entry : acceptorCache.getAcceptorEntrySet()) {
-            BlockPos pos = entry.getKey();
+        for (int index = 0, positionCount = acceptorCache.getPositionCount(); index < positionCount; index++) {
+            BlockPos pos = BlockPos.of(acceptorCache.getPosition(index));
             if (!pos.equals(stack.homeLocation)) {
                 BlockEntity acceptor = WorldUtils.getTileEntity(getWorld(), chunkMap, pos);
                 if (acceptor == null) {
@@ -60,10 +67,10 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
                 }
                 Map<TransitResponse, AcceptorData> dataMap = new HashMap<>();
                 Coord4D position = new Coord4D(pos, getWorld());
-                for (Map.Entry<Direction, LazyOptional<IItemHandler>> acceptorEntry : entry.getValue().entrySet()) {
-                    Optional<IItemHandler> handler = acceptorEntry.getValue().resolve();
+                for (Direction side : EnumUtils.DIRECTIONS) {
+                    LazyOptional<IItemHandler> lazyAcceptor = acceptorCache.getAcceptor(index, side);
+                    Optional<IItemHandler> handler = lazyAcceptor == null ? Optional.empty() : lazyAcceptor.resolve();
                     if (handler.isPresent()) {
-                        Direction side = acceptorEntry.getKey();
                         //TODO: Figure out how we want to best handle the color check, as without doing it here we don't
                         // actually need to even query the TE
                         if (acceptor instanceof ISideConfiguration config) {
@@ -111,7 +118,17 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
     @Override
     protected void addTransmitterFromCommit(LogisticalTransporterBase transmitter) {
         super.addTransmitterFromCommit(transmitter);
-        positionedTransmitters.put(transmitter.getTilePos(), transmitter);
+        BlockPos pos = transmitter.getTilePos();
+        positionedTransmitters.put(pos, transmitter);
+        changedPositions.add(pos.asLong());
+    }
+
+    @Override
+    public void acceptorChanged(LogisticalTransporterBase transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        BlockPos pos = transmitter.getTilePos();
+        changedPositions.add(pos.asLong());
+        changedPositions.add(pos.relative(side).asLong());
     }
 
     @Override
@@ -163,6 +180,14 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         }
     }
 
+    @Override
+    protected void transmitterRemoved(LogisticalTransporterBase transmitter) {
+        super.transmitterRemoved(transmitter);
+        removePositionedTransmitter(transmitter);
+        //Make sure any cached paths that went through the transmitter get invalidated
+        changedPositions.add(transmitter.getTilePos().asLong());
+    }
+
     @Override
     public List<LogisticalTransporterBase> adoptTransmittersAndAcceptorsFrom(InventoryNetwork net) {
         positionedTransmitters.putAll(net.positionedTransmitters);
@@ -172,14 +197,16 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
     @Override
     public void commit() {
         super.commit();
-        // update the cache when the network has been changed (called when transmitters are added)
-        PathfinderCache.onChanged(this);
+        // update the cache when the network has been changed (called when transmitters or acceptors are added)
+        PathfinderCache.onChanged(this, changedPositions);
+        changedPositions.clear();
     }
 
     @Override
     public void deregister() {
         super.deregister();
         positionedTransmitters.clear();
+        changedPositions.clear();
         // update the cache when the network has been removed (when transmitters are removed)
         PathfinderCache.onChanged(this);
     }
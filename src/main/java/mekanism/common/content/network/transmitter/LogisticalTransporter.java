@@ -1,5 +1,6 @@
 package mekanism.common.content.network.transmitter;
 
+import it.unimi.dsi.fastutil.longs.LongSets;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.NBTConstants;
@@ -46,7 +47,7 @@ public class LogisticalTransporter extends LogisticalTransporterBase implements
     @Override
     public InteractionResult onConfigure(Player player, Direction side) {
         TransporterUtils.incrementColor(this);
-        PathfinderCache.onChanged(getTransmitterNetwork());
+        PathfinderCache.onChanged(getTransmitterNetwork(), LongSets.singleton(getTilePos().asLong()));
         getTransmitterTile().sendUpdatePacket();
         EnumColor color = getColor();
         player.sendMessage(MekanismUtils.logFormat(MekanismLang.TOGGLE_COLOR.translate(color == null ? MekanismLang.NONE : color.getColoredName())), Util.NIL_UUID);
@@ -146,7 +146,13 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
                     int stackId = entry.getIntKey();
                     TransporterStack stack = entry.getValue();
                     if (!stack.initiatedPath) {
-                        if (stack.itemStack.isEmpty() || !recalculate(stackId, stack, null)) {
+                        if (stack.itemStack.isEmpty()) {
+                            deletes.add(stackId);
+                            continue;
+                        } else if (stack.resumeSavedPath(this)) {
+                            //If the stack was able to continue along the path it had when it was saved, sync it to the client
+                            needsSync.put(stackId, stack);
+                        } else if (!recalculate(stackId, stack, null)) {
                             deletes.add(stackId);
                             continue;
                         }
@@ -295,7 +301,7 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
             ListTag tagList = tag.getList(NBTConstants.ITEMS, Tag.TAG_COMPOUND);
             for (int i = 0; i < tagList.size(); i++) {
                 CompoundTag compound = tagList.getCompound(i);
-                TransporterStack stack = TransporterStack.readFromUpdate(compound);
+                TransporterStack stack = TransporterStack.readFromUpdate(getTilePos(), compound);
                 addStack(compound.getInt(NBTConstants.INDEX), stack);
             }
         }
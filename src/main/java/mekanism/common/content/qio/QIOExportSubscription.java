@@ -0,0 +1,79 @@
+package mekanism.common.content.qio;
+
+import java.util.BitSet;
+import mekanism.common.lib.inventory.Finder;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+/**
+ * The item types in a {@link QIOFrequency} that an exporter can export. The frequency keeps this up to date as types get added and removed, so that exporters don't
+ * have to look through the types each time they export, and hands out the exportable types in a round-robin order so that every type eventually gets exported.
+ */
+public class QIOExportSubscription {
+
+    private final QIOFrequency frequency;
+    private final BlockEntity owner;
+    private final Finder finder;
+    // ids in the frequency's item type store of the types that can be exported
+    private final BitSet exportable = new BitSet();
+    private int nextId;
+
+    QIOExportSubscription(QIOFrequency frequency, BlockEntity owner, Finder finder) {
+        this.frequency = frequency;
+        this.owner = owner;
+        this.finder = finder;
+    }
+
+    public QIOFrequency getFrequency() {
+        return frequency;
+    }
+
+    boolean isOwnerRemoved() {
+        return owner.isRemoved();
+    }
+
+    void rebuild(QIOItemTypeStore<?> itemTypes) {
+        exportable.clear();
+        for (int id = itemTypes.firstId(); id != -1; id = itemTypes.nextId(id)) {
+            typeAdded(id, itemTypes);
+        }
+    }
+
+    void typeAdded(int id, QIOItemTypeStore<?> itemTypes) {
+        if (finder.modifies(itemTypes.getType(id).getStack())) {
+            exportable.set(id);
+        }
+    }
+
+    void typeRemoved(int id) {
+        exportable.clear(id);
+    }
+
+    public boolean hasExportable() {
+        return !exportable.isEmpty();
+    }
+
+    /**
+     * Gets the next type to try exporting, continuing on from the type that was returned last and wrapping around after the last type.
+     *
+     * @return The id of the type in the frequency's {@link QIOFrequency#getItemTypes() item type store}, or {@code -1} if there is nothing to export.
+     */
+    public int nextExportable() {
+        int id = exportable.nextSetBit(nextId);
+        if (id == -1) {
+            id = exportable.nextSetBit(0);
+            if (id == -1) {
+                return -1;
+            }
+        }
+        nextId = id + 1;
+        return id;
+    }
+
+    public int getExportableCount() {
+        return exportable.cardinality();
+    }
+
+    public void unsubscribe() {
+        frequency.unsubscribe(this);
+    }
+}
@@ -0,0 +1,489 @@
+package mekanism.common.content.qio;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import mekanism.common.base.TagCache;
+import mekanism.common.lib.WildcardMatcher;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Storage engine for the item types stored in a {@link QIOFrequency}. Each stored type gets assigned a dense int id, which indexes the arrays holding the count of the
+ * type and the data attached to it, and which is what gets stored in the bitsets used to look up stored types by tag, mod id, or item.
+ * <br><br>
+ * Removed types keep their id, and the UUID that is used to sync them to clients, until {@link #releaseRemoved()} is called. This allows a type that gets removed and
+ * added back before then to continue using the same UUID, and ensures clients get told about the removal using the UUID they know the type by.
+ *
+ * @param <DATA> Extra data stored for each type.
+ */
+public class QIOItemTypeStore<DATA> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Object2IntMap<HashedItem> typeIds = new Object2IntOpenHashMap<>();
+    private final Object2IntMap<UUID> uuidIds = new Object2IntOpenHashMap<>();
+    private final BitSet storedIds = new BitSet();
+    private final IntList removedIds = new IntArrayList();
+    private final IntList freeIds = new IntArrayList();
+    private HashedItem[] types = new HashedItem[INITIAL_CAPACITY];
+    private UUID[] uuids = new UUID[INITIAL_CAPACITY];
+    private long[] counts = new long[INITIAL_CAPACITY];
+    private Object[] data = new Object[INITIAL_CAPACITY];
+    /**
+     * The tags each type was indexed with, so that we can remove it from the tag index even if its tags changed.
+     */
+    private List<String>[] typeTags = newTagsArray(INITIAL_CAPACITY);
+    private int nextId;
+    private int size;
+
+    // efficiently keep track of the tags utilized by the items stored
+    private final Map<String, BitSet> tagIndex = new Object2ObjectOpenHashMap<>();
+    // efficiently keep track of the modids utilized by the items stored
+    private final Map<String, BitSet> modIDIndex = new Object2ObjectOpenHashMap<>();
+    // efficiently keep track of the items for use in fuzzy lookup utilized by the items stored
+    private final Map<Item, BitSet> itemIndex = new Object2ObjectOpenHashMap<>();
+    // a sensitive cache for wildcard tag lookups (wildcard -> [matching tags])
+    private final SetMultimap<String, String> tagWildcardCache = HashMultimap.create();
+    private final Set<String> failedWildcardTags = new ObjectOpenHashSet<>();
+    // a sensitive cache for wildcard modid lookups (wildcard -> [matching modids])
+    private final SetMultimap<String, String> modIDWildcardCache = HashMultimap.create();
+    private final Set<String> failedWildcardModIDs = new ObjectOpenHashSet<>();
+
+    public QIOItemTypeStore() {
+        typeIds.defaultReturnValue(-1);
+        uuidIds.defaultReturnValue(-1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String>[] newTagsArray(int length) {
+        return new List[length];
+    }
+
+    /**
+     * @return The number of stored types.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return The id of the given type, or {@code -1} if it is not stored.
+     */
+    public int getId(HashedItem type) {
+        int id = typeIds.getInt(type);
+        return id != -1 && storedIds.get(id) ? id : -1;
+    }
+
+    /**
+     * @return {@code true} if the given id belongs to a stored type, {@code false} if it is free or belongs to a type that was removed.
+     */
+    public boolean isStored(int id) {
+        return storedIds.get(id);
+    }
+
+    /**
+     * @apiNote Also valid for types that were removed but have not been released yet.
+     */
+    public HashedItem getType(int id) {
+        return types[id];
+    }
+
+    /**
+     * @apiNote Also valid for types that were removed but have not been released yet.
+     */
+    public UUID getUUID(int id) {
+        return uuids[id];
+    }
+
+    public long getCount(int id) {
+        return counts[id];
+    }
+
+    /**
+     * @param amount Amount to add, may be negative.
+     */
+    public void addCount(int id, long amount) {
+        counts[id] += amount;
+    }
+
+    @SuppressWarnings("unchecked")
+    public DATA getData(int id) {
+        return (DATA) data[id];
+    }
+
+    /**
+     * @return The count of the given type, or zero if it is not stored.
+     */
+    public long getCount(HashedItem type) {
+        int id = getId(type);
+        return id == -1 ? 0 : counts[id];
+    }
+
+    @Nullable
+    public DATA getData(HashedItem type) {
+        int id = getId(type);
+        return id == -1 ? null : getData(id);
+    }
+
+    /**
+     * @return The UUID of the given type, including types that were removed but have not been released yet, or {@code null} if there is none.
+     */
+    @Nullable
+    public UUID getUUID(HashedItem type) {
+        int id = typeIds.getInt(type);
+        return id == -1 ? null : uuids[id];
+    }
+
+    /**
+     * @return The type with the given UUID, including types that were removed but have not been released yet, or {@code null} if there is none.
+     */
+    @Nullable
+    public HashedItem getTypeByUUID(UUID uuid) {
+        int id = uuidIds.getInt(uuid);
+        return id == -1 ? null : types[id];
+    }
+
+    /**
+     * Starts storing the given type with a count of zero.
+     *
+     * @param type     Type to store, must not already be stored.
+     * @param typeData Data to attach to the type.
+     *
+     * @return The id of the type.
+     */
+    public int add(HashedItem type, DATA typeData) {
+        int id = typeIds.getInt(type);
+        if (id == -1) {
+            id = allocateId();
+            types[id] = type;
+            UUID uuid = UUID.randomUUID();
+            uuids[id] = uuid;
+            typeIds.put(type, id);
+            uuidIds.put(uuid, id);
+        } else if (storedIds.get(id)) {
+            throw new IllegalStateException("Item type is already stored");
+        } else {
+            //The type was removed but hasn't been released yet, reuse the id and UUID it had
+            removedIds.rem(id);
+        }
+        counts[id] = 0;
+        data[id] = typeData;
+        storedIds.set(id);
+        size++;
+        index(id);
+        return id;
+    }
+
+    /**
+     * Stops storing the type with the given id. The id and UUID of the type stay reserved for the type until {@link #releaseRemoved()} is called.
+     */
+    public void remove(int id) {
+        if (storedIds.get(id)) {
+            storedIds.clear(id);
+            size--;
+            unindex(id);
+            counts[id] = 0;
+            data[id] = null;
+            removedIds.add(id);
+        }
+    }
+
+    /**
+     * Releases the ids and UUIDs of all types that were removed since this was last called, so that they can be reused by other types.
+     */
+    public void releaseRemoved() {
+        for (int i = 0, count = removedIds.size(); i < count; i++) {
+            int id = removedIds.getInt(i);
+            typeIds.removeInt(types[id]);
+            uuidIds.removeInt(uuids[id]);
+            types[id] = null;
+            uuids[id] = null;
+            freeIds.add(id);
+        }
+        removedIds.clear();
+    }
+
+    public boolean hasRemoved() {
+        return !removedIds.isEmpty();
+    }
+
+    private int allocateId() {
+        if (!freeIds.isEmpty()) {
+            return freeIds.removeInt(freeIds.size() - 1);
+        }
+        if (nextId == types.length) {
+            int capacity = types.length * 2;
+            types = Arrays.copyOf(types, capacity);
+            uuids = Arrays.copyOf(uuids, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            data = Arrays.copyOf(data, capacity);
+            typeTags = Arrays.copyOf(typeTags, capacity);
+        }
+        return nextId++;
+    }
+
+    /**
+     * @return The id of the first stored type, or {@code -1} if there are none.
+     */
+    public int firstId() {
+        return storedIds.nextSetBit(0);
+    }
+
+    /**
+     * @return The id of the next stored type after the given id, or {@code -1} if there are none.
+     */
+    public int nextId(int id) {
+        return storedIds.nextSetBit(id + 1);
+    }
+
+    /**
+     * @return A view of the data of all stored types.
+     */
+    public Collection<DATA> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<DATA> iterator() {
+                return new Iterator<>() {
+                    private int next = firstId();
+
+                    @Override
+                    public boolean hasNext() {
+                        return next != -1;
+                    }
+
+                    @Override
+                    public DATA next() {
+                        if (next == -1) {
+                            throw new NoSuchElementException();
+                        }
+                        DATA value = getData(next);
+                        next = nextId(next);
+                        return value;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private void index(int id) {
+        ItemStack stack = types[id].getStack();
+        List<String> tags = TagCache.getItemTags(stack);
+        typeTags[id] = tags;
+        boolean addedTag = false;
+        for (String tag : tags) {
+            BitSet ids = tagIndex.get(tag);
+            if (ids == null) {
+                tagIndex.put(tag, ids = new BitSet());
+                addedTag = true;
+            }
+            ids.set(id);
+        }
+        if (addedTag) {
+            //If we added any tags, then we need to clear our wildcard cache as our new tags may be valid for some of our wildcards
+            tagWildcardCache.clear();
+            failedWildcardTags.clear();
+        }
+        modIDIndex.computeIfAbsent(MekanismUtils.getModId(stack), modID -> {
+            //If we added a new modid to the lookup map we also want to make sure that we clear our modid wildcard cache
+            // as our new modid may be valid for some of our wildcards
+            modIDWildcardCache.clear();
+            failedWildcardModIDs.clear();
+            return new BitSet();
+        }).set(id);
+        //Fuzzy item lookup has no wildcard cache related to it
+        itemIndex.computeIfAbsent(stack.getItem(), item -> new BitSet()).set(id);
+    }
+
+    private void unindex(int id) {
+        List<String> tags = typeTags[id];
+        typeTags[id] = null;
+        if (tags != null && removeFromIndex(tagIndex, tags, id)) {
+            //If we completely removed any tags clear our wildcard cache as it may have some wildcards that are
+            // matching a tag that is no longer stored
+            //Note: We don't need to clear the failed wildcard tags as if we are removing tags they still won't have any matches
+            tagWildcardCache.clear();
+        }
+        ItemStack stack = types[id].getStack();
+        if (removeFromIndex(modIDIndex, MekanismUtils.getModId(stack), id)) {
+            //Note: We don't need to clear the failed wildcard modids as if we are removing modids they still won't have any matches
+            modIDWildcardCache.clear();
+        }
+        removeFromIndex(itemIndex, stack.getItem(), id);
+    }
+
+    /**
+     * @return {@code true} if a key was removed from the index as no stored types have it anymore.
+     */
+    private static <KEY> boolean removeFromIndex(Map<KEY, BitSet> index, KEY key, int id) {
+        BitSet ids = index.get(key);
+        if (ids != null) {
+            ids.clear(id);
+            if (ids.isEmpty()) {
+                index.remove(key);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <KEY> boolean removeFromIndex(Map<KEY, BitSet> index, Collection<KEY> keys, int id) {
+        boolean removed = false;
+        for (KEY key : keys) {
+            removed |= removeFromIndex(index, key, id);
+        }
+        return removed;
+    }
+
+    /**
+     * Rebuilds the tag index, for use when tags get reloaded.
+     */
+    public void rebuildTagIndex() {
+        //Note: We only need to rebuild tags here as the modids and items cannot change just because a reload happened
+        tagIndex.clear();
+        tagWildcardCache.clear();
+        failedWildcardTags.clear();
+        for (int id = firstId(); id != -1; id = nextId(id)) {
+            List<String> tags = TagCache.getItemTags(types[id].getStack());
+            typeTags[id] = tags;
+            for (String tag : tags) {
+                BitSet ids = tagIndex.get(tag);
+                if (ids == null) {
+                    tagIndex.put(tag, ids = new BitSet());
+                }
+                ids.set(id);
+            }
+        }
+    }
+
+    /**
+     * @return The ids of all stored types of the given item.
+     *
+     * @apiNote The returned bitset should not be modified, and may change when types are added or removed.
+     */
+    public BitSet getIdsByItem(Item item) {
+        return getIds(itemIndex, item);
+    }
+
+    /**
+     * @return The ids of all stored types with the given tag.
+     *
+     * @apiNote The returned bitset should not be modified, and may change when types are added or removed.
+     */
+    public BitSet getIdsByTag(String tag) {
+        return getIds(tagIndex, tag);
+    }
+
+    /**
+     * @return The ids of all stored types from the given mod.
+     *
+     * @apiNote The returned bitset should not be modified, and may change when types are added or removed.
+     */
+    public BitSet getIdsByModID(String modID) {
+        return getIds(modIDIndex, modID);
+    }
+
+    private static <KEY> BitSet getIds(Map<KEY, BitSet> index, KEY key) {
+        BitSet ids = index.get(key);
+        return ids == null ? new BitSet() : ids;
+    }
+
+    /**
+     * @return A new bitset containing the ids of all stored types that have a tag matching the given wildcard.
+     */
+    public BitSet getIdsByTagWildcard(String wildcard) {
+        return getIdsByWildcard(tagIndex, tagWildcardCache, failedWildcardTags, wildcard);
+    }
+
+    /**
+     * @return A new bitset containing the ids of all stored types from mods matching the given wildcard.
+     */
+    public BitSet getIdsByModIDWildcard(String wildcard) {
+        return getIdsByWildcard(modIDIndex, modIDWildcardCache, failedWildcardModIDs, wildcard);
+    }
+
+    private static BitSet getIdsByWildcard(Map<String, BitSet> index, SetMultimap<String, String> wildcardCache, Set<String> failedWildcards, String wildcard) {
+        BitSet ids = new BitSet();
+        if (hasMatchingElements(wildcardCache, failedWildcards, wildcard, index::keySet)) {
+            for (String match : wildcardCache.get(wildcard)) {
+                BitSet matching = index.get(match);
+                if (matching != null) {
+                    ids.or(matching);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static boolean hasMatchingElements(SetMultimap<String, String> wildcardCache, Set<String> failedWildcards, String wildcard,
+          Supplier<Set<String>> entriesSupplier) {
+        if (failedWildcards.contains(wildcard)) {
+            //If we already know this wildcard has no matching things, fail fast
+            return false;
+        }
+        //If we don't have a cached value for the given wildcard, try to build up the corresponding cache
+        if (!wildcardCache.containsKey(wildcard) && !buildWildcardMapping(wildcardCache, wildcard, entriesSupplier.get())) {
+            // If we don't actually have any matches, mark that the wildcard failed, and return false
+            failedWildcards.add(wildcard);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if any wildcards were added.
+     */
+    private static boolean buildWildcardMapping(SetMultimap<String, String> wildcardCache, String wildcard, Set<String> entries) {
+        boolean added = false;
+        for (String entry : entries) {
+            if (WildcardMatcher.matches(wildcard, entry)) {
+                added |= wildcardCache.put(wildcard, entry);
+            }
+        }
+        return added;
+    }
+
+    /**
+     * @return A new list of the types with the given ids.
+     */
+    public List<HashedItem> getTypes(BitSet ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        HashedItem[] result = new HashedItem[ids.cardinality()];
+        int i = 0;
+        for (int id = ids.nextSetBit(0); id != -1; id = ids.nextSetBit(id + 1)) {
+            result[i++] = types[id];
+        }
+        return Arrays.asList(result);
+    }
+}
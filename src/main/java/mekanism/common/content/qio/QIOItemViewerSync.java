@@ -0,0 +1,176 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.inventory.container.QIOItemViewerContainer;
+import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.network.to_client.PacketQIOItemViewerGuiSync;
+import mekanism.common.network.to_client.PacketQIOItemViewerGuiSync.SyncedType;
+import net.minecraft.server.level.ServerPlayer;
+
+/**
+ * Keeps the players viewing the items of a {@link QIOFrequency} in sync with it.
+ * <br><br>
+ * Types are referred to by their id in the frequency's {@link QIOItemTypeStore}. As the store doesn't reuse the id of a removed type until it is released, and the
+ * frequency only releases removed types once their removal has been sent, each type only has to be sent in full once, after which only its id and how much its count
+ * changed by get sent. Changes are combined and sent at most every {@code viewerSyncRate} ticks. Players that start viewing the items get sent all types in pages
+ * over multiple ticks, which contain the counts as of the last time changes were sent so that any changes sent afterwards apply on top of them.
+ */
+public class QIOItemViewerSync {
+
+    private final QIOItemTypeStore<?> itemTypes;
+    private final Map<ServerPlayer, PendingPages> viewers = new HashMap<>();
+    private final IntSet updatedIds = new IntOpenHashSet();
+    // the types and counts viewers know about
+    private final BitSet syncedIds = new BitSet();
+    private long[] syncedCounts = new long[64];
+    private long syncedCountCapacity;
+    private int syncedTypeCapacity;
+    private int ticksSinceSync;
+
+    public QIOItemViewerSync(QIOItemTypeStore<?> itemTypes) {
+        this.itemTypes = itemTypes;
+    }
+
+    public void markUpdated(int id) {
+        updatedIds.add(id);
+    }
+
+    public void addViewer(ServerPlayer player) {
+        PendingPages pages = new PendingPages(syncedIds.stream().toArray());
+        if (pages.sendNext(player)) {
+            viewers.put(player, null);
+        } else {
+            viewers.put(player, pages);
+        }
+    }
+
+    public void removeViewer(ServerPlayer player) {
+        viewers.remove(player);
+    }
+
+    public void kill() {
+        PacketQIOItemViewerGuiSync packet = PacketQIOItemViewerGuiSync.kill();
+        viewers.keySet().forEach(player -> Mekanism.packetHandler().sendTo(packet, player));
+        viewers.clear();
+    }
+
+    /**
+     * Sends any pages and changes that are due.
+     *
+     * @return {@code true} if viewers know about all changes, meaning the frequency can release any types that were removed.
+     */
+    public boolean tick(long countCapacity, int typeCapacity) {
+        // flush players that somehow didn't send a container close packet
+        viewers.keySet().removeIf(player -> !(player.containerMenu instanceof QIOItemViewerContainer));
+        boolean synced = true;
+        if (ticksSinceSync < Integer.MAX_VALUE) {
+            ticksSinceSync++;
+        }
+        if (!updatedIds.isEmpty() || countCapacity != syncedCountCapacity || typeCapacity != syncedTypeCapacity) {
+            if (ticksSinceSync >= MekanismConfig.general.qioViewerSyncRate.get()) {
+                sendChanges(countCapacity, typeCapacity);
+                ticksSinceSync = 0;
+            } else {
+                synced = false;
+            }
+        }
+        for (Map.Entry<ServerPlayer, PendingPages> entry : viewers.entrySet()) {
+            PendingPages pages = entry.getValue();
+            if (pages != null && pages.sendNext(entry.getKey())) {
+                entry.setValue(null);
+            }
+        }
+        return synced;
+    }
+
+    private void sendChanges(long countCapacity, int typeCapacity) {
+        List<SyncedType> added = new ArrayList<>();
+        IntList changedIds = new IntArrayList();
+        LongList countDeltas = new LongArrayList();
+        IntList removedIds = new IntArrayList();
+        for (IntIterator iter = updatedIds.iterator(); iter.hasNext(); ) {
+            int id = iter.nextInt();
+            if (itemTypes.isStored(id)) {
+                long count = itemTypes.getCount(id);
+                if (syncedIds.get(id)) {
+                    long delta = count - syncedCounts[id];
+                    if (delta != 0) {
+                        changedIds.add(id);
+                        countDeltas.add(delta);
+                    }
+                } else {
+                    if (id >= syncedCounts.length) {
+                        syncedCounts = Arrays.copyOf(syncedCounts, Math.max(id + 1, syncedCounts.length * 2));
+                    }
+                    syncedIds.set(id);
+                    added.add(createSyncedType(id, count));
+                }
+                syncedCounts[id] = count;
+            } else if (syncedIds.get(id)) {
+                syncedIds.clear(id);
+                syncedCounts[id] = 0;
+                removedIds.add(id);
+            }
+            //Note: Types that were added and removed again since the last sync were never sent so don't need to be removed either
+        }
+        updatedIds.clear();
+        boolean capacityChanged = countCapacity != syncedCountCapacity || typeCapacity != syncedTypeCapacity;
+        syncedCountCapacity = countCapacity;
+        syncedTypeCapacity = typeCapacity;
+        if (!viewers.isEmpty() && (capacityChanged || !added.isEmpty() || !changedIds.isEmpty() || !removedIds.isEmpty())) {
+            PacketQIOItemViewerGuiSync packet = PacketQIOItemViewerGuiSync.update(added, changedIds, countDeltas, removedIds, countCapacity, typeCapacity);
+            viewers.keySet().forEach(player -> Mekanism.packetHandler().sendTo(packet, player));
+        }
+    }
+
+    private SyncedType createSyncedType(int id, long count) {
+        return new SyncedType(id, new UUIDAwareHashedItem(itemTypes.getType(id), itemTypes.getUUID(id)), count);
+    }
+
+    /**
+     * The types that still have to be sent to a player that started viewing the items.
+     */
+    private class PendingPages {
+
+        private final int[] ids;
+        private int sent;
+
+        private PendingPages(int[] ids) {
+            this.ids = ids;
+        }
+
+        /**
+         * @return {@code true} if this was the last page.
+         */
+        private boolean sendNext(ServerPlayer player) {
+            int end = Math.min(ids.length, sent + MekanismConfig.general.qioViewerPageSize.get());
+            List<SyncedType> page = new ArrayList<>(end - sent);
+            for (int i = sent; i < end; i++) {
+                int id = ids[i];
+                //Skip types whose removal was sent after we started, the viewer will have ignored any changes sent for the others up until now
+                if (syncedIds.get(id)) {
+                    page.add(createSyncedType(id, syncedCounts[id]));
+                }
+            }
+            boolean first = sent == 0;
+            sent = end;
+            boolean last = sent == ids.length;
+            Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.batch(page, first, last, syncedCountCapacity, syncedTypeCapacity), player);
+            return last;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+import mekanism.common.base.TagCache;
+import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import mekanism.common.content.qio.SearchQueryParser.QueryType;
+import mekanism.common.content.qio.SearchQueryParser.SearchQuery;
+import mekanism.common.content.qio.SearchQueryParser.SearchQueryList;
+import mekanism.common.inventory.ISlotClickHandler.IScrollableSlot;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Index of the item types shown in a QIO Item Viewer, for evaluating {@link SearchQueryParser search queries} without having to look up the name, mod id and tags of
+ * every stack for every query. Only use on client-side.
+ * <br><br>
+ * Names are indexed by every three character sequence in them, so that the candidates for containing a key can be found by intersecting the entries for each three
+ * character sequence of the key. Mod ids and tags are indexed by their value, as there are far fewer of them than there are types. Tooltips are not indexed, and are
+ * only checked for the types that match the rest of a query.
+ */
+public class QIOSearchIndex {
+
+    private static final int TRIGRAM_LENGTH = 3;
+
+    private final Reference2IntMap<IScrollableSlot> ids = new Reference2IntOpenHashMap<>();
+    private final IntList freeIds = new IntArrayList();
+    private final BitSet usedIds = new BitSet();
+    private IScrollableSlot[] slots = new IScrollableSlot[64];
+    private String[] names = new String[64];
+    private List<String>[] tags = newTagsArray(64);
+    private String[] modIDs = new String[64];
+    private int nextId;
+
+    private final Long2ObjectMap<BitSet> nameIndex = new Long2ObjectOpenHashMap<>();
+    private final Map<String, BitSet> modIDIndex = new Object2ObjectOpenHashMap<>();
+    private final Map<String, BitSet> tagIndex = new Object2ObjectOpenHashMap<>();
+
+    public QIOSearchIndex() {
+        ids.defaultReturnValue(-1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String>[] newTagsArray(int length) {
+        return new List[length];
+    }
+
+    public void add(IScrollableSlot slot) {
+        if (ids.containsKey(slot)) {
+            return;
+        }
+        int id = allocateId();
+        ids.put(slot, id);
+        usedIds.set(id);
+        slots[id] = slot;
+        ItemStack stack = slot.getItem().getStack();
+        String name = stack.getHoverName().getString().toLowerCase(Locale.ROOT);
+        names[id] = name;
+        for (int i = 0; i + TRIGRAM_LENGTH <= name.length(); i++) {
+            nameIndex.computeIfAbsent(trigram(name, i), t -> new BitSet()).set(id);
+        }
+        String modID = MekanismUtils.getModId(stack).toLowerCase(Locale.ROOT);
+        modIDs[id] = modID;
+        modIDIndex.computeIfAbsent(modID, m -> new BitSet()).set(id);
+        List<String> itemTags = new ArrayList<>();
+        for (String tag : TagCache.getItemTags(stack)) {
+            String lowerTag = tag.toLowerCase(Locale.ROOT);
+            itemTags.add(lowerTag);
+            tagIndex.computeIfAbsent(lowerTag, t -> new BitSet()).set(id);
+        }
+        tags[id] = itemTags;
+    }
+
+    public void remove(IScrollableSlot slot) {
+        int id = ids.removeInt(slot);
+        if (id == -1) {
+            return;
+        }
+        String name = names[id];
+        for (int i = 0; i + TRIGRAM_LENGTH <= name.length(); i++) {
+            removeFromIndex(nameIndex, trigram(name, i), id);
+        }
+        removeFromIndex(modIDIndex, modIDs[id], id);
+        for (String tag : tags[id]) {
+            removeFromIndex(tagIndex, tag, id);
+        }
+        slots[id] = null;
+        names[id] = null;
+        modIDs[id] = null;
+        tags[id] = null;
+        usedIds.clear(id);
+        freeIds.add(id);
+    }
+
+    public void clear() {
+        ids.clear();
+        freeIds.clear();
+        usedIds.clear();
+        Arrays.fill(slots, null);
+        Arrays.fill(names, null);
+        Arrays.fill(modIDs, null);
+        Arrays.fill(tags, null);
+        nextId = 0;
+        nameIndex.clear();
+        modIDIndex.clear();
+        tagIndex.clear();
+    }
+
+    private int allocateId() {
+        if (!freeIds.isEmpty()) {
+            return freeIds.removeInt(freeIds.size() - 1);
+        }
+        if (nextId == slots.length) {
+            int capacity = slots.length * 2;
+            slots = Arrays.copyOf(slots, capacity);
+            names = Arrays.copyOf(names, capacity);
+            modIDs = Arrays.copyOf(modIDs, capacity);
+            tags = Arrays.copyOf(tags, capacity);
+        }
+        return nextId++;
+    }
+
+    private static <KEY> void removeFromIndex(Map<KEY, BitSet> index, KEY key, int id) {
+        BitSet bits = index.get(key);
+        if (bits != null) {
+            bits.clear(id);
+            if (bits.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static long trigram(String text, int start) {
+        return (long) text.charAt(start) << 32 | (long) text.charAt(start + 1) << 16 | text.charAt(start + 2);
+    }
+
+    /**
+     * Finds all indexed slots matching the given query.
+     *
+     * @return A predicate that checks if a slot matched the query, only valid until the index is next modified.
+     */
+    public Predicate<IScrollableSlot> search(ISearchQuery query) {
+        BitSet matches = evaluate(query);
+        return slot -> {
+            int id = ids.getInt(slot);
+            return id != -1 && matches.get(id);
+        };
+    }
+
+    private BitSet evaluate(ISearchQuery query) {
+        if (query instanceof SearchQueryList queryList) {
+            if (queryList.getQueries().isEmpty()) {
+                // allow empty query lists to match all stacks
+                return (BitSet) usedIds.clone();
+            }
+            BitSet matches = new BitSet();
+            for (SearchQuery subQuery : queryList.getQueries()) {
+                matches.or(evaluate(subQuery.getQueryMap()));
+            }
+            return matches;
+        } else if (query instanceof SearchQuery searchQuery) {
+            return evaluate(searchQuery.getQueryMap());
+        }
+        //Unknown or invalid queries, check each stack
+        BitSet matches = new BitSet();
+        for (int id = usedIds.nextSetBit(0); id != -1; id = usedIds.nextSetBit(id + 1)) {
+            if (query.matches(slots[id].getItem().getStack())) {
+                matches.set(id);
+            }
+        }
+        return matches;
+    }
+
+    private BitSet evaluate(Map<QueryType, List<String>> queryMap) {
+        BitSet matches = null;
+        for (Map.Entry<QueryType, List<String>> entry : queryMap.entrySet()) {
+            QueryType type = entry.getKey();
+            if (type == QueryType.TOOLTIP) {
+                //Checked last against what is left
+                continue;
+            }
+            BitSet typeMatches = new BitSet();
+            for (String key : entry.getValue()) {
+                typeMatches.or(evaluate(type, key.toLowerCase(Locale.ROOT)));
+            }
+            if (matches == null) {
+                matches = typeMatches;
+            } else {
+                matches.and(typeMatches);
+            }
+            if (matches.isEmpty()) {
+                return matches;
+            }
+        }
+        if (matches == null) {
+            matches = (BitSet) usedIds.clone();
+        }
+        List<String> tooltipKeys = queryMap.get(QueryType.TOOLTIP);
+        if (tooltipKeys != null) {
+            for (int id = matches.nextSetBit(0); id != -1; id = matches.nextSetBit(id + 1)) {
+                ItemStack stack = slots[id].getItem().getStack();
+                if (tooltipKeys.stream().noneMatch(key -> QueryType.TOOLTIP.matches(key, stack))) {
+                    matches.clear(id);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private BitSet evaluate(QueryType type, String key) {
+        return switch (type) {
+            case NAME -> evaluateName(key);
+            case MOD_ID -> evaluateValues(modIDIndex, key);
+            case TAG -> evaluateValues(tagIndex, key);
+            default -> {
+                BitSet matches = new BitSet();
+                for (int id = usedIds.nextSetBit(0); id != -1; id = usedIds.nextSetBit(id + 1)) {
+                    if (type.matches(key, slots[id].getItem().getStack())) {
+                        matches.set(id);
+                    }
+                }
+                yield matches;
+            }
+        };
+    }
+
+    private BitSet evaluateName(String key) {
+        BitSet candidates;
+        if (key.length() < TRIGRAM_LENGTH) {
+            candidates = (BitSet) usedIds.clone();
+        } else {
+            candidates = null;
+            for (int i = 0; i + TRIGRAM_LENGTH <= key.length(); i++) {
+                BitSet withTrigram = nameIndex.get(trigram(key, i));
+                if (withTrigram == null) {
+                    return new BitSet();
+                } else if (candidates == null) {
+                    candidates = (BitSet) withTrigram.clone();
+                } else {
+                    candidates.and(withTrigram);
+                }
+            }
+        }
+        //Containing all the sequences of the key doesn't mean they are in the right order, so check the candidates
+        for (int id = candidates.nextSetBit(0); id != -1; id = candidates.nextSetBit(id + 1)) {
+            if (!names[id].contains(key)) {
+                candidates.clear(id);
+            }
+        }
+        return candidates;
+    }
+
+    private static BitSet evaluateValues(Map<String, BitSet> index, String key) {
+        BitSet matches = new BitSet();
+        for (Map.Entry<String, BitSet> entry : index.entrySet()) {
+            if (entry.getKey().contains(key)) {
+                matches.or(entry.getValue());
+            }
+        }
+        return matches;
+    }
+}
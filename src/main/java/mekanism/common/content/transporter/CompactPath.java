@@ -0,0 +1,195 @@
+package mekanism.common.content.transporter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+
+/**
+ * Compact representation of the path a {@link TransporterStack} is taking. Instead of storing each position in the path it stores the first position and the direction
+ * of each hop packed into three bits, so that a path of {@code n} positions takes roughly {@code 1 + n / 21} longs.
+ */
+public class CompactPath {
+
+    public static final CompactPath EMPTY = new CompactPath(0, 0, new long[0], new long[0]);
+
+    private static final int BITS_PER_HOP = 3;
+    private static final int HOPS_PER_LONG = Long.SIZE / BITS_PER_HOP;
+    private static final int HOP_MASK = (1 << BITS_PER_HOP) - 1;
+    /**
+     * Hop code for positions that are not adjacent to the previous position in the path. The position is instead stored in full in {@link #jumps}.
+     */
+    private static final int JUMP = 6;
+
+    private final long start;
+    private final int size;
+    private final long[] hops;
+    private final long[] jumps;
+
+    private CompactPath(long start, int size, long[] hops, long[] jumps) {
+        this.start = start;
+        this.size = size;
+        this.hops = hops;
+        this.jumps = jumps;
+    }
+
+    public static CompactPath of(List<BlockPos> positions) {
+        int size = positions.size();
+        if (size == 0) {
+            return EMPTY;
+        }
+        long[] hops = new long[hopArrayLength(size)];
+        long[] jumps = null;
+        int jumpCount = 0;
+        BlockPos previous = positions.get(0);
+        for (int i = 1; i < size; i++) {
+            BlockPos pos = positions.get(i);
+            Direction direction = Direction.fromNormal(pos.getX() - previous.getX(), pos.getY() - previous.getY(), pos.getZ() - previous.getZ());
+            long code;
+            if (direction == null) {
+                if (jumps == null) {
+                    jumps = new long[size - i];
+                }
+                jumps[jumpCount++] = pos.asLong();
+                code = JUMP;
+            } else {
+                code = direction.ordinal();
+            }
+            int hop = i - 1;
+            hops[hop / HOPS_PER_LONG] |= code << (BITS_PER_HOP * (hop % HOPS_PER_LONG));
+            previous = pos;
+        }
+        return new CompactPath(positions.get(0).asLong(), size, hops, jumps == null ? EMPTY.jumps : Arrays.copyOf(jumps, jumpCount));
+    }
+
+    private static int hopArrayLength(int size) {
+        return (size - 1 + HOPS_PER_LONG - 1) / HOPS_PER_LONG;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public BlockPos get(int index) {
+        return BlockPos.of(getLong(index));
+    }
+
+    public long getLong(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        long pos = start;
+        int jumpIndex = 0;
+        for (int hop = 0; hop < index; hop++) {
+            int code = getHop(hop);
+            if (code == JUMP) {
+                pos = jumps[jumpIndex++];
+            } else {
+                pos = BlockPos.offset(pos, EnumUtils.DIRECTIONS[code]);
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * @return The index of the first occurrence of the given position in the path, or {@code -1} if the path does not contain it.
+     */
+    public int indexOf(BlockPos position) {
+        if (size == 0) {
+            return -1;
+        }
+        long target = position.asLong();
+        long pos = start;
+        int jumpIndex = 0;
+        for (int index = 0; ; index++) {
+            if (pos == target) {
+                return index;
+            } else if (index == size - 1) {
+                return -1;
+            }
+            int code = getHop(index);
+            if (code == JUMP) {
+                pos = jumps[jumpIndex++];
+            } else {
+                pos = BlockPos.offset(pos, EnumUtils.DIRECTIONS[code]);
+            }
+        }
+    }
+
+    private int getHop(int hop) {
+        return (int) (hops[hop / HOPS_PER_LONG] >>> (BITS_PER_HOP * (hop % HOPS_PER_LONG))) & HOP_MASK;
+    }
+
+    public List<BlockPos> toList() {
+        List<BlockPos> positions = new ArrayList<>(size);
+        if (size > 0) {
+            long pos = start;
+            positions.add(BlockPos.of(pos));
+            int jumpIndex = 0;
+            for (int hop = 0; hop < size - 1; hop++) {
+                int code = getHop(hop);
+                if (code == JUMP) {
+                    pos = jumps[jumpIndex++];
+                } else {
+                    pos = BlockPos.offset(pos, EnumUtils.DIRECTIONS[code]);
+                }
+                positions.add(BlockPos.of(pos));
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Serializes this path into a long array of the form {@code [size, start, jumpCount, jumps..., hops...]}.
+     */
+    public long[] toLongArray() {
+        if (size == 0) {
+            return new long[]{0};
+        }
+        long[] data = new long[3 + jumps.length + hops.length];
+        data[0] = size;
+        data[1] = start;
+        data[2] = jumps.length;
+        System.arraycopy(jumps, 0, data, 3, jumps.length);
+        System.arraycopy(hops, 0, data, 3 + jumps.length, hops.length);
+        return data;
+    }
+
+    /**
+     * Deserializes a path written by {@link #toLongArray()}.
+     *
+     * @return The path, or {@link #EMPTY} if the data is not a valid path.
+     */
+    public static CompactPath fromLongArray(long[] data) {
+        if (data.length < 3 || data[0] <= 0 || data[0] > Integer.MAX_VALUE) {
+            return EMPTY;
+        }
+        int size = (int) data[0];
+        long jumpCount = data[2];
+        int hopCount = hopArrayLength(size);
+        if (jumpCount < 0 || data.length != 3 + jumpCount + hopCount) {
+            return EMPTY;
+        }
+        int jumpLength = (int) jumpCount;
+        long[] jumpPositions = jumpLength == 0 ? EMPTY.jumps : Arrays.copyOfRange(data, 3, 3 + jumpLength);
+        long[] hops = Arrays.copyOfRange(data, 3 + jumpLength, data.length);
+        CompactPath path = new CompactPath(data[1], size, hops, jumpPositions);
+        //Validate the hops so that corrupt data can't cause us to read past the end of the jumps or use an invalid direction
+        int jumpsFound = 0;
+        for (int hop = 0; hop < size - 1; hop++) {
+            int code = path.getHop(hop);
+            if (code == JUMP) {
+                jumpsFound++;
+            } else if (code > JUMP) {
+                return EMPTY;
+            }
+        }
+        return jumpsFound == jumpLength ? path : EMPTY;
+    }
+}
@@ -1,12 +1,21 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import javax.annotation.Nullable;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.lib.collection.LRU;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 
@@ -15,40 +24,185 @@ public class PathfinderCache {
     private PathfinderCache() {
     }
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private static final Map<UUID, NetworkPathCache> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private static long hits;
+    private static long misses;
+    private static long evictions;
 
     public static void onChanged(InventoryNetwork... networks) {
         for (InventoryNetwork network : networks) {
-            cachedPaths.remove(network.getUUID());
+            NetworkPathCache cache = cachedPaths.remove(network.getUUID());
+            if (cache != null) {
+                evictions += cache.size();
+            }
+        }
+    }
+
+    /**
+     * Removes any cached paths for the given network that pass through, end at, or are adjacent to one of the changed positions.
+     *
+     * @param network          Network that changed.
+     * @param changedPositions Positions, as longs, that changed.
+     */
+    public static void onChanged(@Nullable InventoryNetwork network, LongCollection changedPositions) {
+        if (network != null && !changedPositions.isEmpty()) {
+            UUID uuid = network.getUUID();
+            NetworkPathCache cache = cachedPaths.get(uuid);
+            if (cache != null) {
+                evictions += cache.invalidate(changedPositions);
+                if (cache.isEmpty()) {
+                    cachedPaths.remove(uuid);
+                }
+            }
         }
     }
 
     public static void addCachedPath(LogisticalTransporterBase start, PathData data, List<BlockPos> positions, double cost) {
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new Object2ObjectOpenHashMap<>()).put(data, new CachedPath(positions, cost));
+        NetworkPathCache cache = cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new NetworkPathCache());
+        evictions += cache.add(data, new CachedPath(positions, cost));
     }
 
     public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
         CachedPath ret = null;
-        UUID uuid = start.getTransmitterNetwork().getUUID();
-        if (cachedPaths.containsKey(uuid)) {
-            Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
+        NetworkPathCache cache = cachedPaths.get(start.getTransmitterNetwork().getUUID());
+        if (cache != null) {
             for (Direction side : sides) {
-                CachedPath test = pathMap.get(new PathData(start.getTilePos(), end, side));
+                CachedPath test = cache.get(new PathData(start.getTilePos(), end, side));
                 if (ret == null || (test != null && test.cost() < ret.cost())) {
                     ret = test;
                 }
             }
         }
+        if (ret == null) {
+            misses++;
+        } else {
+            hits++;
+        }
         return ret;
     }
 
     public static void reset() {
         cachedPaths.clear();
+        resetStats();
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters without clearing the cached paths.
+     */
+    public static void resetStats() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    /**
+     * @return A snapshot of the cache's hit, miss and eviction counters since the last reset, along with how many paths are currently cached.
+     */
+    public static CacheStats getStats() {
+        int cached = 0;
+        for (NetworkPathCache cache : cachedPaths.values()) {
+            cached += cache.size();
+        }
+        return new CacheStats(hits, misses, evictions, cachedPaths.size(), cached);
     }
 
     public record CachedPath(List<BlockPos> path, double cost) {
     }
 
+    public record CacheStats(long hits, long misses, long evictions, int networks, int cachedPaths) {
+    }
+
+    /**
+     * Cached paths for a single network, indexed by the positions each path depends on so that changes to a network only evict the paths they can affect.
+     */
+    private static class NetworkPathCache {
+
+        private final Map<PathData, CachedPath> paths = new Object2ObjectOpenHashMap<>();
+        private final Long2ObjectMap<Set<PathData>> dependencies = new Long2ObjectOpenHashMap<>();
+        private final LRU<PathData> lru = new LRU<>();
+
+        @Nullable
+        private CachedPath get(PathData data) {
+            CachedPath path = paths.get(data);
+            if (path != null) {
+                lru.moveUp(data);
+            }
+            return path;
+        }
+
+        /**
+         * @return The number of paths that were evicted to keep the cache within its size limit.
+         */
+        private int add(PathData data, CachedPath path) {
+            //Remove any existing path so that we don't leave behind stale dependencies
+            remove(data);
+            paths.put(data, path);
+            lru.add(data);
+            for (BlockPos pos : path.path()) {
+                dependencies.computeIfAbsent(pos.asLong(), p -> new ObjectOpenHashSet<>()).add(data);
+            }
+            int evicted = 0;
+            int maxSize = MekanismConfig.general.transporterPathCacheSize.get();
+            while (lru.size() > maxSize) {
+                //Evict the least recently used path
+                remove(lru.descendingIterator().next());
+                evicted++;
+            }
+            return evicted;
+        }
+
+        private void remove(PathData data) {
+            CachedPath path = paths.remove(data);
+            if (path != null) {
+                lru.remove(data);
+                for (BlockPos pos : path.path()) {
+                    long longPos = pos.asLong();
+                    Set<PathData> dependents = dependencies.get(longPos);
+                    if (dependents != null) {
+                        dependents.remove(data);
+                        if (dependents.isEmpty()) {
+                            dependencies.remove(longPos);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return The number of paths that were evicted.
+         */
+        private int invalidate(LongCollection changedPositions) {
+            Set<PathData> toRemove = new ObjectOpenHashSet<>();
+            for (LongIterator iterator = changedPositions.iterator(); iterator.hasNext(); ) {
+                long pos = iterator.nextLong();
+                collectDependents(pos, toRemove);
+                //Also include paths that go next to the changed position, as the change may have opened up a shorter route for them
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    collectDependents(BlockPos.offset(pos, direction), toRemove);
+                }
+            }
+            for (PathData data : toRemove) {
+                remove(data);
+            }
+            return toRemove.size();
+        }
+
+        private void collectDependents(long pos, Set<PathData> toRemove) {
+            Set<PathData> dependents = dependencies.get(pos);
+            if (dependents != null) {
+                toRemove.addAll(dependents);
+            }
+        }
+
+        private int size() {
+            return paths.size();
+        }
+
+        private boolean isEmpty() {
+            return paths.isEmpty();
+        }
+    }
+
     public static class PathData {
 
         private final BlockPos startTransporter;
@@ -77,4 +231,4 @@ public class PathfinderCache {
             return hash;
         }
     }
-}
\ No newline at end of file
+}
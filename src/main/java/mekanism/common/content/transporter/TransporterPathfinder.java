@@ -1,19 +1,22 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.text.EnumColor;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.InventoryNetwork.AcceptorData;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
@@ -22,6 +25,7 @@ import mekanism.common.content.transporter.PathfinderCache.PathData;
 import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder.DestChecker;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.SidedBlockPos;
+import mekanism.common.lib.collection.LongDoubleMinHeap;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.lib.transmitter.ConnectionType;
@@ -48,10 +52,45 @@ public final class TransporterPathfinder {
         Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, chunkMap);
         List<Destination> paths = new ArrayList<>();
-        for (AcceptorData data : acceptors) {
-            Destination path = getPath(network, data, start, stack, min, chunkMap);
-            if (path != null) {
-                paths.add(path);
+        if (MekanismConfig.general.transporterPathTree.get()) {
+            //Search the network once for paths to all the destinations that we don't have a valid cached path for
+            Map<AcceptorData, Destination> cachedDestinations = new Reference2ObjectOpenHashMap<>();
+            PathTree tree = null;
+            for (AcceptorData data : acceptors) {
+                if (data.getResponse().getSendingAmount() >= min) {
+                    Destination cached = getCachedPath(network, data, start, stack);
+                    if (cached == null) {
+                        if (tree == null) {
+                            tree = new PathTree(network, start.getTileWorld(), start.getTilePos(), stack);
+                        }
+                        tree.addDestination(data);
+                    } else {
+                        cachedDestinations.put(data, cached);
+                    }
+                }
+            }
+            Map<AcceptorData, TreePath> treePaths = tree == null ? Collections.emptyMap() : tree.find(chunkMap);
+            //Note: We add the destinations in the order of the acceptors so that destinations with equal scores stay in the same order
+            // they would be in if we had calculated each path individually
+            for (AcceptorData data : acceptors) {
+                Destination path = cachedDestinations.get(data);
+                if (path == null) {
+                    TreePath treePath = treePaths.get(data);
+                    if (treePath != null) {
+                        PathfinderCache.addCachedPath(start, new PathData(start.getTilePos(), data.getLocation(), treePath.side()), treePath.path(), treePath.cost());
+                        path = new Destination(treePath.path(), false, data.getResponse(), treePath.cost());
+                    }
+                }
+                if (path != null) {
+                    paths.add(path);
+                }
+            }
+        } else {
+            for (AcceptorData data : acceptors) {
+                Destination path = getPath(network, data, start, stack, min, chunkMap);
+                if (path != null) {
+                    paths.add(path);
+                }
             }
         }
         Collections.sort(paths);
@@ -72,16 +111,25 @@ public final class TransporterPathfinder {
         return true;
     }
 
+    @Nullable
+    private static Destination getCachedPath(InventoryNetwork network, AcceptorData data, LogisticalTransporterBase start, TransporterStack stack) {
+        CachedPath test = PathfinderCache.getCache(start, data.getLocation(), data.getSides());
+        if (test != null && checkPath(network, test.path(), stack)) {
+            return new Destination(test.path(), false, data.getResponse(), test.cost());
+        }
+        return null;
+    }
+
     @Nullable
     private static Destination getPath(InventoryNetwork network, AcceptorData data, LogisticalTransporterBase start, TransporterStack stack, int min,
           Long2ObjectMap<ChunkAccess> chunkMap) {
         TransitResponse response = data.getResponse();
         if (response.getSendingAmount() >= min) {
-            BlockPos dest = data.getLocation();
-            CachedPath test = PathfinderCache.getCache(start, dest, data.getSides());
-            if (test != null && checkPath(network, test.path(), stack)) {
-                return new Destination(test.path(), false, response, test.cost());
+            Destination cached = getCachedPath(network, data, start, stack);
+            if (cached != null) {
+                return cached;
             }
+            BlockPos dest = data.getLocation();
             Pathfinder p = new Pathfinder(new DestChecker() {
                 @Override
                 public boolean isValid(TransporterStack stack, Direction side, BlockEntity tile) {
@@ -345,16 +393,158 @@ public final class TransporterPathfinder {
         }
     }
 
+    /**
+     * @param path The path to the destination, starting with the destination and ending with the start transporter.
+     * @param side The side of the last transporter in the path that the destination is on.
+     * @param cost The cost of the path.
+     */
+    public record TreePath(List<BlockPos> path, Direction side, double cost) {
+    }
+
+    /**
+     * Single source shortest path search (Dijkstra) from a start transporter that calculates the paths to all the destinations of a stack with a single pass over the
+     * network. Destinations are checked exactly as {@link Pathfinder} checks them with the {@link DestChecker} used for {@link AcceptorData}.
+     */
+    public static class PathTree {
+
+        /**
+         * Sentinel used by {@link #navMap} to mark that a position has no parent. {@link Long#MAX_VALUE} is not a valid packed position that can be reached by the
+         * search as it would have to be outside the world's bounds.
+         */
+        private static final long NO_PARENT = Long.MAX_VALUE;
+
+        private final Long2ObjectMap<List<AcceptorData>> unresolvedDestinations = new Long2ObjectOpenHashMap<>();
+        private final Map<AcceptorData, TreePath> results = new Reference2ObjectOpenHashMap<>();
+        private final LongDoubleMinHeap openSet = new LongDoubleMinHeap();
+        private final LongSet closedSet = new LongOpenHashSet();
+        private final Long2LongOpenHashMap navMap = new Long2LongOpenHashMap();
+        private final Long2DoubleOpenHashMap gScore = new Long2DoubleOpenHashMap();
+        private final BlockPos.MutableBlockPos lookupPos = new BlockPos.MutableBlockPos();
+        private final InventoryNetwork network;
+        private final Level world;
+        private final BlockPos start;
+        private final TransporterStack transportStack;
+        private int remaining;
+
+        public PathTree(InventoryNetwork network, Level world, BlockPos start, TransporterStack stack) {
+            this.network = network;
+            this.world = world;
+            this.start = start;
+            transportStack = stack;
+            navMap.defaultReturnValue(NO_PARENT);
+        }
+
+        public void addDestination(AcceptorData data) {
+            unresolvedDestinations.computeIfAbsent(data.getLocation().asLong(), pos -> new ArrayList<>()).add(data);
+            remaining++;
+        }
+
+        /**
+         * Searches the network for the shortest path to each destination that has been added.
+         *
+         * @return Map of destinations to the path to them. Destinations that cannot be reached are not present.
+         */
+        public Map<AcceptorData, TreePath> find(Long2ObjectMap<ChunkAccess> chunkMap) {
+            long startLong = start.asLong();
+            gScore.put(startLong, 0D);
+            openSet.push(startLong, 0D);
+            while (remaining > 0 && !openSet.isEmpty()) {
+                long currentNode = openSet.poll();
+                if (!closedSet.add(currentNode)) {
+                    //If we have already processed this node via a cheaper route, skip the stale entry
+                    continue;
+                }
+                LogisticalTransporterBase currentNodeTransmitter = getTransmitter(currentNode);
+                if (currentNodeTransmitter == null) {
+                    continue;
+                }
+                double currentScore = openSet.lastPriority();
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    long neighbor = BlockPos.offset(currentNode, direction);
+                    LogisticalTransporterBase neighborTransmitter = getTransmitter(neighbor);
+                    if (transportStack.canInsertToTransporter(neighborTransmitter, direction, currentNodeTransmitter)) {
+                        //If the neighbor is a transporter and the stack is valid for it
+                        double tentativeG = currentScore + neighborTransmitter.getCost();
+                        if (!gScore.containsKey(neighbor) || tentativeG < gScore.get(neighbor)) {
+                            navMap.put(neighbor, currentNode);
+                            gScore.put(neighbor, tentativeG);
+                            openSet.push(neighbor, tentativeG);
+                        }
+                    } else {
+                        List<AcceptorData> destinations = unresolvedDestinations.get(neighbor);
+                        if (destinations != null) {
+                            //Else if the neighbor is one of our destinations, check if we can send to it
+                            resolveDestinations(currentNode, currentNodeTransmitter, direction, neighbor, destinations, chunkMap);
+                        }
+                    }
+                }
+            }
+            return results;
+        }
+
+        private void resolveDestinations(long currentNode, LogisticalTransporterBase currentNodeTransmitter, Direction direction, long neighbor,
+              List<AcceptorData> destinations, Long2ObjectMap<ChunkAccess> chunkMap) {
+            BlockPos destination = destinations.get(0).getLocation();
+            //Note: This mirrors the checks done by Pathfinder#isValidDestination
+            if (!currentNodeTransmitter.canEmitTo(direction) && !(destination.equals(transportStack.homeLocation) && currentNodeTransmitter.canConnect(direction))) {
+                return;
+            }
+            BlockEntity neighborTile = WorldUtils.getTileEntity(world, chunkMap, destination);
+            if (neighborTile == null) {
+                return;
+            }
+            List<BlockPos> path = null;
+            double cost = gScore.get(currentNode) + 1;
+            for (Iterator<AcceptorData> iterator = destinations.iterator(); iterator.hasNext(); ) {
+                AcceptorData data = iterator.next();
+                if (TransporterUtils.canInsert(neighborTile, transportStack.color, data.getResponse().getStack(), direction, false)) {
+                    if (path == null) {
+                        path = reconstructPath(destination, currentNode);
+                    }
+                    results.put(data, new TreePath(path, direction, cost));
+                    iterator.remove();
+                    remaining--;
+                }
+            }
+            if (destinations.isEmpty()) {
+                unresolvedDestinations.remove(neighbor);
+            }
+        }
+
+        @Nullable
+        private LogisticalTransporterBase getTransmitter(long pos) {
+            //Note: We look up using a mutable position to avoid allocating a new BlockPos for each neighbor we check
+            return network.getTransmitter(lookupPos.set(pos));
+        }
+
+        private List<BlockPos> reconstructPath(BlockPos destination, long nextNode) {
+            List<BlockPos> path = new ArrayList<>();
+            path.add(destination);
+            while (nextNode != NO_PARENT) {
+                path.add(BlockPos.of(nextNode));
+                nextNode = navMap.get(nextNode);
+            }
+            return path;
+        }
+    }
+
     public static class Pathfinder {
 
-        private final Set<BlockPos> openSet = new ObjectOpenHashSet<>();
-        private final Set<BlockPos> closedSet = new ObjectOpenHashSet<>();
-        private final Map<BlockPos, BlockPos> navMap = new Object2ObjectOpenHashMap<>();
-        private final Object2DoubleOpenHashMap<BlockPos> gScore = new Object2DoubleOpenHashMap<>();
-        private final Object2DoubleOpenHashMap<BlockPos> fScore = new Object2DoubleOpenHashMap<>();
+        /**
+         * Sentinel used by {@link #navMap} to mark that a position has no parent. {@link Long#MAX_VALUE} is not a valid packed position that can be reached by the
+         * pathfinder as it would have to be outside the world's bounds.
+         */
+        private static final long NO_PARENT = Long.MAX_VALUE;
+
+        private final LongDoubleMinHeap openSet = new LongDoubleMinHeap();
+        private final Long2LongOpenHashMap navMap = new Long2LongOpenHashMap();
+        private final Long2DoubleOpenHashMap gScore = new Long2DoubleOpenHashMap();
+        private final Long2DoubleOpenHashMap fScore = new Long2DoubleOpenHashMap();
+        private final BlockPos.MutableBlockPos lookupPos = new BlockPos.MutableBlockPos();
         private final InventoryNetwork network;
         private final BlockPos start;
         private final BlockPos finalNode;
+        private final long finalNodeLong;
         private final TransporterStack transportStack;
         private final DestChecker destChecker;
         private final Level world;
@@ -367,26 +557,29 @@ public final class TransporterPathfinder {
             this.network = network;
             this.world = world;
             this.finalNode = finalNode;
+            this.finalNodeLong = finalNode.asLong();
             this.start = start;
             transportStack = stack;
+            navMap.defaultReturnValue(NO_PARENT);
         }
 
         public boolean find(Long2ObjectMap<ChunkAccess> chunkMap) {
-            openSet.add(start);
-            gScore.put(start, 0D);
+            long startLong = start.asLong();
+            gScore.put(startLong, 0D);
             //Note: This is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
             double totalDistance = WorldUtils.distanceBetween(start, finalNode);
-            fScore.put(start, totalDistance);
+            fScore.put(startLong, totalDistance);
+            openSet.push(startLong, totalDistance);
             boolean hasValidDirection = false;
             LogisticalTransporterBase startTransmitter = network.getTransmitter(start);
             for (Direction direction : EnumUtils.DIRECTIONS) {
-                BlockPos neighbor = start.relative(direction);
-                LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighbor);
+                long neighbor = BlockPos.offset(startLong, direction);
+                LogisticalTransporterBase neighborTransmitter = getTransmitter(neighbor);
                 if (transportStack.canInsertToTransporter(neighborTransmitter, direction, startTransmitter)) {
                     //If we can insert into the transporter, mark that we have a valid path we can take
                     hasValidDirection = true;
                     break;
-                } else if (isValidDestination(start, startTransmitter, direction, neighbor, chunkMap)) {
+                } else if (isValidDestination(startLong, startTransmitter, direction, neighbor, chunkMap)) {
                     //Otherwise, if we are neighboring our destination, and we can emit to the location, or it is going back
                     // to its home location and can connect to it just exit early and return that this is the best path
                     return true;
@@ -399,44 +592,37 @@ public final class TransporterPathfinder {
             //If the blocks are very close together, allow for path finding up to four blocks away
             double maxSearchDistance = Math.max(2 * totalDistance, 4);
             while (!openSet.isEmpty()) {
-                BlockPos currentNode = null;
-                double lowestFScore = 0;
-                for (BlockPos node : openSet) {
-                    if (currentNode == null || fScore.getDouble(node) < lowestFScore) {
-                        currentNode = node;
-                        lowestFScore = fScore.getDouble(node);
-                    }
-                }
-                if (currentNode == null) {
-                    //If we have no current node, then exit
-                    break;
+                long currentNode = openSet.poll();
+                if (openSet.lastPriority() != fScore.get(currentNode)) {
+                    //If the entry is stale as we have since found a better route to the node, skip it as the better entry
+                    // has either already been processed or is still waiting in the open set
+                    continue;
                 }
-                //Remove the current node from unchecked and add it to checked
-                openSet.remove(currentNode);
-                closedSet.add(currentNode);
-                if (WorldUtils.distanceBetween(start, currentNode) > maxSearchDistance) {
+                //Mark the entry as processed so that if we encounter a duplicate entry for it with the same score we skip it
+                fScore.put(currentNode, Double.NaN);
+                if (distanceBetween(startLong, currentNode) > maxSearchDistance) {
                     //If it is too far away for us to keep considering then continue on and see if we have another path that may be valid
                     // Even if it currently has a bit higher of a score
                     continue;
                 }
-                LogisticalTransporterBase currentNodeTransmitter = network.getTransmitter(currentNode);
-                double currentScore = gScore.getDouble(currentNode);
+                LogisticalTransporterBase currentNodeTransmitter = getTransmitter(currentNode);
+                double currentScore = gScore.get(currentNode);
                 for (Direction direction : EnumUtils.DIRECTIONS) {
-                    BlockPos neighbor = currentNode.relative(direction);
-                    LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighbor);
+                    long neighbor = BlockPos.offset(currentNode, direction);
+                    LogisticalTransporterBase neighborTransmitter = getTransmitter(neighbor);
                     if (transportStack.canInsertToTransporter(neighborTransmitter, direction, currentNodeTransmitter)) {
                         //If the neighbor is a transporter and the stack is valid for it
                         double tentativeG = currentScore + neighborTransmitter.getCost();
-                        if (closedSet.contains(neighbor) && tentativeG >= gScore.getDouble(neighbor)) {
+                        if (gScore.containsKey(neighbor) && tentativeG >= gScore.get(neighbor)) {
+                            //If we already have a route to the neighbor that is at least as good, skip it
                             continue;
                         }
-                        if (!openSet.contains(neighbor) || tentativeG < gScore.getDouble(neighbor)) {
-                            navMap.put(neighbor, currentNode);
-                            gScore.put(neighbor, tentativeG);
-                            //Put the gScore plus estimate in the final score
-                            fScore.put(neighbor, tentativeG + WorldUtils.distanceBetween(neighbor, finalNode));
-                            openSet.add(neighbor);
-                        }
+                        navMap.put(neighbor, currentNode);
+                        gScore.put(neighbor, tentativeG);
+                        //Put the gScore plus estimate in the final score
+                        double neighborFScore = tentativeG + distanceBetween(neighbor, finalNodeLong);
+                        fScore.put(neighbor, neighborFScore);
+                        openSet.push(neighbor, neighborFScore);
                     } else if (isValidDestination(currentNode, currentNodeTransmitter, direction, neighbor, chunkMap)) {
                         //Else if the neighbor is the destination, and we can send to it
                         return true;
@@ -446,16 +632,29 @@ public final class TransporterPathfinder {
             return false;
         }
 
+        @Nullable
+        private LogisticalTransporterBase getTransmitter(long pos) {
+            //Note: We look up using a mutable position to avoid allocating a new BlockPos for each neighbor we check
+            return network.getTransmitter(lookupPos.set(pos));
+        }
+
+        private static double distanceBetween(long start, long end) {
+            double x = BlockPos.getX(start) - BlockPos.getX(end);
+            double y = BlockPos.getY(start) - BlockPos.getY(end);
+            double z = BlockPos.getZ(start) - BlockPos.getZ(end);
+            return Math.sqrt(x * x + y * y + z * z);
+        }
+
         /**
          * Checks if we have a valid connection to the destination and are able to emit to it. If we are this updates the side and results to the proper values.
          *
          * @return True if we found a valid connection to the destination and can insert into it, false otherwise
          */
-        private boolean isValidDestination(BlockPos start, @Nullable LogisticalTransporterBase startTransporter, Direction direction, BlockPos neighbor,
+        private boolean isValidDestination(long start, @Nullable LogisticalTransporterBase startTransporter, Direction direction, long neighbor,
               Long2ObjectMap<ChunkAccess> chunkMap) {
             //Check to make sure that it is the destination
-            if (startTransporter != null && neighbor.equals(finalNode)) {
-                BlockEntity neighborTile = WorldUtils.getTileEntity(world, chunkMap, neighbor);
+            if (startTransporter != null && neighbor == finalNodeLong) {
+                BlockEntity neighborTile = WorldUtils.getTileEntity(world, chunkMap, finalNode);
                 if (neighborTile != null && destChecker.isValid(transportStack, direction, neighborTile)) {
                     if (startTransporter.canEmitTo(direction) || (finalNode.equals(transportStack.homeLocation) && startTransporter.canConnect(direction))) {
                         //If it is, and we can emit to it (normal or push mode),
@@ -463,8 +662,8 @@ public final class TransporterPathfinder {
                         // we can connect to it (normal, push, or pull (should always be pull as otherwise canEmitTo would have been true)),
                         // then this is the proper path, so we mark it as so and return true indicating that we found and marked the ideal path
                         side = direction;
-                        results = reconstructPath(navMap, start);
-                        finalScore = gScore.getDouble(start) + WorldUtils.distanceBetween(start, finalNode);
+                        results = reconstructPath(start);
+                        finalScore = gScore.get(start) + distanceBetween(start, finalNodeLong);
                         return true;
                     }
                 }
@@ -472,10 +671,10 @@ public final class TransporterPathfinder {
             return false;
         }
 
-        private List<BlockPos> reconstructPath(Map<BlockPos, BlockPos> navMap, BlockPos nextNode) {
+        private List<BlockPos> reconstructPath(long nextNode) {
             List<BlockPos> path = new ArrayList<>();
-            while (nextNode != null) {
-                path.add(nextNode);
+            while (nextNode != NO_PARENT) {
+                path.add(BlockPos.of(nextNode));
                 nextNode = navMap.get(nextNode);
             }
             return path;
@@ -499,4 +698,4 @@ public final class TransporterPathfinder {
             }
         }
     }
-}
\ No newline at end of file
+}
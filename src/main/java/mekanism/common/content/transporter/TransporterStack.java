@@ -1,18 +1,19 @@
 package mekanism.common.content.transporter;
 
-import java.util.ArrayList;
 import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.NBTConstants;
 import mekanism.api.math.MathUtils;
 import mekanism.api.text.EnumColor;
+import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.TransporterPathfinder.Destination;
 import mekanism.common.content.transporter.TransporterPathfinder.IdlePathData;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.tile.TileEntityLogisticalSorter;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.NBTUtils;
 import mekanism.common.util.TransporterUtils;
 import mekanism.common.util.WorldUtils;
@@ -20,6 +21,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtUtils;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
@@ -28,6 +30,15 @@ import org.jetbrains.annotations.Contract;
 
 public class TransporterStack {
 
+    /**
+     * Neighbor code used when syncing to the client to represent there is no next/previous position.
+     */
+    private static final int NEIGHBOR_NONE = 6;
+    /**
+     * Neighbor code used when syncing to the client to represent the next/previous position is not adjacent to the transporter, and is synced in full.
+     */
+    private static final int NEIGHBOR_FULL = 7;
+
     public ItemStack itemStack = ItemStack.EMPTY;
 
     public int progress;
@@ -42,7 +53,12 @@ public class TransporterStack {
     private BlockPos clientNext;
     private BlockPos clientPrev;
     private Path pathType;
-    private List<BlockPos> pathToTarget = new ArrayList<>();
+    private CompactPath pathToTarget = CompactPath.EMPTY;
+    /**
+     * Path that was loaded from a save and has not yet been checked to see if it is still valid and can be resumed.
+     */
+    @Nullable
+    private CompactPath savedPath;
 
     public static TransporterStack readFromNBT(CompoundTag nbtTags) {
         TransporterStack stack = new TransporterStack();
@@ -50,15 +66,15 @@ public class TransporterStack {
         return stack;
     }
 
-    public static TransporterStack readFromUpdate(CompoundTag nbtTags) {
+    public static TransporterStack readFromUpdate(BlockPos transporterPos, CompoundTag nbtTags) {
         TransporterStack stack = new TransporterStack();
-        stack.readFromUpdateTag(nbtTags);
+        stack.readFromUpdateTag(transporterPos, nbtTags);
         return stack;
     }
 
-    public static TransporterStack readFromPacket(FriendlyByteBuf dataStream) {
+    public static TransporterStack readFromPacket(BlockPos transporterPos, FriendlyByteBuf dataStream) {
         TransporterStack stack = new TransporterStack();
-        stack.read(dataStream);
+        stack.read(transporterPos, dataStream);
         if (stack.progress == 0) {
             stack.progress = 5;
         }
@@ -70,25 +86,32 @@ public class TransporterStack {
         buf.writeVarInt(progress);
         buf.writeBlockPos(originalLocation);
         buf.writeEnum(pathType);
-        if (pathToTarget.indexOf(transporter.getTilePos()) > 0) {
-            buf.writeBoolean(true);
-            buf.writeBlockPos(getNext(transporter));
-        } else {
-            buf.writeBoolean(false);
+        BlockPos pos = transporter.getTilePos();
+        BlockPos next = getClientNext(transporter);
+        BlockPos prev = getPrev(transporter);
+        int nextCode = getNeighborCode(pos, next);
+        int prevCode = getNeighborCode(pos, prev);
+        //Send the next and previous positions relative to the transporter, only sending the full position if they aren't adjacent
+        buf.writeByte(packNeighborCodes(nextCode, prevCode));
+        if (nextCode == NEIGHBOR_FULL) {
+            buf.writeBlockPos(next);
+        }
+        if (prevCode == NEIGHBOR_FULL) {
+            buf.writeBlockPos(prev);
         }
-        buf.writeBlockPos(getPrev(transporter));
         buf.writeItem(itemStack);
     }
 
-    public void read(FriendlyByteBuf dataStream) {
+    public void read(BlockPos transporterPos, FriendlyByteBuf dataStream) {
         color = TransporterUtils.readColor(dataStream.readVarInt());
         progress = dataStream.readVarInt();
         originalLocation = dataStream.readBlockPos();
         pathType = dataStream.readEnum(Path.class);
-        if (dataStream.readBoolean()) {
-            clientNext = dataStream.readBlockPos();
-        }
-        clientPrev = dataStream.readBlockPos();
+        byte codes = dataStream.readByte();
+        int nextCode = unpackNextCode(codes);
+        int prevCode = unpackPrevCode(codes);
+        clientNext = nextCode == NEIGHBOR_FULL ? dataStream.readBlockPos() : getNeighbor(transporterPos, nextCode);
+        clientPrev = prevCode == NEIGHBOR_FULL ? dataStream.readBlockPos() : getNeighbor(transporterPos, prevCode);
         itemStack = dataStream.readItem();
     }
 
@@ -97,23 +120,71 @@ public class TransporterStack {
         updateTag.putInt(NBTConstants.PROGRESS, progress);
         updateTag.put(NBTConstants.ORIGINAL_LOCATION, NbtUtils.writeBlockPos(originalLocation));
         updateTag.putInt(NBTConstants.PATH_TYPE, pathType.ordinal());
-        if (pathToTarget.indexOf(transporter.getTilePos()) > 0) {
-            updateTag.put(NBTConstants.CLIENT_NEXT, NbtUtils.writeBlockPos(getNext(transporter)));
+        BlockPos pos = transporter.getTilePos();
+        BlockPos next = getClientNext(transporter);
+        BlockPos prev = getPrev(transporter);
+        int nextCode = getNeighborCode(pos, next);
+        int prevCode = getNeighborCode(pos, prev);
+        //Store the next and previous positions relative to the transporter, only storing the full position if they aren't adjacent
+        updateTag.putByte(NBTConstants.CLIENT_NEIGHBORS, packNeighborCodes(nextCode, prevCode));
+        if (nextCode == NEIGHBOR_FULL) {
+            updateTag.put(NBTConstants.CLIENT_NEXT, NbtUtils.writeBlockPos(next));
+        }
+        if (prevCode == NEIGHBOR_FULL) {
+            updateTag.put(NBTConstants.CLIENT_PREVIOUS, NbtUtils.writeBlockPos(prev));
         }
-        updateTag.put(NBTConstants.CLIENT_PREVIOUS, NbtUtils.writeBlockPos(getPrev(transporter)));
         itemStack.save(updateTag);
     }
 
-    public void readFromUpdateTag(CompoundTag updateTag) {
+    public void readFromUpdateTag(BlockPos transporterPos, CompoundTag updateTag) {
         NBTUtils.setEnumIfPresent(updateTag, NBTConstants.COLOR, TransporterUtils::readColor, color -> this.color = color);
         progress = updateTag.getInt(NBTConstants.PROGRESS);
         NBTUtils.setBlockPosIfPresent(updateTag, NBTConstants.ORIGINAL_LOCATION, coord -> originalLocation = coord);
         NBTUtils.setEnumIfPresent(updateTag, NBTConstants.PATH_TYPE, Path::byIndexStatic, type -> pathType = type);
+        if (updateTag.contains(NBTConstants.CLIENT_NEIGHBORS, Tag.TAG_BYTE)) {
+            byte codes = updateTag.getByte(NBTConstants.CLIENT_NEIGHBORS);
+            clientNext = getNeighbor(transporterPos, unpackNextCode(codes));
+            clientPrev = getNeighbor(transporterPos, unpackPrevCode(codes));
+        }
+        //Note: If the neighbors weren't adjacent, or the tag is from before they were stored relatively, the full positions are stored
         NBTUtils.setBlockPosIfPresent(updateTag, NBTConstants.CLIENT_NEXT, coord -> clientNext = coord);
         NBTUtils.setBlockPosIfPresent(updateTag, NBTConstants.CLIENT_PREVIOUS, coord -> clientPrev = coord);
         itemStack = ItemStack.of(updateTag);
     }
 
+    @Nullable
+    private BlockPos getClientNext(LogisticalTransporterBase transporter) {
+        return pathToTarget.indexOf(transporter.getTilePos()) > 0 ? getNext(transporter) : null;
+    }
+
+    private static int getNeighborCode(BlockPos pos, @Nullable BlockPos neighbor) {
+        if (neighbor == null) {
+            return NEIGHBOR_NONE;
+        }
+        Direction direction = Direction.fromNormal(neighbor.getX() - pos.getX(), neighbor.getY() - pos.getY(), neighbor.getZ() - pos.getZ());
+        return direction == null ? NEIGHBOR_FULL : direction.ordinal();
+    }
+
+    /**
+     * @apiNote Does not handle {@link #NEIGHBOR_FULL} as the full position has to be read separately.
+     */
+    @Nullable
+    private static BlockPos getNeighbor(BlockPos pos, int code) {
+        return code < NEIGHBOR_NONE ? pos.relative(EnumUtils.DIRECTIONS[code]) : null;
+    }
+
+    private static byte packNeighborCodes(int nextCode, int prevCode) {
+        return (byte) (nextCode << 3 | prevCode);
+    }
+
+    private static int unpackNextCode(byte codes) {
+        return codes >> 3 & 0b111;
+    }
+
+    private static int unpackPrevCode(byte codes) {
+        return codes & 0b111;
+    }
+
     public void write(CompoundTag nbtTags) {
         nbtTags.putInt(NBTConstants.COLOR, TransporterUtils.getColorIndex(color));
 
@@ -127,6 +198,10 @@ public class TransporterStack {
             nbtTags.put(NBTConstants.HOME_LOCATION, NbtUtils.writeBlockPos(homeLocation));
         }
         nbtTags.putInt(NBTConstants.PATH_TYPE, pathType.ordinal());
+        CompactPath path = savedPath == null ? pathToTarget : savedPath;
+        if (!path.isEmpty()) {
+            nbtTags.putLongArray(NBTConstants.PATH, path.toLongArray());
+        }
         itemStack.save(nbtTags);
     }
 
@@ -137,15 +212,54 @@ public class TransporterStack {
         NBTUtils.setEnumIfPresent(nbtTags, NBTConstants.IDLE_DIR, Direction::from3DDataValue, dir -> idleDir = dir);
         NBTUtils.setBlockPosIfPresent(nbtTags, NBTConstants.HOME_LOCATION, coord -> homeLocation = coord);
         NBTUtils.setEnumIfPresent(nbtTags, NBTConstants.PATH_TYPE, Path::byIndexStatic, type -> pathType = type);
+        //Note: Stacks saved before paths were persisted don't have a path stored, and will just calculate a new one when they start moving again
+        if (nbtTags.contains(NBTConstants.PATH, Tag.TAG_LONG_ARRAY)) {
+            CompactPath path = CompactPath.fromLongArray(nbtTags.getLongArray(NBTConstants.PATH));
+            savedPath = path.isEmpty() ? null : path;
+        }
         itemStack = ItemStack.of(nbtTags);
     }
 
+    /**
+     * Attempts to resume the path this stack had when it was saved, instead of calculating a new one.
+     *
+     * @return {@code true} if the saved path is still valid and is now the stack's path.
+     */
+    public boolean resumeSavedPath(LogisticalTransporterBase transporter) {
+        CompactPath path = savedPath;
+        savedPath = null;
+        if (path == null || pathType == null || pathType == Path.NONE || path.size() < 2) {
+            return false;
+        }
+        InventoryNetwork network = transporter.getTransmitterNetwork();
+        int index = path.indexOf(transporter.getTilePos());
+        if (network == null || index < 1) {
+            return false;
+        }
+        //Validate the transporters that are left in the path still exist and allow the stack through
+        for (int i = 1; i < index; i++) {
+            LogisticalTransporterBase transmitter = network.getTransmitter(path.get(i));
+            if (transmitter == null) {
+                return false;
+            }
+            EnumColor transmitterColor = transmitter.getColor();
+            if (transmitterColor != null && transmitterColor != color) {
+                return false;
+            }
+        }
+        pathToTarget = path;
+        TransporterManager.add(transporter.getTileWorld(), this);
+        initiatedPath = true;
+        return true;
+    }
+
     private void setPath(Level world, List<BlockPos> path, Path type) {
         //Make sure old path isn't null
         if (pathType != Path.NONE) {
             TransporterManager.remove(world, this);
         }
-        pathToTarget = path;
+        pathToTarget = CompactPath.of(path);
+        savedPath = null;
         pathType = type;
         if (pathType != Path.NONE) {
             TransporterManager.add(world, this);
@@ -153,10 +267,10 @@ public class TransporterStack {
     }
 
     public boolean hasPath() {
-        return pathToTarget != null && pathToTarget.size() >= 2;
+        return pathToTarget.size() >= 2;
     }
 
-    public List<BlockPos> getPath() {
+    public CompactPath getPath() {
         return pathToTarget;
     }
 
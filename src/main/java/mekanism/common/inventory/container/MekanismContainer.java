@@ -25,6 +25,7 @@ import mekanism.common.inventory.container.slot.IInsertableSlot;
 import mekanism.common.inventory.container.slot.InventoryContainerSlot;
 import mekanism.common.inventory.container.slot.MainInventorySlot;
 import mekanism.common.inventory.container.slot.OffhandSlot;
+import mekanism.common.inventory.container.sync.ContainerSyncStats;
 import mekanism.common.inventory.container.sync.ISyncableData;
 import mekanism.common.inventory.container.sync.ISyncableData.DirtyType;
 import mekanism.common.inventory.container.sync.SyncableBlockPos;
@@ -638,16 +639,21 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
         // they need it for before we add a bunch of extra logic to handle them
         if (inv.player instanceof ServerPlayer player) {
             //Only check tracked data for changes if we actually have any listeners
-            List<PropertyData> dirtyData = new ArrayList<>();
+            ContainerSyncStats.onBroadcast(getType());
+            //Note: We only create the list once we find dirty data, as most ticks nothing will have changed
+            List<PropertyData> dirtyData = null;
             for (short i = 0; i < trackedData.size(); i++) {
                 ISyncableData data = trackedData.get(i);
                 DirtyType dirtyType = data.isDirty();
                 if (dirtyType != DirtyType.CLEAN) {
+                    if (dirtyData == null) {
+                        dirtyData = new ArrayList<>();
+                    }
                     dirtyData.add(data.getPropertyData(i, dirtyType));
                 }
             }
-            if (!dirtyData.isEmpty()) {
-                Mekanism.packetHandler().sendTo(new PacketUpdateContainer((short) containerId, dirtyData), player);
+            if (dirtyData != null) {
+                Mekanism.packetHandler().sendTo(new PacketUpdateContainer((short) containerId, getType(), dirtyData), player);
             }
         }
     }
@@ -662,7 +668,7 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
                 dirtyData.add(trackedData.get(i).getPropertyData(i, DirtyType.DIRTY));
             }
             if (!dirtyData.isEmpty()) {
-                Mekanism.packetHandler().sendTo(new PacketUpdateContainer((short) containerId, dirtyData), player);
+                Mekanism.packetHandler().sendTo(new PacketUpdateContainer((short) containerId, getType(), dirtyData), player);
             }
         }
     }
@@ -1,13 +1,21 @@
 package mekanism.common.inventory.container;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.math.MathUtils;
@@ -19,6 +27,7 @@ import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOCraftingTransferHelper;
 import mekanism.common.content.qio.QIOCraftingWindow;
 import mekanism.common.content.qio.QIOFrequency;
+import mekanism.common.content.qio.QIOSearchIndex;
 import mekanism.common.content.qio.SearchQueryParser;
 import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
 import mekanism.common.inventory.GuiComponents.IDropdownEnum;
@@ -31,6 +40,7 @@ import mekanism.common.inventory.container.slot.VirtualInventoryContainerSlot;
 import mekanism.common.inventory.slot.CraftingWindowInventorySlot;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.network.to_client.PacketQIOItemViewerGuiSync.SyncedType;
 import mekanism.common.network.to_server.PacketGuiItemDataRequest;
 import mekanism.common.network.to_server.PacketQIOItemViewerSlotInteract;
 import mekanism.common.registration.impl.ContainerTypeRegistryObject;
@@ -51,6 +61,10 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     public static final int SLOTS_X_MIN = 8, SLOTS_X_MAX = 16, SLOTS_Y_MIN = 2, SLOTS_Y_MAX = 48;
     public static final int SLOTS_START_Y = 43;
     private static final int DOUBLE_CLICK_TRANSFER_DURATION = 20;
+    /**
+     * Maximum number of slots to insert into the sorted item list one at a time, any more than this and the list is sorted again instead.
+     */
+    private static final int MAX_SORTED_INSERTS = 32;
 
     public static int getSlotsYMax() {
         int maxY = (int) Math.ceil(Minecraft.getInstance().getWindow().getGuiScaledHeight() * 0.05 - 8) + 1;
@@ -61,6 +75,11 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private SortDirection sortDirection = MekanismConfig.client.qioItemViewerSortDirection.get();
 
     private Object2LongMap<UUIDAwareHashedItem> cachedInventory = new Object2LongOpenHashMap<>();
+    // the types the server has synced to us by the id it refers to them with
+    private Int2ObjectMap<ItemSlotData> syncedTypes = new Int2ObjectOpenHashMap<>();
+    // if the server is still sending us the initial pages of types
+    private boolean loadingTypes;
+    private QIOSearchIndex searchIndex = new QIOSearchIndex();
     private long cachedCountCapacity;
     private int cachedTypeCapacity;
     private long totalItems;
@@ -114,6 +133,9 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     protected void sync(QIOItemViewerContainer container) {
         container.sortType = sortType;
         container.cachedInventory = cachedInventory;
+        container.syncedTypes = syncedTypes;
+        container.loadingTypes = loadingTypes;
+        container.searchIndex = searchIndex;
         container.cachedCountCapacity = cachedCountCapacity;
         container.cachedTypeCapacity = cachedTypeCapacity;
         container.totalItems = totalItems;
@@ -295,31 +317,131 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         return transferSuccess(currentSlot, player, currentSlot.getItem(), ret);
     }
 
-    public void handleBatchUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        cachedInventory = itemMap;
+    public void handleBatchUpdate(List<SyncedType> types, boolean first, boolean last, long countCapacity, int typeCapacity) {
+        if (first) {
+            syncedTypes.clear();
+            cachedInventory.clear();
+            searchIndex.clear();
+            loadingTypes = true;
+        }
+        for (SyncedType syncedType : types) {
+            setSyncedType(syncedType, null);
+        }
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
-        syncItemList();
+        if (last) {
+            //Wait until we have been sent all the types before building the item list
+            loadingTypes = false;
+            syncItemList();
+        }
     }
 
-    public void handleUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        itemMap.object2LongEntrySet().forEach(entry -> {
-            long value = entry.getLongValue();
-            if (value == 0) {
-                cachedInventory.removeLong(entry.getKey());
-            } else {
-                cachedInventory.put(entry.getKey(), value);
-            }
-        });
+    public void handleUpdate(List<SyncedType> added, IntList changedIds, LongList countDeltas, IntList removedIds, long countCapacity, int typeCapacity) {
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
-        syncItemList();
+        //If we are still being sent the types, the item list will be built from scratch once we have all of them
+        boolean updateLists = !loadingTypes && itemList != null;
+        List<ItemSlotData> toInsert = new ArrayList<>();
+        //Note: We collect the slots to remove from the lists so that we can remove them all in a single pass rather than searching the lists for each one
+        Set<ItemSlotData> toRemove = updateLists ? new ReferenceOpenHashSet<>() : null;
+        for (SyncedType syncedType : added) {
+            toInsert.add(setSyncedType(syncedType, toRemove));
+        }
+        boolean reorder = updateLists && sortType == ListSortType.SIZE;
+        for (int i = 0, size = changedIds.size(); i < size; i++) {
+            //Note: We ignore changes to types we don't know about yet, as the page with them will include the changes
+            ItemSlotData slot = syncedTypes.get(changedIds.getInt(i));
+            if (slot != null) {
+                if (reorder) {
+                    //The position of the slot depends on its count, so remove it and insert it again after updating the count
+                    toRemove.add(slot);
+                    toInsert.add(slot);
+                }
+                long delta = countDeltas.getLong(i);
+                slot.count += delta;
+                cachedInventory.put(slot.itemType, slot.count);
+                totalItems += delta;
+            }
+        }
+        for (int i = 0, size = removedIds.size(); i < size; i++) {
+            removeSyncedType(syncedTypes.remove(removedIds.getInt(i)), toRemove);
+        }
+        if (updateLists && (!toInsert.isEmpty() || !toRemove.isEmpty())) {
+            updateLists(toRemove, toInsert);
+            //Any other searches we have cached are out of date, but the current one has been kept up to date
+            searchCache.clear();
+            if (searchList != null) {
+                searchCache.put(searchQuery, searchList);
+            }
+        }
+    }
+
+    /**
+     * @param toRemove Slots to remove from the item and search lists, or {@code null} if the lists are not being updated.
+     */
+    private ItemSlotData setSyncedType(SyncedType syncedType, @Nullable Set<ItemSlotData> toRemove) {
+        ItemSlotData slot = new ItemSlotData(syncedType.type(), syncedType.count());
+        removeSyncedType(syncedTypes.put(syncedType.id(), slot), toRemove);
+        cachedInventory.put(slot.itemType, slot.count);
+        searchIndex.add(slot);
+        totalItems += slot.count;
+        return slot;
+    }
+
+    /**
+     * @param toRemove Slots to remove from the item and search lists, or {@code null} if the lists are not being updated.
+     */
+    private void removeSyncedType(@Nullable ItemSlotData slot, @Nullable Set<ItemSlotData> toRemove) {
+        if (slot != null) {
+            cachedInventory.removeLong(slot.itemType);
+            searchIndex.remove(slot);
+            totalItems -= slot.count;
+            if (toRemove != null) {
+                toRemove.add(slot);
+            }
+        }
+    }
+
+    /**
+     * Removes the given slots from the item and search lists, and then inserts the given slots in their sorted positions.
+     */
+    private void updateLists(Set<ItemSlotData> toRemove, List<ItemSlotData> toInsert) {
+        if (!toRemove.isEmpty()) {
+            itemList.removeIf(toRemove::contains);
+        }
+        if (toInsert.size() > MAX_SORTED_INSERTS) {
+            //Sorting everything again is cheaper than finding the position of each slot one at a time
+            //Note: Sorting redoes the search, so we don't need to remove anything from the search list
+            itemList.addAll(toInsert);
+            sortItemList();
+            return;
+        }
+        if (searchList != null && !toRemove.isEmpty()) {
+            searchList.removeIf(toRemove::contains);
+        }
+        if (!toInsert.isEmpty()) {
+            Comparator<IScrollableSlot> comparator = sortType.getComparator(sortDirection);
+            ISearchQuery query = searchList == null || searchQuery.isEmpty() ? null : SearchQueryParser.parse(searchQuery);
+            for (ItemSlotData slot : toInsert) {
+                insertSorted(itemList, slot, comparator);
+                if (query != null && query.matches(slot.getItem().getStack())) {
+                    insertSorted(searchList, slot, comparator);
+                }
+            }
+        }
+    }
+
+    private static void insertSorted(List<IScrollableSlot> list, IScrollableSlot slot, Comparator<IScrollableSlot> comparator) {
+        int index = Collections.binarySearch(list, slot, comparator);
+        list.add(index < 0 ? -index - 1 : index, slot);
     }
 
     public void handleKill() {
         itemList = null;
         searchList = null;
         cachedInventory.clear();
+        syncedTypes.clear();
+        searchIndex.clear();
     }
 
     public QIOCraftingTransferHelper getTransferHelper(Player player, QIOCraftingWindow craftingWindow) {
@@ -331,21 +453,23 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             itemList = new ArrayList<>();
         }
         itemList.clear();
-        searchCache.clear();
         totalItems = 0;
-        cachedInventory.forEach((key, value) -> {
-            itemList.add(new ItemSlotData(key, key.getUUID(), value));
-            totalItems += value;
-        });
-        sortItemList();
-        if (!searchQuery.isEmpty()) {
-            updateSearch(searchQuery);
+        for (ItemSlotData slot : syncedTypes.values()) {
+            itemList.add(slot);
+            totalItems += slot.count;
         }
+        sortItemList();
     }
 
     private void sortItemList() {
         if (itemList != null) {
             sortType.sort(itemList, sortDirection);
+            //Searches keep the order of the item list, so need to be redone
+            searchCache.clear();
+            searchList = null;
+            if (!searchQuery.isEmpty()) {
+                updateSearch(searchQuery);
+            }
         }
     }
 
@@ -435,21 +559,18 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         }
 
         List<IScrollableSlot> list = searchCache.get(queryText);
-        if (list != null) {
-            searchList = list;
-            searchQuery = queryText;
-            return;
-        }
-        list = new ArrayList<>();
-        ISearchQuery query = SearchQueryParser.parse(queryText);
-        for (IScrollableSlot slot : itemList) {
-            if (query.matches(slot.getItem().getStack())) {
-                list.add(slot);
+        if (list == null) {
+            Predicate<IScrollableSlot> matches = searchIndex.search(SearchQueryParser.parse(queryText));
+            list = new ArrayList<>();
+            for (IScrollableSlot slot : itemList) {
+                if (matches.test(slot)) {
+                    list.add(slot);
+                }
             }
+            searchCache.put(queryText, list);
         }
         searchList = list;
         searchQuery = queryText;
-        searchCache.put(queryText, searchList);
     }
 
     @Override
@@ -480,13 +601,16 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
 
     public static class ItemSlotData implements IScrollableSlot {
 
-        private final HashedItem itemType;
-        private final UUID typeUUID;
-        private final long count;
+        private final UUIDAwareHashedItem itemType;
+        private long count;
+        // cached as they are used by the comparators when sorting
+        @Nullable
+        private String modID;
+        @Nullable
+        private String displayName;
 
-        private ItemSlotData(HashedItem itemType, UUID typeUUID, long count) {
+        private ItemSlotData(UUIDAwareHashedItem itemType, long count) {
             this.itemType = itemType;
-            this.typeUUID = typeUUID;
             this.count = count;
         }
 
@@ -497,7 +621,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
 
         @Override
         public UUID getItemUUID() {
-            return typeUUID;
+            return itemType.getUUID();
         }
 
         @Override
@@ -507,12 +631,18 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
 
         @Override
         public String getModID() {
-            return MekanismUtils.getModId(getItem().getStack());
+            if (modID == null) {
+                modID = MekanismUtils.getModId(getItem().getStack());
+            }
+            return modID;
         }
 
         @Override
         public String getDisplayName() {
-            return getItem().getStack().getHoverName().getString();
+            if (displayName == null) {
+                displayName = getItem().getStack().getHoverName().getString();
+            }
+            return displayName;
         }
     }
 
@@ -567,7 +697,11 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         }
 
         public void sort(List<IScrollableSlot> list, SortDirection direction) {
-            list.sort(direction.isAscending() ? ascendingComparator : descendingComparator);
+            list.sort(getComparator(direction));
+        }
+
+        public Comparator<IScrollableSlot> getComparator(SortDirection direction) {
+            return direction.isAscending() ? ascendingComparator : descendingComparator;
         }
 
         @Override
@@ -0,0 +1,96 @@
+package mekanism.common.inventory.container.sync;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.world.inventory.MenuType;
+
+/**
+ * Keeps track of how much tracked data each type of container sends to the players that have it open, so that containers that send a lot of data each tick can be
+ * found, for example via {@code /mek debug container_sync}.
+ *
+ * @apiNote Only used on the server thread.
+ */
+public class ContainerSyncStats {
+
+    private static final Map<MenuType<?>, SyncStats> stats = new Reference2ObjectOpenHashMap<>();
+
+    private ContainerSyncStats() {
+    }
+
+    /**
+     * Called each tick a container of the given type checks its tracked data for changes.
+     */
+    public static void onBroadcast(MenuType<?> type) {
+        stats.computeIfAbsent(type, SyncStats::new).ticks++;
+    }
+
+    /**
+     * Called when tracked data of a container of the given type has been encoded to be sent.
+     *
+     * @param bytes Number of bytes the encoded data takes up.
+     */
+    public static void onSent(MenuType<?> type, int bytes) {
+        SyncStats typeStats = stats.computeIfAbsent(type, SyncStats::new);
+        typeStats.packets++;
+        typeStats.bytes += bytes;
+    }
+
+    /**
+     * @return Stats of all container types that have sent data, ordered by the most bytes sent per tick.
+     */
+    public static List<SyncStats> getStats() {
+        List<SyncStats> sorted = new ArrayList<>();
+        for (SyncStats typeStats : stats.values()) {
+            if (typeStats.packets > 0) {
+                sorted.add(typeStats);
+            }
+        }
+        sorted.sort(Comparator.comparingDouble(SyncStats::getBytesPerTick).reversed());
+        return sorted;
+    }
+
+    public static void reset() {
+        stats.clear();
+    }
+
+    public static class SyncStats {
+
+        private final MenuType<?> type;
+        private long ticks;
+        private long packets;
+        private long bytes;
+
+        private SyncStats(MenuType<?> type) {
+            this.type = type;
+        }
+
+        public MenuType<?> getType() {
+            return type;
+        }
+
+        /**
+         * @return Total of the number of ticks each container of this type has been open for.
+         */
+        public long getTicks() {
+            return ticks;
+        }
+
+        public long getPackets() {
+            return packets;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return Average number of bytes a container of this type sends each tick it is open.
+         */
+        public double getBytesPerTick() {
+            return ticks == 0 ? bytes : bytes / (double) ticks;
+        }
+    }
+}
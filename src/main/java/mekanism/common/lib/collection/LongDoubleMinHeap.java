@@ -0,0 +1,106 @@
+package mekanism.common.lib.collection;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary min heap of packed long values (such as {@link net.minecraft.core.BlockPos#asLong()}) ordered by a primitive double priority. Backed by parallel primitive
+ * arrays so that pushing and polling do not allocate once the heap has grown to the size it needs.
+ *
+ * @apiNote This heap does not support changing the priority of an element that has already been added. Instead, callers are expected to push the element again with
+ * its new priority and skip stale entries when they are polled (lazy deletion).
+ */
+public class LongDoubleMinHeap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] values;
+    private double[] priorities;
+    private int size;
+    private double lastPriority;
+
+    public LongDoubleMinHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongDoubleMinHeap(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        values = new long[capacity];
+        priorities = new double[capacity];
+    }
+
+    public void push(long value, double priority) {
+        if (size == values.length) {
+            int newCapacity = values.length << 1;
+            values = Arrays.copyOf(values, newCapacity);
+            priorities = Arrays.copyOf(priorities, newCapacity);
+        }
+        //Sift up
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            values[index] = values[parent];
+            priorities[index] = priorities[parent];
+            index = parent;
+        }
+        values[index] = value;
+        priorities[index] = priority;
+    }
+
+    /**
+     * Removes and returns the value with the lowest priority. The priority it was stored with can be retrieved afterwards via {@link #lastPriority()}.
+     */
+    public long poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        long result = values[0];
+        lastPriority = priorities[0];
+        size--;
+        if (size > 0) {
+            long value = values[size];
+            double priority = priorities[size];
+            //Sift down
+            int index = 0;
+            int half = size >>> 1;
+            while (index < half) {
+                int child = (index << 1) + 1;
+                int right = child + 1;
+                if (right < size && priorities[right] < priorities[child]) {
+                    child = right;
+                }
+                if (priority <= priorities[child]) {
+                    break;
+                }
+                values[index] = values[child];
+                priorities[index] = priorities[child];
+                index = child;
+            }
+            values[index] = value;
+            priorities[index] = priority;
+        }
+        return result;
+    }
+
+    /**
+     * @return The priority of the value that was most recently returned by {@link #poll()}.
+     */
+    public double lastPriority() {
+        return lastPriority;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
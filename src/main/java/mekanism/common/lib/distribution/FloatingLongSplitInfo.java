@@ -1,32 +1,34 @@
 package mekanism.common.lib.distribution;
 
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 
 public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
 
-    private FloatingLong amountToSplit;
+    private final FloatingLongAccumulator amountToSplit;
+    private final FloatingLongAccumulator sentSoFar = new FloatingLongAccumulator();
+    //Used for calculating the new amount per target so that we only have to create a new object if it actually changed
+    private final FloatingLongAccumulator newAmountPerTarget = new FloatingLongAccumulator();
     private FloatingLong amountPerTarget;
-    private FloatingLong sentSoFar;
 
     public FloatingLongSplitInfo(FloatingLong amountToSplit, int totalTargets) {
         super(totalTargets);
-        this.amountToSplit = amountToSplit.copy();
+        this.amountToSplit = new FloatingLongAccumulator(amountToSplit);
         amountPerTarget = toSplitAmong == 0 ? FloatingLong.ZERO : amountToSplit.divide(toSplitAmong);
-        sentSoFar = FloatingLong.ZERO;
     }
 
     @Override
     public void send(FloatingLong amountNeeded) {
         //If we are giving it, then lower the amount we are checking/splitting
-        amountToSplit = amountToSplit.minusEqual(amountNeeded);
-        sentSoFar = sentSoFar.plusEqual(amountNeeded);
+        amountToSplit.subtract(amountNeeded);
+        sentSoFar.add(amountNeeded);
         toSplitAmong--;
         //Only recalculate it if it is not willing to accept/doesn't want the
         // full per side split
         if (!amountNeeded.equals(amountPerTarget) && toSplitAmong != 0) {
-            FloatingLong amountPerLast = amountPerTarget;
-            amountPerTarget = amountToSplit.divide(toSplitAmong);
-            if (!amountPerChanged && !amountPerTarget.equals(amountPerLast)) {
+            newAmountPerTarget.set(amountToSplit).divide(toSplitAmong);
+            if (!newAmountPerTarget.equals(amountPerTarget)) {
+                amountPerTarget = newAmountPerTarget.toFloatingLong();
                 amountPerChanged = true;
             }
         }
@@ -46,6 +48,6 @@ public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
 
     @Override
     public FloatingLong getTotalSent() {
-        return sentSoFar;
+        return sentSoFar.isZero() ? FloatingLong.ZERO : sentSoFar.toFloatingLong();
     }
 }
\ No newline at end of file
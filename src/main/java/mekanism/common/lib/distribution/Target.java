@@ -1,10 +1,13 @@
 package mekanism.common.lib.distribution;
 
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.Map;
+import javax.annotation.Nullable;
 
 /**
  * Keeps track of a target for emitting from various networks.
@@ -24,6 +27,12 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
      */
     protected final Collection<HandlerType<HANDLER, TYPE>> needed;
 
+    /**
+     * Amounts handlers were already simulated to accept when they were added, so that they don't have to be simulated again when sending.
+     */
+    @Nullable
+    private Map<HANDLER, TYPE> simulatedAmounts;
+
     private int handlerCount = 0;
 
     protected EXTRA extra;
@@ -48,10 +57,39 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
         handlerCount++;
     }
 
+    /**
+     * Adds a handler that has already been simulated to accept the given amount of what is going to be sent to this target, so that it does not need to be simulated
+     * again in {@link #sendPossible(Object, SplitInfo)}.
+     *
+     * @param handler         Handler to add.
+     * @param simulatedAmount Amount the handler was simulated to accept.
+     */
+    public void addHandler(HANDLER handler, TYPE simulatedAmount) {
+        addHandler(handler);
+        if (simulatedAmounts == null) {
+            simulatedAmounts = new Reference2ObjectOpenHashMap<>();
+        }
+        simulatedAmounts.put(handler, simulatedAmount);
+    }
+
     public int getHandlerCount() {
         return handlerCount;
     }
 
+    /**
+     * Removes all handlers from this target so that it can be reused for another transfer without having to allocate a new target.
+     *
+     * @apiNote Not supported by targets that were created from an existing collection of handlers.
+     */
+    public void clear() {
+        handlers.clear();
+        needed.clear();
+        if (simulatedAmounts != null) {
+            simulatedAmounts.clear();
+        }
+        handlerCount = 0;
+    }
+
     /**
      * Sends the remaining amount to each handler we still have not settled on an amount for. We increment the amount sent in splitInfo as well as adjust the split as
      * needed if one ends up accepting less than it originally wanted. (The most likely case this would change is with multi-blocks where it may return the same desire to
@@ -97,7 +135,11 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
      */
     public void sendPossible(EXTRA toSend, SplitInfo<TYPE> splitInfo) {
         for (HANDLER entry : handlers) {
-            TYPE amountNeeded = simulate(entry, toSend);
+            //Note: We remove the simulated amount so that if the same handler was added multiple times, we simulate it again for the later occurrences
+            TYPE amountNeeded = simulatedAmounts == null ? null : simulatedAmounts.remove(entry);
+            if (amountNeeded == null) {
+                amountNeeded = simulate(entry, toSend);
+            }
             if (amountNeeded.compareTo(splitInfo.getShareAmount()) <= 0) {
                 //Add the amount, in case something changed from simulation only mark actual sent amount
                 // in split info
@@ -0,0 +1,168 @@
+package mekanism.common.lib.math.voxel;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import javax.annotation.Nonnull;
+import net.minecraft.core.BlockPos;
+
+/**
+ * Set of positions inside a {@link VoxelCuboid}, stored as one bit per position of the cuboid rather than as boxed {@link BlockPos}es. Positions outside the cuboid
+ * can't be added, and are never contained.
+ */
+public class CuboidPositionSet extends AbstractSet<BlockPos> {
+
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int length;
+    private final int height;
+    private final int width;
+    private final BitSet positions;
+    private int size;
+
+    public CuboidPositionSet(VoxelCuboid cuboid) {
+        BlockPos min = cuboid.getMinPos();
+        minX = min.getX();
+        minY = min.getY();
+        minZ = min.getZ();
+        length = cuboid.length();
+        height = cuboid.height();
+        width = cuboid.width();
+        positions = new BitSet(length * height * width);
+    }
+
+    /**
+     * @return Index of the position in the cuboid, or {@code -1} if it is outside the cuboid.
+     */
+    private int index(int x, int y, int z) {
+        x -= minX;
+        y -= minY;
+        z -= minZ;
+        if (x < 0 || x >= length || y < 0 || y >= height || z < 0 || z >= width) {
+            return -1;
+        }
+        return (y * width + z) * length + x;
+    }
+
+    public boolean contains(int x, int y, int z) {
+        int index = index(x, y, z);
+        return index != -1 && positions.get(index);
+    }
+
+    /**
+     * @param packedPos Position packed by {@link BlockPos#asLong()}.
+     */
+    public boolean contains(long packedPos) {
+        return contains(BlockPos.getX(packedPos), BlockPos.getY(packedPos), BlockPos.getZ(packedPos));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof BlockPos pos && contains(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * @throws IllegalArgumentException if the position is outside the cuboid.
+     */
+    @Override
+    public boolean add(BlockPos pos) {
+        int index = index(pos.getX(), pos.getY(), pos.getZ());
+        if (index == -1) {
+            throw new IllegalArgumentException("Position " + pos + " is outside the cuboid.");
+        } else if (positions.get(index)) {
+            return false;
+        }
+        positions.set(index);
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o instanceof BlockPos pos) {
+            int index = index(pos.getX(), pos.getY(), pos.getZ());
+            if (index != -1 && positions.get(index)) {
+                positions.clear(index);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        positions.clear();
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private BlockPos getPos(int index) {
+        int x = index % length;
+        int rest = index / length;
+        return new BlockPos(minX + x, minY + rest / width, minZ + rest % width);
+    }
+
+    @Nonnull
+    @Override
+    public Iterator<BlockPos> iterator() {
+        return new Iterator<>() {
+            private int next = positions.nextSetBit(0);
+            private int last = -1;
+
+            @Override
+            public boolean hasNext() {
+                return next != -1;
+            }
+
+            @Override
+            public BlockPos next() {
+                if (next == -1) {
+                    throw new NoSuchElementException();
+                }
+                last = next;
+                next = positions.nextSetBit(next + 1);
+                return getPos(last);
+            }
+
+            @Override
+            public void remove() {
+                if (last == -1) {
+                    throw new IllegalStateException();
+                }
+                positions.clear(last);
+                size--;
+                last = -1;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        } else if (o instanceof CuboidPositionSet other && minX == other.minX && minY == other.minY && minZ == other.minZ && length == other.length &&
+                   height == other.height && width == other.width) {
+            return positions.equals(other.positions);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        //Note: We have to match the hash code of other sets of the same positions, so we sum the hash codes of the positions the same way Vec3i calculates them
+        int hash = 0;
+        for (int index = positions.nextSetBit(0); index != -1; index = positions.nextSetBit(index + 1)) {
+            int x = index % length;
+            int rest = index / length;
+            hash += ((minY + rest / width) + (minZ + rest % width) * 31) * 31 + minX + x;
+        }
+        return hash;
+    }
+}
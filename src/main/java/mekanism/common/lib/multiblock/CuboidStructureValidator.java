@@ -1,7 +1,10 @@
 package mekanism.common.lib.multiblock;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import mekanism.common.MekanismLang;
 import mekanism.common.lib.math.voxel.IShape;
@@ -143,6 +146,60 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         return FormationResult.SUCCESS;
     }
 
+    @Override
+    public boolean revalidateInner(T structure, Set<BlockPos> changed, Long2ObjectMap<ChunkAccess> chunkMap) {
+        cuboid = structure.getBounds();
+        List<BlockPos> added = new ArrayList<>();
+        List<BlockPos> removed = new ArrayList<>();
+        for (BlockPos pos : changed) {
+            if (getStructureRequirement(pos) != StructureRequirement.INNER) {
+                return false;
+            }
+            Optional<BlockState> optionalState = WorldUtils.getBlockState(world, chunkMap, pos);
+            if (optionalState.isEmpty()) {
+                return false;
+            }
+            BlockState state = optionalState.get();
+            if (!validateInner(state, chunkMap, pos) || !canChangeInner(structure, pos, state)) {
+                //Let the full validation figure out if the structure is still valid and, if not, why
+                return false;
+            }
+            if (state.isAir()) {
+                removed.add(pos);
+            } else {
+                added.add(pos);
+            }
+        }
+        for (BlockPos pos : removed) {
+            structure.internalLocations.remove(pos);
+        }
+        for (BlockPos pos : added) {
+            structure.internalLocations.add(pos);
+            BlockEntity tile = WorldUtils.getTileEntity(world, chunkMap, pos);
+            if (tile instanceof IInternalMultiblock internalMultiblock) {
+                internalMultiblock.setMultiblock(structure);
+            }
+        }
+        applyInnerChanges(structure, changed);
+        return true;
+    }
+
+    /**
+     * Checks if an inner position of a formed structure can change to the given state without it affecting whether the structure is valid. By default, this is only the
+     * case if the position was air before and still is.
+     *
+     * @param state New state at the position, which has already passed {@link #validateInner(BlockState, Long2ObjectMap, BlockPos)}.
+     */
+    protected boolean canChangeInner(T structure, BlockPos pos, BlockState state) {
+        return state.isAir() && !structure.internalLocations.contains(pos);
+    }
+
+    /**
+     * Called after the changed inner positions of a formed structure have been checked, to update anything the structure keeps track of about its inner blocks.
+     */
+    protected void applyInnerChanges(T structure, Set<BlockPos> changed) {
+    }
+
     protected StructureRequirement getStructureRequirement(BlockPos pos) {
         WallRelative relative = cuboid.getWallRelative(pos);
         if (relative.isOnEdge()) {
@@ -2,17 +2,20 @@ package mekanism.common.lib.multiblock;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 import mekanism.api.text.EnumColor;
 import mekanism.api.text.ILangEntry;
 import mekanism.common.MekanismLang;
+import mekanism.common.lib.math.voxel.CuboidPositionSet;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.util.EnumUtils;
 import net.minecraft.core.BlockPos;
@@ -32,8 +35,9 @@ public class FormationProtocol<T extends MultiblockData> {
     private final Structure structure;
     private final MultiblockManager<T> manager;
 
-    public final Set<BlockPos> locations = new ObjectOpenHashSet<>();
-    public final Set<BlockPos> internalLocations = new ObjectOpenHashSet<>();
+    //Note: These get created once the bounds of the structure are known
+    public Set<BlockPos> locations = Collections.emptySet();
+    public Set<BlockPos> internalLocations = Collections.emptySet();
     public final Set<ValveData> valves = new ObjectOpenHashSet<>();
     public final Set<UUID> idsFound = new ObjectOpenHashSet<>();
 
@@ -48,6 +52,8 @@ public class FormationProtocol<T extends MultiblockData> {
         if (!structure.setShape(validator.getShape())) {
             return fail(FormationResult.FAIL);
         }
+        locations = new CuboidPositionSet(structure.getBounds());
+        internalLocations = new CuboidPositionSet(structure.getBounds());
 
         Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         FormationResult result = validator.validate(this, chunkMap);
@@ -103,6 +109,19 @@ public class FormationProtocol<T extends MultiblockData> {
         return result.getFormationResult();
     }
 
+    /**
+     * Checks just the inner positions of the formed multiblock that changed since it was last checked, instead of validating the entire structure again.
+     *
+     * @return {@code true} if the changes were applied to the multiblock, {@code false} if the entire structure needs to be validated again.
+     */
+    public boolean revalidateInner(T multiblock) {
+        IStructureValidator<T> validator = manager.createValidator();
+        validator.init(pointer.getTileWorld(), manager, structure);
+        boolean applied = validator.revalidateInner(multiblock, multiblock.getChangedInnerPositions(), new Long2ObjectOpenHashMap<>());
+        multiblock.getChangedInnerPositions().clear();
+        return applied;
+    }
+
     protected static Component text(BlockPos pos) {
         return MekanismLang.GENERIC_PARENTHESIS.translate(MekanismLang.GENERIC_BLOCK_POS.translate(pos.getX(), pos.getY(), pos.getZ()));
     }
@@ -111,25 +130,35 @@ public class FormationProtocol<T extends MultiblockData> {
         return explore(start, checker, MAX_SIZE * MAX_SIZE * MAX_SIZE);
     }
 
+    /**
+     * Flood fills from the given position, through all positions that pass the given checker.
+     *
+     * @param checker Checks if a position should be included, the position passed to it is mutable so must not be stored.
+     *
+     * @return The number of positions found, stopping once the max count has been reached.
+     */
     public static int explore(BlockPos start, Predicate<BlockPos> checker, int maxCount) {
         if (!checker.test(start)) {
             return 0;
         }
 
-        Queue<BlockPos> openSet = new LinkedList<>();
-        Set<BlockPos> traversed = new ObjectOpenHashSet<>();
-        openSet.add(start);
-        traversed.add(start);
+        //Note: We keep track of positions by their packed value to avoid having to create a BlockPos for each position
+        LongArrayFIFOQueue openSet = new LongArrayFIFOQueue();
+        LongSet traversed = new LongOpenHashSet();
+        BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+        long startPos = start.asLong();
+        openSet.enqueue(startPos);
+        traversed.add(startPos);
         while (!openSet.isEmpty()) {
-            BlockPos ptr = openSet.poll();
+            long ptr = openSet.dequeueLong();
             int traversedSize = traversed.size();
             if (traversedSize >= maxCount) {
                 return traversedSize;
             }
             for (Direction side : EnumUtils.DIRECTIONS) {
-                BlockPos offset = ptr.relative(side);
-                if (!traversed.contains(offset) && checker.test(offset)) {
-                    openSet.add(offset);
+                long offset = BlockPos.offset(ptr, side);
+                if (!traversed.contains(offset) && checker.test(mutablePos.set(offset))) {
+                    openSet.enqueue(offset);
                     traversed.add(offset);
                 }
             }
@@ -1,8 +1,10 @@
 package mekanism.common.lib.multiblock;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import java.util.Set;
 import mekanism.common.lib.math.voxel.IShape;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
+import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
 
@@ -17,4 +19,17 @@ public interface IStructureValidator<T extends MultiblockData> {
     FormationResult postcheck(T structure, Long2ObjectMap<ChunkAccess> chunkMap);
 
     IShape getShape();
+
+    /**
+     * Checks just the given inner positions of an already formed structure, and if the changes to them can't affect whether the structure is valid, applies them to the
+     * structure.
+     *
+     * @param structure Formed structure.
+     * @param changed   Inner positions that changed since the structure was last checked.
+     *
+     * @return {@code true} if the changes were applied, {@code false} if the entire structure needs to be validated again.
+     */
+    default boolean revalidateInner(T structure, Set<BlockPos> changed, Long2ObjectMap<ChunkAccess> chunkMap) {
+        return false;
+    }
 }
@@ -64,6 +64,11 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
      */
     public Set<BlockPos> internalLocations = new ObjectOpenHashSet<>();
     public Set<ValveData> valves = new ObjectOpenHashSet<>();
+    /**
+     * Inner positions that changed since this multiblock was last checked, so that the master can check just these positions rather than validating the entire structure
+     * again. Only used on the server.
+     */
+    private final Set<BlockPos> changedInnerPositions = new ObjectOpenHashSet<>();
 
     @ContainerSync(getter = "getVolume", setter = "setVolume")
     private int volume;
@@ -229,6 +234,22 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
         inventoryID = null;
         formed = false;
         recheckStructure = false;
+        changedInnerPositions.clear();
+    }
+
+    /**
+     * Marks an inner position as changed, so that the master checks it on its next update and re-validates the structure if the change may affect whether it is valid.
+     */
+    public void markInnerChanged(BlockPos pos) {
+        changedInnerPositions.add(pos.immutable());
+    }
+
+    public boolean hasChangedInnerPositions() {
+        return !changedInnerPositions.isEmpty();
+    }
+
+    Set<BlockPos> getChangedInnerPositions() {
+        return changedInnerPositions;
     }
 
     public void meltdownHappened(Level world) {
@@ -292,6 +313,10 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
             if (relativeLocation == CuboidRelative.INSIDE) {
                 return true;
             } else if (relativeLocation.isWall()) {
+                if (locations.contains(pos)) {
+                    //Positions that are part of the structure's walls can't be inner positions, so we can skip creating a validator
+                    return false;
+                }
                 //If we are in the wall check if we are really an inner position. For example evap towers
                 MultiblockManager<T> manager = (MultiblockManager<T>) structure.getManager();
                 if (manager != null) {
@@ -1,5 +1,8 @@
 package mekanism.common.lib.multiblock;
 
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Locale;
@@ -8,9 +11,9 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
-import mekanism.api.Coord4D;
 import mekanism.common.tile.prefab.TileEntityMultiblock;
 import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 
@@ -74,7 +77,7 @@ public class MultiblockManager<T extends MultiblockData> {
     public void invalidate(IMultiblock<?> multiblock) {
         CacheWrapper cache = inventories.get(multiblock.getCacheID());
         if (cache != null) {
-            cache.locations.remove(multiblock.getTileCoord());
+            cache.locations.remove(multiblock.getTilePos().asLong());
             if (cache.locations.isEmpty()) {
                 inventories.remove(multiblock.getCacheID());
             }
@@ -92,8 +95,8 @@ public class MultiblockManager<T extends MultiblockData> {
      */
     public MultiblockCache<T> pullInventory(Level world, UUID id) {
         CacheWrapper toReturn = inventories.get(id);
-        for (Coord4D obj : toReturn.locations) {
-            BlockEntity tile = WorldUtils.getTileEntity(BlockEntity.class, world, obj.getPos());
+        for (LongIterator iterator = toReturn.locations.iterator(); iterator.hasNext(); ) {
+            BlockEntity tile = WorldUtils.getTileEntity(BlockEntity.class, world, BlockPos.of(iterator.nextLong()));
             if (tile instanceof IMultiblock<?> multiblock) {
                 multiblock.resetCache();
             }
@@ -118,7 +121,8 @@ public class MultiblockManager<T extends MultiblockData> {
     public class CacheWrapper {
 
         private MultiblockCache<T> cache;
-        private final Set<Coord4D> locations = new ObjectOpenHashSet<>();
+        //Note: Positions are stored packed, as all the tiles are in the same world
+        private final LongSet locations = new LongOpenHashSet();
 
         private CacheWrapper() {
         }
@@ -133,9 +137,9 @@ public class MultiblockManager<T extends MultiblockData> {
                     // create a new cache for the tile if it needs one
                     if (!tile.hasCache()) {
                         tile.setCache(createCache());
-                        locations.add(tile.getTileCoord());
+                        locations.add(tile.getTilePos().asLong());
                     } else if (cache != tile.getCache()) {
-                        locations.add(tile.getTileCoord());
+                        locations.add(tile.getTilePos().asLong());
                     }
                     // if this is the master tile, sync the cache with the multiblock and then update our reference
                     tile.getCache().sync(multiblock);
@@ -145,12 +149,12 @@ public class MultiblockManager<T extends MultiblockData> {
                 if (cache != tile.getCache()) {
                     // if the tile doesn't have a formed multiblock but has a cache, update our reference
                     cache = tile.getCache();
-                    locations.add(tile.getTileCoord());
+                    locations.add(tile.getTilePos().asLong());
                 }
             } else if (cache != null) {
                 // if the tile doesn't have a cache, but we do, update the tile's reference
                 tile.setCache(cache);
-                locations.add(tile.getTileCoord());
+                locations.add(tile.getTilePos().asLong());
             }
         }
     }
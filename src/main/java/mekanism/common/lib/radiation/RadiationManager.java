@@ -7,14 +7,11 @@ import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
 import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
-import java.util.Set;
 import java.util.UUID;
 import java.util.function.IntSupplier;
 import java.util.function.Predicate;
@@ -103,7 +100,10 @@ public class RadiationManager implements IRadiationManager {
     public static final RadiationManager INSTANCE = new RadiationManager();
     private static final String DATA_HANDLER_NAME = "radiation_manager";
     private static final IntSupplier MAX_RANGE = () -> MekanismConfig.general.radiationChunkCheckRadius.get() * 16;
-    private static final Random RAND = new Random();
+    /**
+     * Number of ticks it takes to decay all sources once, and to update the radiation levels of all players that may need it.
+     */
+    private static final int DECAY_CYCLE_TICKS = 20;
 
     public static final double BASELINE = 0.0000001; // 100 nSv/h
     public static final double MIN_MAGNITUDE = 0.00001; // 10 uSv/h
@@ -112,9 +112,14 @@ public class RadiationManager implements IRadiationManager {
 
     private final Table<Chunk3D, Coord4D, RadiationSource> radiationTable = HashBasedTable.create();
     private final Table<Chunk3D, Coord4D, IRadiationSource> radiationView = Tables.unmodifiableTable(radiationTable);
+    private final RadiationSourceIndex sourceIndex = new RadiationSourceIndex(radiationTable);
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
 
     private final Object2DoubleMap<UUID> playerExposureMap = new Object2DoubleOpenHashMap<>();
+    // chunks with sources to decay during the current decay cycle
+    private List<Chunk3D> decayQueue = Collections.emptyList();
+    private int decayIndex;
+    private int cycleTick;
 
     // client fields
     private RadiationScale clientRadiationScale = RadiationScale.NONE;
@@ -160,6 +165,7 @@ public class RadiationManager implements IRadiationManager {
         Map<Coord4D, RadiationSource> chunkSources = radiationTable.row(chunk);
         if (!chunkSources.isEmpty()) {
             chunkSources.clear();
+            sourceIndex.onSourcesChanged(chunk, true);
             markDirty();
             updateClientRadiationForAll(chunk.dimension);
         }
@@ -170,6 +176,7 @@ public class RadiationManager implements IRadiationManager {
         Chunk3D chunk = new Chunk3D(coord);
         if (radiationTable.contains(chunk, coord)) {
             radiationTable.remove(chunk, coord);
+            sourceIndex.onSourcesChanged(chunk, true);
             markDirty();
             updateClientRadiationForAll(coord.dimension);
         }
@@ -177,17 +184,7 @@ public class RadiationManager implements IRadiationManager {
 
     @Override
     public double getRadiationLevel(Coord4D coord) {
-        Set<Chunk3D> checkChunks = new Chunk3D(coord).expand(MekanismConfig.general.radiationChunkCheckRadius.get());
-        double level = BASELINE;
-        for (Chunk3D chunk : checkChunks) {
-            for (Map.Entry<Coord4D, RadiationSource> entry : radiationTable.row(chunk).entrySet()) {
-                // we only compute exposure when within the MAX_RANGE bounds
-                if (entry.getKey().distanceTo(coord) <= MAX_RANGE.getAsInt()) {
-                    level += computeExposure(coord, entry.getValue());
-                }
-            }
-        }
-        return level;
+        return BASELINE + sourceIndex.getExposure(coord, MekanismConfig.general.radiationChunkCheckRadius.get(), MAX_RANGE.getAsInt());
     }
 
     @Override
@@ -195,16 +192,18 @@ public class RadiationManager implements IRadiationManager {
         if (!isRadiationEnabled()) {
             return;
         }
-        Map<Coord4D, RadiationSource> radiationSourceMap = radiationTable.row(new Chunk3D(coord));
+        Chunk3D chunk = new Chunk3D(coord);
+        Map<Coord4D, RadiationSource> radiationSourceMap = radiationTable.row(chunk);
         RadiationSource src = radiationSourceMap.get(coord);
         if (src == null) {
+            boolean hadSources = !radiationSourceMap.isEmpty();
             radiationSourceMap.put(coord, new RadiationSource(coord, magnitude));
+            sourceIndex.onSourcesChanged(chunk, hadSources);
         } else {
             src.radiate(magnitude);
         }
         markDirty();
-        //Update radiation levels immediately
-        updateClientRadiationForAll(coord.dimension);
+        //Note: Players in range of the source will have their radiation levels updated within the next decay cycle
     }
 
     @Override
@@ -253,15 +252,12 @@ public class RadiationManager implements IRadiationManager {
     public void clearSources() {
         if (!radiationTable.isEmpty()) {
             radiationTable.clear();
+            sourceIndex.clear();
             markDirty();
             updateClientRadiationForAll(player -> true);
         }
     }
 
-    private double computeExposure(Coord4D coord, RadiationSource source) {
-        return source.getMagnitude() / Math.max(1, coord.distanceToSquared(source.getPos()));
-    }
-
     private double getRadiationResistance(LivingEntity entity) {
         double resistance = 0;
         for (EquipmentSlot type : EnumUtils.ARMOR_SLOTS) {
@@ -381,16 +377,47 @@ public class RadiationManager implements IRadiationManager {
         if (!isRadiationEnabled()) {
             return;
         }
-        // each tick, there's a 1/20 chance we'll decay radiation sources (averages to 1 decay operation per second)
-        if (RAND.nextInt(20) == 0) {
-            Collection<RadiationSource> sources = radiationTable.values();
-            if (!sources.isEmpty()) {
-                // remove if source gets too low
-                sources.removeIf(RadiationSource::decay);
-                //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
-                markDirty();
-                //Update radiation levels for any players where it has changed
-                updateClientRadiationForAll(player -> true);
+        if (cycleTick == 0) {
+            decayQueue = radiationTable.isEmpty() ? Collections.emptyList() : new ArrayList<>(radiationTable.rowKeySet());
+            decayIndex = 0;
+        }
+        // each tick, decay the sources of a share of the chunks, so that each source decays roughly once per second
+        int decayEnd = (int) ((long) decayQueue.size() * (cycleTick + 1) / DECAY_CYCLE_TICKS);
+        if (decayIndex < decayEnd) {
+            for (; decayIndex < decayEnd; decayIndex++) {
+                decayChunk(decayQueue.get(decayIndex));
+            }
+            //Mark dirty regardless if we removed any sources as magnitude changes
+            markDirty();
+        }
+        updateClientRadiationForSlice(cycleTick);
+        cycleTick = (cycleTick + 1) % DECAY_CYCLE_TICKS;
+    }
+
+    private void decayChunk(Chunk3D chunk) {
+        Map<Coord4D, RadiationSource> chunkSources = radiationTable.rowMap().get(chunk);
+        // remove if source gets too low
+        if (chunkSources != null && chunkSources.values().removeIf(RadiationSource::decay)) {
+            if (chunkSources.isEmpty()) {
+                radiationTable.rowMap().remove(chunk);
+            }
+            sourceIndex.onSourcesChanged(chunk, true);
+        }
+    }
+
+    /**
+     * Updates the radiation levels of the players whose turn it is this tick, if they are in range of any sources, which all change each decay cycle, or if their
+     * radiation level was above the baseline the last time it was synced so that it gets reset when they move away from or outlast the sources.
+     */
+    private void updateClientRadiationForSlice(int slice) {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server != null) {
+            int chunkRadius = MekanismConfig.general.radiationChunkCheckRadius.get();
+            for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+                if (Math.floorMod(player.getId(), DECAY_CYCLE_TICKS) == slice &&
+                    (playerExposureMap.getOrDefault(player.getUUID(), 0) > 1 || sourceIndex.hasSourcesInRange(new Coord4D(player), chunkRadius))) {
+                    updateClientRadiation(player);
+                }
             }
         }
     }
@@ -417,6 +444,10 @@ public class RadiationManager implements IRadiationManager {
     public void reset() {
         //Clear the table directly instead of via the method, so it doesn't mark it as dirty
         radiationTable.clear();
+        sourceIndex.clear();
+        decayQueue = Collections.emptyList();
+        decayIndex = 0;
+        cycleTick = 0;
         playerExposureMap.clear();
         meltdowns.clear();
         dataHandler = null;
@@ -522,6 +553,8 @@ public class RadiationManager implements IRadiationManager {
                 for (RadiationSource source : loadedSources) {
                     manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
                 }
+                //Make sure the index includes the loaded sources
+                manager.sourceIndex.clear();
                 for (Map.Entry<ResourceLocation, List<Meltdown>> entry : savedMeltdowns.entrySet()) {
                     List<Meltdown> meltdowns = entry.getValue();
                     manager.meltdowns.computeIfAbsent(entry.getKey(), id -> new ArrayList<>(meltdowns.size())).addAll(meltdowns);
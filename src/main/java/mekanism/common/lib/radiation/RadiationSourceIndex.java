@@ -0,0 +1,170 @@
+package mekanism.common.lib.radiation;
+
+import com.google.common.collect.Table;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import mekanism.api.Chunk3D;
+import mekanism.api.Coord4D;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * Index of which radiation sources can reach each chunk, so that getting the radiation level at a position doesn't have to look through all the chunks in range of it.
+ * <br><br>
+ * Every chunk in range of a chunk containing sources has an exposure cell, which caches the sources that are in range of the chunk. Positions in chunks without a
+ * cell don't have any sources in range, which is the case for most positions. A cell's sources get looked up again the next time they are needed after a source in
+ * range of it was added or removed. As the cached sources are the ones in the radiation table, changes to their magnitude don't require looking them up again.
+ */
+class RadiationSourceIndex {
+
+    private static final RadiationSource[] EMPTY_SOURCES = new RadiationSource[0];
+
+    private final Table<Chunk3D, Coord4D, RadiationSource> radiationTable;
+    private final Map<ResourceKey<Level>, Long2ObjectMap<ExposureCell>> cells = new HashMap<>();
+    private int chunkRadius = -1;
+
+    RadiationSourceIndex(Table<Chunk3D, Coord4D, RadiationSource> radiationTable) {
+        this.radiationTable = radiationTable;
+    }
+
+    /**
+     * Gets the combined radiation from the sources in range of a position, excluding the baseline radiation.
+     *
+     * @param chunkRadius The radius of chunks around the position to check for sources in.
+     * @param maxRange    The maximum distance in blocks a source can be away from the position.
+     */
+    double getExposure(Coord4D coord, int chunkRadius, int maxRange) {
+        if (this.chunkRadius != chunkRadius) {
+            rebuild(chunkRadius);
+        }
+        Long2ObjectMap<ExposureCell> dimensionCells = cells.get(coord.dimension);
+        if (dimensionCells == null) {
+            return 0;
+        }
+        ExposureCell cell = dimensionCells.get(ChunkPos.asLong(coord.getX() >> 4, coord.getZ() >> 4));
+        if (cell == null) {
+            return 0;
+        }
+        RadiationSource[] sources = cell.getSources(coord.dimension, coord.getX() >> 4, coord.getZ() >> 4);
+        double maxRangeSq = (double) maxRange * maxRange;
+        double exposure = 0;
+        for (RadiationSource source : sources) {
+            Coord4D pos = source.getPos();
+            double distanceSq = coord.distanceToSquared(pos);
+            // we only compute exposure when within the max range bounds
+            if (distanceSq <= maxRangeSq) {
+                exposure += source.getMagnitude() / Math.max(1, distanceSq);
+            }
+        }
+        return exposure;
+    }
+
+    /**
+     * @param chunkRadius The radius of chunks around the position to check for sources in.
+     *
+     * @return {@code true} if there are any sources in the chunks in range of the position.
+     */
+    boolean hasSourcesInRange(Coord4D coord, int chunkRadius) {
+        if (this.chunkRadius != chunkRadius) {
+            rebuild(chunkRadius);
+        }
+        Long2ObjectMap<ExposureCell> dimensionCells = cells.get(coord.dimension);
+        return dimensionCells != null && dimensionCells.containsKey(ChunkPos.asLong(coord.getX() >> 4, coord.getZ() >> 4));
+    }
+
+    /**
+     * Updates the cells in range of a chunk after sources in it were added or removed.
+     *
+     * @param hadSources {@code true} if the chunk had sources before the change.
+     */
+    void onSourcesChanged(Chunk3D chunk, boolean hadSources) {
+        if (chunkRadius == -1) {
+            //Not built yet, the first lookup will build all cells
+            return;
+        }
+        boolean hasSources = !radiationTable.row(chunk).isEmpty();
+        Long2ObjectMap<ExposureCell> dimensionCells = cells.computeIfAbsent(chunk.dimension, dimension -> new Long2ObjectOpenHashMap<>());
+        forEachChunkInRange(chunk.x, chunk.z, chunkRadius, (x, z) -> {
+            long key = ChunkPos.asLong(x, z);
+            ExposureCell cell = dimensionCells.get(key);
+            if (cell == null) {
+                if (hasSources) {
+                    cell = new ExposureCell();
+                    dimensionCells.put(key, cell);
+                } else {
+                    return;
+                }
+            }
+            if (hadSources != hasSources) {
+                cell.sourceChunks += hasSources ? 1 : -1;
+                if (cell.sourceChunks == 0) {
+                    dimensionCells.remove(key);
+                    return;
+                }
+            }
+            cell.sources = null;
+        });
+        if (dimensionCells.isEmpty()) {
+            cells.remove(chunk.dimension);
+        }
+    }
+
+    void clear() {
+        cells.clear();
+        chunkRadius = -1;
+    }
+
+    private void rebuild(int chunkRadius) {
+        cells.clear();
+        this.chunkRadius = chunkRadius;
+        for (Chunk3D chunk : radiationTable.rowKeySet()) {
+            Long2ObjectMap<ExposureCell> dimensionCells = cells.computeIfAbsent(chunk.dimension, dimension -> new Long2ObjectOpenHashMap<>());
+            forEachChunkInRange(chunk.x, chunk.z, chunkRadius, (x, z) -> dimensionCells.computeIfAbsent(ChunkPos.asLong(x, z), key -> new ExposureCell()).sourceChunks++);
+        }
+    }
+
+    /**
+     * Matches the chunks checked by {@link Chunk3D#expand(int)}.
+     */
+    private static void forEachChunkInRange(int chunkX, int chunkZ, int chunkRadius, ChunkConsumer consumer) {
+        if (chunkRadius == 1) {
+            consumer.accept(chunkX, chunkZ);
+            return;
+        }
+        for (int x = chunkX - chunkRadius; x <= chunkX + chunkRadius; x++) {
+            for (int z = chunkZ - chunkRadius; z <= chunkZ + chunkRadius; z++) {
+                consumer.accept(x, z);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkConsumer {
+
+        void accept(int chunkX, int chunkZ);
+    }
+
+    private class ExposureCell {
+
+        // number of chunks in range that contain sources
+        private int sourceChunks;
+        // sources in range, or null if they have to be looked up again
+        @Nullable
+        private RadiationSource[] sources;
+
+        private RadiationSource[] getSources(ResourceKey<Level> dimension, int chunkX, int chunkZ) {
+            if (sources == null) {
+                List<RadiationSource> found = new ArrayList<>();
+                forEachChunkInRange(chunkX, chunkZ, chunkRadius, (x, z) -> found.addAll(radiationTable.row(new Chunk3D(dimension, x, z)).values()));
+                sources = found.isEmpty() ? EMPTY_SOURCES : found.toArray(EMPTY_SOURCES);
+            }
+            return sources;
+        }
+    }
+}
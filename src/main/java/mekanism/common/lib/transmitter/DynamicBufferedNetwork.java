@@ -92,6 +92,19 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         updateSaveShares(triggerTransmitter);
     }
 
+    @Override
+    protected void transmittersRemoved() {
+        super.transmittersRemoved();
+        chunks.clear();
+        for (TRANSMITTER transmitter : transmitters) {
+            chunks.add(WorldUtils.getChunkPosAsLong(transmitter.getTilePos()));
+        }
+        updateCapacity();
+        clampBuffer();
+        needsUpdate = true;
+        packetRange = null;
+    }
+
     @Override
     public void deregister() {
         super.deregister();
@@ -1,20 +1,32 @@
 package mekanism.common.lib.transmitter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.LongConsumer;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import mekanism.api.MekanismAPI;
 import mekanism.api.text.IHasTextComponent;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.acceptor.NetworkAcceptorCache;
+import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
+import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraftforge.fml.util.thread.EffectiveSide;
 
 public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER>,
@@ -26,6 +38,8 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     @Nullable
     protected Level world;
     private final UUID uuid;
+    private long lastPrepareNanos;
+    private long lastUpdateNanos;
     @Nullable
     private CompatibleTransmitterValidator<ACCEPTOR, NETWORK, TRANSMITTER> transmitterValidator;
 
@@ -104,6 +118,11 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
             onLastTransmitterRemoved(triggerTransmitter);
         }
         removeInvalid(triggerTransmitter);
+        if (!isRemote() && triggerTransmitter != null && !triggerTransmitter.isValid() && MekanismConfig.general.incrementalNetworkSplits.get() &&
+            removeIncrementally(triggerTransmitter)) {
+            //The network is still valid, and any pieces that got split off have been turned into orphans
+            return;
+        }
         //Now invalidate the transmitters
         if (!isRemote()) {
             for (TRANSMITTER transmitter : transmitters) {
@@ -120,6 +139,98 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     protected void onLastTransmitterRemoved(@Nonnull TRANSMITTER triggerTransmitter) {
     }
 
+    /**
+     * Removes a transmitter that is no longer valid from this network without invalidating the entire network, by only checking if the transmitters that were next to it
+     * are still connected to each other.
+     *
+     * @return {@code false} if the network has to be invalidated and rebuilt from scratch instead.
+     */
+    private boolean removeIncrementally(TRANSMITTER removed) {
+        if (isEmpty() || world == null) {
+            return false;
+        }
+        Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+        BlockPos removedPos = removed.getTilePos();
+        LongList seeds = new LongArrayList(EnumUtils.DIRECTIONS.length);
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            BlockPos pos = removedPos.relative(side);
+            if (getNetworkTransmitter(chunkMap, pos) != null) {
+                seeds.add(pos.asLong());
+            }
+        }
+        if (seeds.isEmpty()) {
+            //Shouldn't happen as we still have transmitters and the network was connected, but if it does just rebuild the network
+            return false;
+        }
+        transmitterRemoved(removed);
+        if (seeds.size() > 1) {
+            NetworkSplitFinder finder = new NetworkSplitFinder(seeds, (pos, action) -> {
+                BlockPos blockPos = BlockPos.of(pos);
+                TRANSMITTER transmitter = getNetworkTransmitter(chunkMap, blockPos);
+                if (transmitter != null) {
+                    for (Direction side : EnumUtils.DIRECTIONS) {
+                        BlockPos connectedPos = blockPos.relative(side);
+                        TRANSMITTER connected = getNetworkTransmitter(chunkMap, connectedPos);
+                        if (connected != null && transmitter.isValidTransmitterBasic(connected.getTransmitterTile(), side)) {
+                            action.accept(connectedPos.asLong());
+                        }
+                    }
+                }
+            });
+            LongSet splitOff = finder.findSplitOff();
+            if (!splitOff.isEmpty()) {
+                List<TRANSMITTER> orphans = new ArrayList<>(splitOff.size());
+                splitOff.forEach((LongConsumer) pos -> {
+                    TRANSMITTER transmitter = getNetworkTransmitter(chunkMap, BlockPos.of(pos));
+                    if (transmitter != null) {
+                        orphans.add(transmitter);
+                    }
+                });
+                for (TRANSMITTER transmitter : orphans) {
+                    //Take the share while still in this network so that it gets removed from our buffer, and then let the pieces form new networks
+                    transmitter.takeShare();
+                    transmitterRemoved(transmitter);
+                    transmitter.setTransmitterNetwork(null);
+                    TransmitterNetworkRegistry.registerOrphanTransmitter(transmitter);
+                }
+                if (MekanismAPI.debug) {
+                    Mekanism.logger.info("Split {} transmitters off of network {}", orphans.size(), this);
+                }
+            }
+        }
+        transmittersRemoved();
+        return true;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private TRANSMITTER getNetworkTransmitter(Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos) {
+        TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, pos);
+        if (tile != null && tile.getTransmitter().getTransmitterNetwork() == this) {
+            TRANSMITTER transmitter = (TRANSMITTER) tile.getTransmitter();
+            if (transmitter.isValid() && transmitters.contains(transmitter)) {
+                return transmitter;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Called when a transmitter gets removed from this network without the network being invalidated.
+     */
+    protected void transmitterRemoved(TRANSMITTER transmitter) {
+        transmitters.remove(transmitter);
+        transmittersToAdd.remove(transmitter);
+        acceptorCache.removeTransmitter(transmitter);
+    }
+
+    /**
+     * Called after transmitters were removed from this network without the network being invalidated.
+     */
+    protected void transmittersRemoved() {
+        TransmitterNetworkRegistry.registerChangedNetwork(this);
+    }
+
     protected void removeInvalid(@Nullable TRANSMITTER triggerTransmitter) {
         //Remove invalid transmitters first for share calculations
         transmitters.removeIf(transmitter -> !transmitter.isValid());
@@ -171,6 +282,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
             TransmitterNetworkRegistry.getInstance().removeClientNetwork(this);
         } else {
             TransmitterNetworkRegistry.getInstance().removeNetwork(this);
+            NetworkProfiler.onNetworkRemoved(this);
         }
     }
 
@@ -187,12 +299,45 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         return world;
     }
 
+    /**
+     * Read only first phase of {@link #onUpdate()}, used to gather anything that can be calculated without modifying the network or the world, for example which
+     * acceptors can currently receive the network's contents. Anything gathered should be used and cleared by the next call to {@link #onUpdate()}, and must be
+     * discarded if the state it was gathered from has changed since.
+     *
+     * @apiNote Only called on the server, and only when parallel network ticks are enabled. May be called off the main thread and in parallel with other networks
+     * preparing.
+     */
+    public void prepareUpdate() {
+    }
+
     /**
      * @apiNote Only called on the server
      */
     public void onUpdate() {
     }
 
+    void setLastPrepareNanos(long nanos) {
+        lastPrepareNanos = nanos;
+    }
+
+    void setLastUpdateNanos(long nanos) {
+        lastUpdateNanos = nanos;
+    }
+
+    /**
+     * @return The time in nanoseconds {@link #prepareUpdate()} took during the last tick, or zero if it was not called.
+     */
+    public long getLastPrepareNanos() {
+        return lastPrepareNanos;
+    }
+
+    /**
+     * @return The time in nanoseconds {@link #onUpdate()} took during the last tick.
+     */
+    public long getLastUpdateNanos() {
+        return lastUpdateNanos;
+    }
+
     public Set<TRANSMITTER> getTransmitters() {
         return transmitters;
     }
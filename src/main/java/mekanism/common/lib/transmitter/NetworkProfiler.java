@@ -0,0 +1,263 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import javax.annotation.Nullable;
+import mekanism.common.content.network.transmitter.Transmitter;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.Level;
+
+/**
+ * Lightweight profiler that keeps track of how long each transmitter network spends in the different phases of being ticked. Does nothing unless it has been started,
+ * for example via {@code /mek debug networks start}.
+ *
+ * @apiNote Only used on the server thread.
+ */
+public class NetworkProfiler {
+
+    /**
+     * Number of samples of each phase to keep per network for calculating rolling averages.
+     */
+    private static final int WINDOW = 100;
+    private static final Phase[] PHASES = Phase.values();
+
+    private static final Map<UUID, NetworkStats> stats = new Object2ObjectOpenHashMap<>();
+    private static boolean enabled;
+    @Nullable
+    private static DynamicNetwork<?, ?, ?> updatingNetwork;
+
+    private NetworkProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void start() {
+        enabled = true;
+    }
+
+    public static void stop() {
+        enabled = false;
+        updatingNetwork = null;
+    }
+
+    public static void reset() {
+        stop();
+        stats.clear();
+    }
+
+    public static void record(DynamicNetwork<?, ?, ?> network, Phase phase, long nanos) {
+        if (enabled) {
+            NetworkStats networkStats = stats.computeIfAbsent(network.getUUID(), uuid -> new NetworkStats(uuid, network.getClass().getSimpleName()));
+            if (phase == Phase.COMMIT || networkStats.position == null) {
+                //Update where the network is when it gets committed, as the transmitters in it may have changed
+                networkStats.updateLocation(network);
+            }
+            networkStats.getPhase(phase).record(nanos);
+        }
+    }
+
+    static void beginUpdate(DynamicNetwork<?, ?, ?> network) {
+        if (enabled) {
+            updatingNetwork = network;
+        }
+    }
+
+    static void endUpdate(DynamicNetwork<?, ?, ?> network, boolean prepared) {
+        if (enabled) {
+            updatingNetwork = null;
+            if (prepared) {
+                record(network, Phase.PREPARE, network.getLastPrepareNanos());
+            }
+            record(network, Phase.UPDATE, network.getLastUpdateNanos());
+        }
+    }
+
+    /**
+     * Records time spent emitting to acceptors, for the network that is currently being updated, if any.
+     */
+    public static void recordEmit(long nanos) {
+        if (updatingNetwork != null) {
+            record(updatingNetwork, Phase.EMIT, nanos);
+        }
+    }
+
+    static void onNetworkRemoved(DynamicNetwork<?, ?, ?> network) {
+        if (enabled) {
+            stats.remove(network.getUUID());
+        }
+    }
+
+    /**
+     * @param count Max number of networks to return.
+     *
+     * @return The networks with the highest rolling average time spent preparing and updating per tick, slowest first.
+     */
+    public static List<NetworkStats> getSlowest(int count) {
+        List<NetworkStats> slowest = new ArrayList<>(stats.values());
+        slowest.sort(Comparator.comparingLong(NetworkStats::getAverageTickNanos).reversed());
+        return slowest.size() > count ? slowest.subList(0, count) : slowest;
+    }
+
+    /**
+     * Writes the stats of all profiled networks to the given file, with one row per network and phase.
+     */
+    public static void dump(Path path) throws IOException {
+        Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            writer.write("uuid,type,dimension,x,y,z,phase,calls,total_nanos,rolling_average_nanos,max_nanos");
+            writer.newLine();
+            for (NetworkStats networkStats : getSlowest(Integer.MAX_VALUE)) {
+                String prefix = networkStats.uuid + "," + networkStats.type + "," + (networkStats.dimension == null ? "" : networkStats.dimension) + ",";
+                if (networkStats.position == null) {
+                    prefix += ",,,";
+                } else {
+                    prefix += networkStats.position.getX() + "," + networkStats.position.getY() + "," + networkStats.position.getZ() + ",";
+                }
+                for (Phase phase : PHASES) {
+                    PhaseStats phaseStats = networkStats.phases[phase.ordinal()];
+                    if (phaseStats != null) {
+                        writer.write(prefix + phase.name().toLowerCase(Locale.ROOT) + "," + phaseStats.calls + "," + phaseStats.totalNanos + "," +
+                                     phaseStats.getAverageNanos() + "," + phaseStats.maxNanos);
+                        writer.newLine();
+                    }
+                }
+            }
+        }
+    }
+
+    public enum Phase {
+        /**
+         * {@link DynamicNetwork#prepareUpdate()}, only recorded when networks prepare their updates in parallel.
+         */
+        PREPARE,
+        /**
+         * {@link DynamicNetwork#onUpdate()}
+         */
+        UPDATE,
+        /**
+         * {@link mekanism.common.util.EmitUtils#sendToAcceptors}, this is a part of {@link #UPDATE}.
+         */
+        EMIT,
+        /**
+         * {@link DynamicNetwork#commit()}
+         */
+        COMMIT,
+        /**
+         * Finding the network of orphaned transmitters that ended up in this network.
+         */
+        ORPHANS
+    }
+
+    public static class NetworkStats {
+
+        private final UUID uuid;
+        private final String type;
+        private final PhaseStats[] phases = new PhaseStats[PHASES.length];
+        @Nullable
+        private ResourceLocation dimension;
+        @Nullable
+        private BlockPos position;
+
+        private NetworkStats(UUID uuid, String type) {
+            this.uuid = uuid;
+            this.type = type;
+        }
+
+        private void updateLocation(DynamicNetwork<?, ?, ?> network) {
+            Level world = network.getWorld();
+            if (world != null) {
+                dimension = world.dimension().location();
+            }
+            Iterator<? extends Transmitter<?, ?, ?>> iterator = network.getTransmitters().iterator();
+            if (iterator.hasNext()) {
+                position = iterator.next().getTilePos();
+            }
+        }
+
+        private PhaseStats getPhase(Phase phase) {
+            PhaseStats phaseStats = phases[phase.ordinal()];
+            if (phaseStats == null) {
+                phases[phase.ordinal()] = phaseStats = new PhaseStats();
+            }
+            return phaseStats;
+        }
+
+        public UUID getUUID() {
+            return uuid;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        @Nullable
+        public ResourceLocation getDimension() {
+            return dimension;
+        }
+
+        /**
+         * @return The position of one of the transmitters in the network.
+         */
+        @Nullable
+        public BlockPos getPosition() {
+            return position;
+        }
+
+        public long getAverageNanos(Phase phase) {
+            PhaseStats phaseStats = phases[phase.ordinal()];
+            return phaseStats == null ? 0 : phaseStats.getAverageNanos();
+        }
+
+        public long getMaxNanos(Phase phase) {
+            PhaseStats phaseStats = phases[phase.ordinal()];
+            return phaseStats == null ? 0 : phaseStats.maxNanos;
+        }
+
+        public long getAverageTickNanos() {
+            return getAverageNanos(Phase.PREPARE) + getAverageNanos(Phase.UPDATE);
+        }
+    }
+
+    private static class PhaseStats {
+
+        private final long[] samples = new long[WINDOW];
+        private int nextSample;
+        private int sampleCount;
+        private long windowNanos;
+        private long calls;
+        private long totalNanos;
+        private long maxNanos;
+
+        private void record(long nanos) {
+            windowNanos += nanos - samples[nextSample];
+            samples[nextSample] = nanos;
+            nextSample = (nextSample + 1) % WINDOW;
+            if (sampleCount < WINDOW) {
+                sampleCount++;
+            }
+            calls++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        private long getAverageNanos() {
+            return sampleCount == 0 ? 0 : windowNanos / sampleCount;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.function.LongConsumer;
+
+/**
+ * Finds out if removing a transmitter split its network into multiple pieces, by searching outwards from the remaining transmitters that were next to it instead of
+ * rebuilding the entire network.
+ * <br><br>
+ * Each starting position gets its own breadth first search, and the searches are advanced one position at a time in turn. Whenever two searches reach each other they
+ * are merged. The search stops as soon as either all searches have been merged, in which case the network is still connected, or all but one of the merged searches
+ * ran out of positions to explore, in which case the ones that ran out are pieces that got split off and everything else is still connected. This means that in the
+ * worst case only about as many positions as are in the smaller pieces get explored per starting position, rather than the entire network.
+ *
+ * @apiNote Positions are packed positions ({@link net.minecraft.core.BlockPos#asLong()}).
+ */
+public class NetworkSplitFinder {
+
+    private final ConnectionLookup lookup;
+    private final Long2IntMap visited = new Long2IntOpenHashMap();
+    private final LongArrayFIFOQueue[] queues;
+    private final int[] parents;
+    private int searchCount;
+
+    /**
+     * @param seeds  Positions of the transmitters that were next to the removed transmitter and are still in the network.
+     * @param lookup Used to find which positions each position is connected to.
+     */
+    public NetworkSplitFinder(LongCollection seeds, ConnectionLookup lookup) {
+        this.lookup = lookup;
+        visited.defaultReturnValue(-1);
+        queues = new LongArrayFIFOQueue[seeds.size()];
+        parents = new int[seeds.size()];
+        seeds.forEach((LongConsumer) seed -> {
+            if (visited.putIfAbsent(seed, searchCount) == -1) {
+                LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+                queue.enqueue(seed);
+                queues[searchCount] = queue;
+                parents[searchCount] = searchCount;
+                searchCount++;
+            }
+        });
+    }
+
+    /**
+     * @return The positions of all pieces that got split off from the network, or an empty set if the network is still connected. If the network split into multiple
+     * pieces that were all explored fully, the largest one is treated as the one that stays in the network.
+     */
+    public LongSet findSplitOff() {
+        boolean[] isRoot = new boolean[searchCount];
+        boolean[] isActive = new boolean[searchCount];
+        while (true) {
+            int groups = 0;
+            int activeGroups = 0;
+            for (int search = 0; search < searchCount; search++) {
+                int root = find(search);
+                if (!isRoot[root]) {
+                    isRoot[root] = true;
+                    groups++;
+                }
+                if (!queues[search].isEmpty() && !isActive[root]) {
+                    isActive[root] = true;
+                    activeGroups++;
+                }
+            }
+            if (groups <= 1) {
+                //All the searches are connected, so the network is still in one piece
+                return new LongOpenHashSet();
+            } else if (activeGroups <= 1) {
+                return collectSplitOff(isActive);
+            }
+            for (int search = 0; search < searchCount; search++) {
+                isRoot[search] = false;
+                isActive[search] = false;
+                LongArrayFIFOQueue queue = queues[search];
+                if (!queue.isEmpty()) {
+                    int current = search;
+                    lookup.forEachConnection(queue.dequeueLong(), connected -> {
+                        int other = visited.putIfAbsent(connected, current);
+                        if (other == -1) {
+                            queue.enqueue(connected);
+                        } else if (other != current) {
+                            union(current, other);
+                        }
+                    });
+                }
+            }
+        }
+    }
+
+    private LongSet collectSplitOff(boolean[] isActive) {
+        int kept = -1;
+        for (int search = 0; search < searchCount; search++) {
+            if (isActive[find(search)]) {
+                kept = find(search);
+                break;
+            }
+        }
+        if (kept == -1) {
+            //All pieces were explored fully, keep the largest one in the network
+            int[] sizes = new int[searchCount];
+            for (int search : visited.values()) {
+                sizes[find(search)]++;
+            }
+            for (int search = 0; search < searchCount; search++) {
+                if (kept == -1 || sizes[search] > sizes[kept]) {
+                    kept = search;
+                }
+            }
+        }
+        LongSet splitOff = new LongOpenHashSet();
+        for (Long2IntMap.Entry entry : visited.long2IntEntrySet()) {
+            if (find(entry.getIntValue()) != kept) {
+                splitOff.add(entry.getLongKey());
+            }
+        }
+        return splitOff;
+    }
+
+    private int find(int search) {
+        while (parents[search] != search) {
+            parents[search] = parents[parents[search]];
+            search = parents[search];
+        }
+        return search;
+    }
+
+    private void union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA != rootB) {
+            parents[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ConnectionLookup {
+
+        /**
+         * Calls the given action for each position of a transmitter in the network that the transmitter at the given position is connected to.
+         */
+        void forEachConnection(long pos, LongConsumer action);
+    }
+}
@@ -4,15 +4,25 @@ import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
@@ -36,6 +46,8 @@ public class TransmitterNetworkRegistry {
     private Map<Coord4D, Transmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
     private Set<Transmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
     private Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
+    @Nullable
+    private ForkJoinPool networkPool;
 
     public void addClientNetwork(UUID networkID, DynamicNetwork<?, ?, ?> network) {
         if (!clientNetworks.containsKey(networkID)) {
@@ -68,6 +80,11 @@ public class TransmitterNetworkRegistry {
         getInstance().networksToChange.clear();
         getInstance().invalidTransmitters.clear();
         getInstance().newOrphanTransmitters.clear();
+        NetworkProfiler.reset();
+        if (getInstance().networkPool != null) {
+            getInstance().networkPool.shutdown();
+            getInstance().networkPool = null;
+        }
     }
 
     public static void invalidateTransmitter(Transmitter<?, ?, ?> transmitter) {
@@ -110,10 +127,70 @@ public class TransmitterNetworkRegistry {
             removeInvalidTransmitters();
             assignOrphans();
             commitChanges();
+            boolean prepared = MekanismConfig.general.parallelNetworkTicks.get() && networks.size() > 1 && prepareUpdates();
+            //Note: We always update the networks on the main thread and in the same order, regardless of if they prepared in parallel
             for (DynamicNetwork<?, ?, ?> net : networks) {
+                if (!prepared) {
+                    net.setLastPrepareNanos(0);
+                }
+                NetworkProfiler.beginUpdate(net);
+                long start = System.nanoTime();
                 net.onUpdate();
+                net.setLastUpdateNanos(System.nanoTime() - start);
+                NetworkProfiler.endUpdate(net, prepared);
+            }
+        }
+    }
+
+    /**
+     * Runs the read only {@link DynamicNetwork#prepareUpdate()} phase of all networks in parallel, and waits for them to finish.
+     *
+     * @return {@code false} if the networks could not be prepared in parallel at all.
+     */
+    private boolean prepareUpdates() {
+        List<DynamicNetwork<?, ?, ?>> toPrepare = new ArrayList<>(networks);
+        List<Callable<Void>> tasks = new ArrayList<>(toPrepare.size());
+        for (DynamicNetwork<?, ?, ?> network : toPrepare) {
+            tasks.add(() -> {
+                long start = System.nanoTime();
+                network.prepareUpdate();
+                network.setLastPrepareNanos(System.nanoTime() - start);
+                return null;
+            });
+        }
+        List<Future<Void>> results;
+        try {
+            //Note: invokeAll only returns once all the tasks have completed
+            results = getNetworkPool().invokeAll(tasks);
+        } catch (RejectedExecutionException e) {
+            Mekanism.logger.error("Failed to prepare network updates in parallel, falling back to sequential updates.", e);
+            return false;
+        }
+        for (int i = 0, size = results.size(); i < size; i++) {
+            try {
+                results.get(i).get();
+            } catch (ExecutionException e) {
+                //Networks only store what they prepared once preparing completes successfully, so a failed network will just prepare itself when updating
+                Mekanism.logger.error("Failed to prepare update for network {}, falling back to a sequential update.", toPrepare.get(i), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
             }
         }
+        return true;
+    }
+
+    private ForkJoinPool getNetworkPool() {
+        if (networkPool == null) {
+            ForkJoinWorkerThreadFactory factory = pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("Mekanism Network Worker-" + thread.getPoolIndex());
+                thread.setContextClassLoader(Mekanism.class.getClassLoader());
+                return thread;
+            };
+            networkPool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), factory, null, false);
+        }
+        return networkPool;
     }
 
     private void removeInvalidTransmitters() {
@@ -158,8 +235,11 @@ public class TransmitterNetworkRegistry {
 
             for (Transmitter<?, ?, ?> orphanTransmitter : orphanTransmitters.values()) {
                 if (orphanTransmitter.isValid() && orphanTransmitter.isOrphan()) {
+                    long start = System.nanoTime();
                     OrphanPathFinder<?, ?, ?> finder = new OrphanPathFinder<>(orphanTransmitter);
-                    networksToChange.add(finder.getNetworkFromOrphan(orphanTransmitters));
+                    DynamicNetwork<?, ?, ?> network = finder.getNetworkFromOrphan(orphanTransmitters);
+                    networksToChange.add(network);
+                    NetworkProfiler.record(network, NetworkProfiler.Phase.ORPHANS, System.nanoTime() - start);
                 }
             }
         }
@@ -170,7 +250,13 @@ public class TransmitterNetworkRegistry {
             Set<DynamicNetwork<?, ?, ?>> networks = networksToChange;
             networksToChange = new ObjectOpenHashSet<>();
             for (DynamicNetwork<?, ?, ?> network : networks) {
-                network.commit();
+                if (NetworkProfiler.isEnabled()) {
+                    long start = System.nanoTime();
+                    network.commit();
+                    NetworkProfiler.record(network, NetworkProfiler.Phase.COMMIT, System.nanoTime() - start);
+                } else {
+                    network.commit();
+                }
             }
         }
     }
@@ -0,0 +1,81 @@
+package mekanism.common.lib.transmitter.acceptor;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+/**
+ * Keeps track of acceptors that were unable to accept anything, so that networks can skip checking them every tick. Each time an acceptor is still unable to accept
+ * anything when it is checked again, the delay before it gets checked next is doubled, up to a given maximum.
+ *
+ * @apiNote Acceptors are identified by the packed position ({@link net.minecraft.core.BlockPos#asLong()}) of the acceptor and the ordinal of the side the network
+ * connects to it from.
+ */
+public class AcceptorBackoff {
+
+    private static final int SIDES = 6;
+
+    /**
+     * Map of acceptor position to an array holding the tick each side may be checked again in the first {@link #SIDES} elements, and the current delay for each side in
+     * the remaining elements.
+     */
+    private final Long2ObjectMap<long[]> backoff = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * @return {@code true} if the acceptor was unable to accept anything recently, and should not be checked this tick.
+     */
+    public boolean shouldSkip(long pos, int side, long tick) {
+        if (backoff.isEmpty()) {
+            return false;
+        }
+        long[] sides = backoff.get(pos);
+        return sides != null && tick < sides[side];
+    }
+
+    /**
+     * Marks that the acceptor was unable to accept anything.
+     *
+     * @param maxDelay Maximum number of ticks to wait before checking the acceptor again.
+     */
+    public void markFull(long pos, int side, long tick, int maxDelay) {
+        if (maxDelay > 0) {
+            long[] sides = backoff.computeIfAbsent(pos, p -> new long[2 * SIDES]);
+            long delay = Math.min(Math.max(1, 2 * sides[SIDES + side]), maxDelay);
+            sides[SIDES + side] = delay;
+            sides[side] = tick + delay;
+        }
+    }
+
+    /**
+     * Marks that the acceptor was able to accept something, so that the next time it is unable to accept anything we start again with a short delay.
+     */
+    public void markAccepting(long pos, int side) {
+        if (!backoff.isEmpty()) {
+            long[] sides = backoff.get(pos);
+            if (sides != null) {
+                sides[side] = 0;
+                sides[SIDES + side] = 0;
+                for (int i = SIDES; i < 2 * SIDES; i++) {
+                    if (sides[i] != 0) {
+                        return;
+                    }
+                }
+                backoff.remove(pos);
+            }
+        }
+    }
+
+    /**
+     * Stops skipping all sides of the acceptor at the given position, for example because it changed.
+     */
+    public void reset(long pos) {
+        backoff.remove(pos);
+    }
+
+    public void clear() {
+        backoff.clear();
+    }
+
+    public boolean isEmpty() {
+        return backoff.isEmpty();
+    }
+}
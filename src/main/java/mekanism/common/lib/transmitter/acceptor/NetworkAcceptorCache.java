@@ -1,46 +1,163 @@
 package mekanism.common.lib.transmitter.acceptor;
 
+import it.unimi.dsi.fastutil.bytes.ByteArrays;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrays;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.Collection;
-import java.util.EnumMap;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import javax.annotation.Nullable;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraftforge.common.util.LazyOptional;
 
+/**
+ * Flat table of the acceptors connected to a network. Each acceptor position is stored once, packed as a long ({@link BlockPos#asLong()}), at a dense index so that
+ * networks can iterate all acceptors without creating any iterators or boxed positions. The acceptors for the six sides of each position are stored in a fixed size
+ * slot array at {@code index * 6 + side.ordinal()}.
+ *
+ * @apiNote Indices are only stable until the cache is next modified, as removing a position moves the last position into the removed position's index.
+ */
 public class NetworkAcceptorCache<ACCEPTOR> {
 
-    private final Map<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> cachedAcceptors = new Object2ObjectOpenHashMap<>();
+    private static final int SIDES = EnumUtils.DIRECTIONS.length;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final Long2IntMap positionIndices = new Long2IntOpenHashMap();
     private final Map<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
+    private long[] positions = LongArrays.EMPTY_ARRAY;
+    /**
+     * Bitmask per position of which sides of it have an acceptor.
+     */
+    private byte[] sides = ByteArrays.EMPTY_ARRAY;
+    private LazyOptional<ACCEPTOR>[] acceptors;
+    private int positionCount;
+    private int acceptorCount;
+
+    @SuppressWarnings("unchecked")
+    public NetworkAcceptorCache() {
+        positionIndices.defaultReturnValue(-1);
+        acceptors = new LazyOptional[0];
+    }
 
     public void updateTransmitterOnSide(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         LazyOptional<ACCEPTOR> acceptor = transmitter.canConnectToAcceptor(side) ? transmitter.getAcceptor(side) : LazyOptional.empty();
-        BlockPos acceptorPos = transmitter.getTilePos().relative(side);
+        long acceptorPos = BlockPos.offset(transmitter.getTilePos().asLong(), side);
         if (acceptor.isPresent()) {
-            cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor);
-        } else if (cachedAcceptors.containsKey(acceptorPos)) {
-            Map<Direction, LazyOptional<ACCEPTOR>> cached = cachedAcceptors.get(acceptorPos);
-            cached.remove(side.getOpposite());
-            if (cached.isEmpty()) {
-                cachedAcceptors.remove(acceptorPos);
-            }
+            setAcceptor(acceptorPos, side.getOpposite(), acceptor);
         } else {
-            cachedAcceptors.remove(acceptorPos);
+            removeAcceptor(acceptorPos, side.getOpposite());
+        }
+    }
+
+    void setAcceptor(long pos, Direction side, LazyOptional<ACCEPTOR> acceptor) {
+        int index = positionIndices.get(pos);
+        if (index == -1) {
+            ensureCapacity(positionCount + 1);
+            index = positionCount++;
+            positions[index] = pos;
+            positionIndices.put(pos, index);
+        }
+        int bit = 1 << side.ordinal();
+        if ((sides[index] & bit) == 0) {
+            sides[index] |= bit;
+            acceptorCount++;
+        }
+        acceptors[index * SIDES + side.ordinal()] = acceptor;
+    }
+
+    void removeAcceptor(long pos, Direction side) {
+        int index = positionIndices.get(pos);
+        if (index != -1) {
+            int bit = 1 << side.ordinal();
+            if ((sides[index] & bit) != 0) {
+                sides[index] &= ~bit;
+                acceptors[index * SIDES + side.ordinal()] = null;
+                acceptorCount--;
+                if (sides[index] == 0) {
+                    removePosition(index);
+                }
+            }
+        }
+    }
+
+    private void removePosition(int index) {
+        positionIndices.remove(positions[index]);
+        int last = --positionCount;
+        if (index != last) {
+            //Move the last position into the hole so that the positions stay dense
+            long lastPos = positions[last];
+            positions[index] = lastPos;
+            sides[index] = sides[last];
+            System.arraycopy(acceptors, last * SIDES, acceptors, index * SIDES, SIDES);
+            positionIndices.put(lastPos, index);
         }
+        sides[last] = 0;
+        Arrays.fill(acceptors, last * SIDES, (last + 1) * SIDES, null);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > positions.length) {
+            int newCapacity = Math.max(capacity, Math.max(INITIAL_CAPACITY, positions.length + (positions.length >> 1)));
+            positions = Arrays.copyOf(positions, newCapacity);
+            sides = Arrays.copyOf(sides, newCapacity);
+            acceptors = Arrays.copyOf(acceptors, newCapacity * SIDES);
+        }
+    }
+
+    /**
+     * Removes all acceptors the given transmitter was connected to, and any pending changes to them.
+     */
+    public void removeTransmitter(Transmitter<ACCEPTOR, ?, ?> transmitter) {
+        long transmitterPos = transmitter.getTilePos().asLong();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            removeAcceptor(BlockPos.offset(transmitterPos, side), side.getOpposite());
+        }
+        changedAcceptors.remove(transmitter);
     }
 
     public void adoptAcceptors(NetworkAcceptorCache<ACCEPTOR> other) {
-        for (Entry<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> entry : other.cachedAcceptors.entrySet()) {
-            BlockPos pos = entry.getKey();
-            if (cachedAcceptors.containsKey(pos)) {
-                cachedAcceptors.get(pos).putAll(entry.getValue());
+        if (other.positionCount > 0) {
+            ensureCapacity(positionCount + other.positionCount);
+            if (positionCount == 0) {
+                //Nothing to merge with, so just copy the entire table over
+                System.arraycopy(other.positions, 0, positions, 0, other.positionCount);
+                System.arraycopy(other.sides, 0, sides, 0, other.positionCount);
+                System.arraycopy(other.acceptors, 0, acceptors, 0, other.positionCount * SIDES);
+                positionIndices.putAll(other.positionIndices);
+                positionCount = other.positionCount;
+                acceptorCount = other.acceptorCount;
             } else {
-                cachedAcceptors.put(pos, entry.getValue());
+                for (int otherIndex = 0; otherIndex < other.positionCount; otherIndex++) {
+                    long pos = other.positions[otherIndex];
+                    int index = positionIndices.get(pos);
+                    if (index == -1) {
+                        //Append the position and all its sides at once
+                        index = positionCount++;
+                        positions[index] = pos;
+                        sides[index] = other.sides[otherIndex];
+                        System.arraycopy(other.acceptors, otherIndex * SIDES, acceptors, index * SIDES, SIDES);
+                        positionIndices.put(pos, index);
+                        acceptorCount += Integer.bitCount(other.sides[otherIndex]);
+                    } else {
+                        //Both networks are connected to this position, merge the sides with the ones from the other network taking priority
+                        byte otherSides = other.sides[otherIndex];
+                        acceptorCount += Integer.bitCount(otherSides & ~sides[index]);
+                        sides[index] |= otherSides;
+                        for (int side = 0; side < SIDES; side++) {
+                            if ((otherSides & (1 << side)) != 0) {
+                                acceptors[index * SIDES + side] = other.acceptors[otherIndex * SIDES + side];
+                            }
+                        }
+                    }
+                }
             }
         }
         for (Entry<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> entry : other.changedAcceptors.entrySet()) {
@@ -74,35 +191,60 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     }
 
     public void deregister() {
-        cachedAcceptors.clear();
+        Arrays.fill(sides, 0, positionCount, (byte) 0);
+        Arrays.fill(acceptors, 0, positionCount * SIDES, null);
+        positionIndices.clear();
+        positionCount = 0;
+        acceptorCount = 0;
         changedAcceptors.clear();
     }
 
     /**
-     * @apiNote Listeners should not be added to these LazyOptionals here as they may not correspond to an actual handler and may not get invalidated.
+     * @return The number of distinct positions that have at least one acceptor, valid indices for {@link #getPosition(int)} and {@link #getAcceptor(int, Direction)}
+     * are {@code 0} to {@code getPositionCount() - 1}.
      */
-    public Set<Map.Entry<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>>> getAcceptorEntrySet() {
-        return cachedAcceptors.entrySet();
+    public int getPositionCount() {
+        return positionCount;
     }
 
     /**
+     * @return The packed position ({@link BlockPos#asLong()}) of the acceptors at the given index.
+     */
+    public long getPosition(int index) {
+        return positions[index];
+    }
+
+    /**
+     * @param side Side of the acceptor that the network is connected to it from.
+     *
+     * @return The acceptor at the given index on the given side, or {@code null} if there is no acceptor on that side.
+     *
      * @apiNote Listeners should not be added to these LazyOptionals here as they may not correspond to an actual handler and may not get invalidated.
      */
-    public Collection<Map<Direction, LazyOptional<ACCEPTOR>>> getAcceptorValues() {
-        return cachedAcceptors.values();
+    @Nullable
+    public LazyOptional<ACCEPTOR> getAcceptor(int index, Direction side) {
+        return acceptors[index * SIDES + side.ordinal()];
     }
 
     public int getAcceptorCount() {
         //Count multiple connections to the same position as multiple acceptors
-        return cachedAcceptors.values().stream().mapToInt(Map::size).sum();
+        return acceptorCount;
     }
 
     public boolean hasAcceptor(BlockPos acceptorPos) {
-        return cachedAcceptors.containsKey(acceptorPos);
+        return positionIndices.containsKey(acceptorPos.asLong());
     }
 
     public Set<Direction> getAcceptorDirections(BlockPos pos) {
-        //TODO: Do this better?
-        return cachedAcceptors.get(pos).keySet();
+        Set<Direction> directions = EnumSet.noneOf(Direction.class);
+        int index = positionIndices.get(pos.asLong());
+        if (index != -1) {
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if ((sides[index] & (1 << side.ordinal())) != 0) {
+                    directions.add(side);
+                }
+            }
+        }
+        return directions;
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package mekanism.common.network;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
@@ -14,6 +15,7 @@ import mekanism.common.lib.math.Range3D;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.Packet;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
@@ -145,6 +147,25 @@ public abstract class BasePacketHandler {
         }
     }
 
+    /**
+     * Send this message to the specified players, only encoding it once.
+     *
+     * @param message - the message to send
+     * @param players - the players to send it to
+     */
+    public <MSG> void sendTo(MSG message, List<ServerPlayer> players) {
+        Packet<?> packet = null;
+        for (ServerPlayer player : players) {
+            //Validate it is not a fake player, even though none of our code should call this with a fake player
+            if (!(player instanceof FakePlayer)) {
+                if (packet == null) {
+                    packet = getChannel().toVanillaPacket(message, NetworkDirection.PLAY_TO_CLIENT);
+                }
+                player.connection.send(packet);
+            }
+        }
+    }
+
     /**
      * Send this message to everyone connected to the server.
      *
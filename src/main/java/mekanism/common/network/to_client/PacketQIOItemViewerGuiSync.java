@@ -1,40 +1,73 @@
 package mekanism.common.network.to_client;
 
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
-import mekanism.common.network.BasePacketHandler;
 import mekanism.common.network.IMekanismPacket;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.network.NetworkEvent;
 
+/**
+ * Syncs the items stored in a QIO frequency to a player viewing them. Types are referred to by an id that the server doesn't reuse for another type until the client
+ * has been told the type was removed, so that the item and UUID of a type only need to be sent once, and after that changes to it only need to send the id and how
+ * much its count changed.
+ */
 public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
 
     private final Type type;
-    private final Object2LongMap<UUIDAwareHashedItem> itemMap;
     private final long countCapacity;
     private final int typeCapacity;
+    //Batch: the types in this page, Update: types the client doesn't know about yet
+    private final List<SyncedType> types;
+    //Batch only
+    private final boolean first, last;
+    //Update only
+    private final IntList changedIds;
+    private final LongList countDeltas;
+    private final IntList removedIds;
 
-    private PacketQIOItemViewerGuiSync(Type type, Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    private PacketQIOItemViewerGuiSync(Type type, long countCapacity, int typeCapacity, List<SyncedType> types, boolean first, boolean last, IntList changedIds,
+          LongList countDeltas, IntList removedIds) {
         this.type = type;
-        this.itemMap = itemMap;
         this.countCapacity = countCapacity;
         this.typeCapacity = typeCapacity;
+        this.types = types;
+        this.first = first;
+        this.last = last;
+        this.changedIds = changedIds;
+        this.countDeltas = countDeltas;
+        this.removedIds = removedIds;
     }
 
-    public static PacketQIOItemViewerGuiSync batch(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        return new PacketQIOItemViewerGuiSync(Type.BATCH, itemMap, countCapacity, typeCapacity);
+    /**
+     * @param first {@code true} if this is the first page, and the client should forget any types it knew about.
+     * @param last  {@code true} if this is the last page, and the client now knows about all types.
+     */
+    public static PacketQIOItemViewerGuiSync batch(List<SyncedType> types, boolean first, boolean last, long countCapacity, int typeCapacity) {
+        return new PacketQIOItemViewerGuiSync(Type.BATCH, countCapacity, typeCapacity, types, first, last, null, null, null);
     }
 
-    public static PacketQIOItemViewerGuiSync update(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        return new PacketQIOItemViewerGuiSync(Type.UPDATE, itemMap, countCapacity, typeCapacity);
+    /**
+     * @param added       Types the client doesn't know about yet.
+     * @param changedIds  Ids of types the client knows about whose count changed.
+     * @param countDeltas How much the count of each type in {@code changedIds} changed by.
+     * @param removedIds  Ids of types the client knows about that were removed.
+     */
+    public static PacketQIOItemViewerGuiSync update(List<SyncedType> added, IntList changedIds, LongList countDeltas, IntList removedIds, long countCapacity,
+          int typeCapacity) {
+        return new PacketQIOItemViewerGuiSync(Type.UPDATE, countCapacity, typeCapacity, added, false, false, changedIds, countDeltas, removedIds);
     }
 
     public static PacketQIOItemViewerGuiSync kill() {
-        return new PacketQIOItemViewerGuiSync(Type.UPDATE, null, 0, 0);
+        return new PacketQIOItemViewerGuiSync(Type.KILL, 0, 0, Collections.emptyList(), false, false, null, null, null);
     }
 
     @Override
@@ -42,8 +75,8 @@ public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
         LocalPlayer player = Minecraft.getInstance().player;
         if (player != null && player.containerMenu instanceof QIOItemViewerContainer container) {
             switch (type) {
-                case BATCH -> container.handleBatchUpdate(itemMap, countCapacity, typeCapacity);
-                case UPDATE -> container.handleUpdate(itemMap, countCapacity, typeCapacity);
+                case BATCH -> container.handleBatchUpdate(types, first, last, countCapacity, typeCapacity);
+                case UPDATE -> container.handleUpdate(types, changedIds, countDeltas, removedIds, countCapacity, typeCapacity);
                 case KILL -> container.handleKill();
             }
         }
@@ -55,27 +88,69 @@ public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
         if (type == Type.BATCH || type == Type.UPDATE) {
             buffer.writeVarLong(countCapacity);
             buffer.writeVarInt(typeCapacity);
-            BasePacketHandler.writeMap(buffer, itemMap, (key, value, buf) -> {
-                buf.writeItem(key.getStack());
-                //Shouldn't be null unless something failed, but if it does try to handle it relatively gracefully
-                BasePacketHandler.writeOptional(buf, key.getUUID(), FriendlyByteBuf::writeUUID);
-                buf.writeVarLong(value);
-            });
+            buffer.writeVarInt(types.size());
+            for (SyncedType syncedType : types) {
+                buffer.writeVarInt(syncedType.id());
+                buffer.writeItem(syncedType.type().getStack());
+                buffer.writeUUID(syncedType.type().getUUID());
+                buffer.writeVarLong(syncedType.count());
+            }
+            if (type == Type.BATCH) {
+                buffer.writeBoolean(first);
+                buffer.writeBoolean(last);
+            } else {
+                buffer.writeVarInt(changedIds.size());
+                for (int i = 0, size = changedIds.size(); i < size; i++) {
+                    buffer.writeVarInt(changedIds.getInt(i));
+                    //Zigzag encode the delta so that small decreases are also written as small var longs
+                    long delta = countDeltas.getLong(i);
+                    buffer.writeVarLong((delta << 1) ^ (delta >> 63));
+                }
+                buffer.writeVarInt(removedIds.size());
+                for (int i = 0, size = removedIds.size(); i < size; i++) {
+                    buffer.writeVarInt(removedIds.getInt(i));
+                }
+            }
         }
     }
 
     public static PacketQIOItemViewerGuiSync decode(FriendlyByteBuf buffer) {
         Type type = buffer.readEnum(Type.class);
-        long countCapacity = 0;
-        int typeCapacity = 0;
-        Object2LongMap<UUIDAwareHashedItem> map = null;
-        if (type == Type.BATCH || type == Type.UPDATE) {
-            countCapacity = buffer.readVarLong();
-            typeCapacity = buffer.readVarInt();
-            map = BasePacketHandler.readMap(buffer, Object2LongOpenHashMap::new,
-                  buf -> new UUIDAwareHashedItem(buf.readItem(), BasePacketHandler.readOptional(buf, FriendlyByteBuf::readUUID)), FriendlyByteBuf::readVarLong);
+        if (type == Type.KILL) {
+            return kill();
+        }
+        long countCapacity = buffer.readVarLong();
+        int typeCapacity = buffer.readVarInt();
+        int typeCount = buffer.readVarInt();
+        List<SyncedType> types = new ArrayList<>(typeCount);
+        for (int i = 0; i < typeCount; i++) {
+            types.add(new SyncedType(buffer.readVarInt(), new UUIDAwareHashedItem(buffer.readItem(), buffer.readUUID()), buffer.readVarLong()));
+        }
+        if (type == Type.BATCH) {
+            return batch(types, buffer.readBoolean(), buffer.readBoolean(), countCapacity, typeCapacity);
         }
-        return new PacketQIOItemViewerGuiSync(type, map, countCapacity, typeCapacity);
+        int changedCount = buffer.readVarInt();
+        IntList changedIds = new IntArrayList(changedCount);
+        LongList countDeltas = new LongArrayList(changedCount);
+        for (int i = 0; i < changedCount; i++) {
+            changedIds.add(buffer.readVarInt());
+            long zigzag = buffer.readVarLong();
+            countDeltas.add((zigzag >>> 1) ^ -(zigzag & 1));
+        }
+        int removedCount = buffer.readVarInt();
+        IntList removedIds = new IntArrayList(removedCount);
+        for (int i = 0; i < removedCount; i++) {
+            removedIds.add(buffer.readVarInt());
+        }
+        return update(types, changedIds, countDeltas, removedIds, countCapacity, typeCapacity);
+    }
+
+    /**
+     * @param id    Id of the type for the current viewing session.
+     * @param type  The type and the UUID it is known by.
+     * @param count The amount stored of the type.
+     */
+    public record SyncedType(int id, UUIDAwareHashedItem type, long count) {
     }
 
     public enum Type {
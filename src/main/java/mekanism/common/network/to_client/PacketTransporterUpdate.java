@@ -115,10 +115,11 @@ public class PacketTransporterUpdate implements IMekanismPacket {
         if (packet.isSync) {
             //Sync
             packet.stackId = buffer.readVarInt();
-            packet.stack = TransporterStack.readFromPacket(buffer);
+            packet.stack = TransporterStack.readFromPacket(packet.pos, buffer);
         } else {
             //Batch
-            packet.updates = BasePacketHandler.readMap(buffer, Int2ObjectOpenHashMap::new, FriendlyByteBuf::readVarInt, TransporterStack::readFromPacket);
+            packet.updates = BasePacketHandler.readMap(buffer, Int2ObjectOpenHashMap::new, FriendlyByteBuf::readVarInt,
+                  buf -> TransporterStack.readFromPacket(packet.pos, buf));
             packet.deletes = buffer.readCollection(IntOpenHashSet::new, FriendlyByteBuf::readVarInt);
         }
         if (packet.isDiversion) {
@@ -1,5 +1,8 @@
 package mekanism.common.network.to_client;
 
+import io.netty.buffer.Unpooled;
+import java.util.List;
+import javax.annotation.Nullable;
 import mekanism.common.Mekanism;
 import mekanism.common.network.IMekanismPacket;
 import mekanism.common.tile.base.TileEntityUpdateable;
@@ -11,42 +14,98 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.network.NetworkEvent;
 
+/**
+ * Syncs the update tags of one or more tiles, which are batched together when they are in the same chunk.
+ */
 public class PacketUpdateTile implements IMekanismPacket {
 
-    private final CompoundTag updateTag;
-    private final BlockPos pos;
+    private final List<TileUpdate> updates;
+    /**
+     * Updates that were already encoded while batching them, so that the batcher knows how big the packet is going to be without us having to encode them again.
+     */
+    @Nullable
+    private final FriendlyByteBuf encodedUpdates;
+    private final int encodedCount;
 
     public PacketUpdateTile(TileEntityUpdateable tile) {
-        this(tile.getBlockPos(), tile.getReducedUpdateTag());
+        this(List.of(new TileUpdate(tile.getBlockPos(), tile.getReducedUpdateTag())));
     }
 
-    private PacketUpdateTile(BlockPos pos, CompoundTag updateTag) {
-        this.pos = pos;
-        this.updateTag = updateTag;
+    public PacketUpdateTile(List<TileUpdate> updates) {
+        this.updates = updates;
+        this.encodedUpdates = null;
+        this.encodedCount = 0;
+    }
+
+    private PacketUpdateTile(Batch batch) {
+        this.updates = List.of();
+        this.encodedUpdates = batch.buffer;
+        this.encodedCount = batch.count;
     }
 
     @Override
     public void handle(NetworkEvent.Context context) {
         ClientLevel world = Minecraft.getInstance().level;
-        //Only handle the update packet if the block is currently loaded
-        if (WorldUtils.isBlockLoaded(world, pos)) {
-            TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, pos, true);
-            if (tile == null) {
-                Mekanism.logger.warn("Update tile packet received for position: {} in world: {}, but no valid tile was found.", pos,
-                      world.dimension().location());
-            } else {
-                tile.handleUpdatePacket(updateTag);
+        for (TileUpdate update : updates) {
+            BlockPos pos = update.pos();
+            //Only handle the update packet if the block is currently loaded
+            if (WorldUtils.isBlockLoaded(world, pos)) {
+                TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, pos, true);
+                if (tile == null) {
+                    Mekanism.logger.warn("Update tile packet received for position: {} in world: {}, but no valid tile was found.", pos,
+                          world.dimension().location());
+                } else {
+                    tile.handleUpdatePacket(update.updateTag());
+                }
             }
         }
     }
 
     @Override
     public void encode(FriendlyByteBuf buffer) {
-        buffer.writeBlockPos(pos);
-        buffer.writeNbt(updateTag);
+        if (encodedUpdates == null) {
+            buffer.writeCollection(updates, PacketUpdateTile::encodeUpdate);
+        } else {
+            //Note: We write the same format as writeCollection so that decoding doesn't have to care about how the packet was created
+            buffer.writeVarInt(encodedCount);
+            buffer.writeBytes(encodedUpdates, encodedUpdates.readerIndex(), encodedUpdates.readableBytes());
+        }
+    }
+
+    private static void encodeUpdate(FriendlyByteBuf buffer, TileUpdate update) {
+        buffer.writeBlockPos(update.pos());
+        buffer.writeNbt(update.updateTag());
     }
 
     public static PacketUpdateTile decode(FriendlyByteBuf buffer) {
-        return new PacketUpdateTile(buffer.readBlockPos(), buffer.readNbt());
+        return new PacketUpdateTile(buffer.readList(buf -> new TileUpdate(buf.readBlockPos(), buf.readNbt())));
+    }
+
+    public record TileUpdate(BlockPos pos, CompoundTag updateTag) {
+    }
+
+    /**
+     * Encodes tile updates as they get added so that the size of the packet they will be sent in is known up front.
+     */
+    public static class Batch {
+
+        private final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        private int count;
+
+        public void add(BlockPos pos, CompoundTag updateTag) {
+            encodeUpdate(buffer, new TileUpdate(pos, updateTag));
+            count++;
+        }
+
+        /**
+         * @return Number of bytes the updates in this batch take up.
+         */
+        public int size() {
+            return buffer.readableBytes();
+        }
+
+        public PacketUpdateTile build() {
+            return new PacketUpdateTile(this);
+        }
     }
-}
\ No newline at end of file
+}
@@ -2,12 +2,15 @@ package mekanism.common.network.to_client.container;
 
 import java.util.ArrayList;
 import java.util.List;
+import javax.annotation.Nullable;
 import mekanism.common.inventory.container.MekanismContainer;
+import mekanism.common.inventory.container.sync.ContainerSyncStats;
 import mekanism.common.network.IMekanismPacket;
 import mekanism.common.network.to_client.container.property.PropertyData;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.inventory.MenuType;
 import net.minecraftforge.network.NetworkEvent;
 
 public class PacketUpdateContainer implements IMekanismPacket {
@@ -15,9 +18,13 @@ public class PacketUpdateContainer implements IMekanismPacket {
     //Note: windowId gets transferred over the network as an unsigned byte
     private final short windowId;
     private final List<PropertyData> data;
+    //Note: Only known on the server, for keeping track of how much data each type of container sends
+    @Nullable
+    private final MenuType<?> containerType;
 
-    public PacketUpdateContainer(short windowId, List<PropertyData> data) {
+    public PacketUpdateContainer(short windowId, @Nullable MenuType<?> containerType, List<PropertyData> data) {
         this.windowId = windowId;
+        this.containerType = containerType;
         this.data = data;
     }
 
@@ -33,8 +40,12 @@ public class PacketUpdateContainer implements IMekanismPacket {
 
     @Override
     public void encode(FriendlyByteBuf buffer) {
+        int start = buffer.writerIndex();
         buffer.writeByte(windowId);
         buffer.writeCollection(data, (buf, data) -> data.writeToPacket(buf));
+        if (containerType != null) {
+            ContainerSyncStats.onSent(containerType, buffer.writerIndex() - start);
+        }
     }
 
     public static PacketUpdateContainer decode(FriendlyByteBuf buffer) {
@@ -47,6 +58,6 @@ public class PacketUpdateContainer implements IMekanismPacket {
                 data.add(propertyData);
             }
         }
-        return new PacketUpdateContainer(windowId, data);
+        return new PacketUpdateContainer(windowId, null, data);
     }
 }
\ No newline at end of file
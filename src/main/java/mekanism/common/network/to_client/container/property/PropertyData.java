@@ -25,12 +25,13 @@ public abstract class PropertyData {
 
     public void writeToPacket(FriendlyByteBuf buffer) {
         buffer.writeEnum(type);
-        buffer.writeShort(property);
+        //Note: We write the property index as a var int as most containers have few enough properties for it to only take a single byte
+        buffer.writeVarInt(property);
     }
 
     public static PropertyData fromBuffer(FriendlyByteBuf buffer) {
         PropertyType type = buffer.readEnum(PropertyType.class);
-        short property = buffer.readShort();
+        short property = (short) buffer.readVarInt();
         return type.createData(property, buffer);
     }
 }
\ No newline at end of file
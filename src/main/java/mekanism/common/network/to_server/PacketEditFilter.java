@@ -50,15 +50,8 @@ public class PacketEditFilter implements IMekanismPacket {
                         filters.add(index, (SorterFilter<?>) edited);
                     }
                 }
-            } else if (filter instanceof MinerFilter && tile instanceof TileEntityDigitalMiner miner) {
-                HashList<MinerFilter<?>> filters = miner.getFilters();
-                int index = filters.indexOf(filter);
-                if (index != -1) {
-                    filters.remove(index);
-                    if (!delete) {
-                        filters.add(index, (MinerFilter<?>) edited);
-                    }
-                }
+            } else if (filter instanceof MinerFilter<?> minerFilter && tile instanceof TileEntityDigitalMiner miner) {
+                miner.replaceFilter(minerFilter, delete ? null : (MinerFilter<?>) edited);
             } else if (filter instanceof OredictionificatorItemFilter && tile instanceof TileEntityOredictionificator oredictionificator) {
                 HashList<OredictionificatorItemFilter> filters = oredictionificator.getFilters();
                 int index = filters.indexOf(filter);
@@ -68,15 +61,8 @@ public class PacketEditFilter implements IMekanismPacket {
                         filters.add(index, (OredictionificatorItemFilter) edited);
                     }
                 }
-            } else if (filter instanceof QIOFilter && tile instanceof TileEntityQIOFilterHandler qioFilterHandler) {
-                HashList<QIOFilter<?>> filters = qioFilterHandler.getFilters();
-                int index = filters.indexOf(filter);
-                if (index != -1) {
-                    filters.remove(index);
-                    if (!delete) {
-                        filters.add(index, (QIOFilter<?>) edited);
-                    }
-                }
+            } else if (filter instanceof QIOFilter<?> qioFilter && tile instanceof TileEntityQIOFilterHandler qioFilterHandler) {
+                qioFilterHandler.replaceFilter(qioFilter, delete ? null : (QIOFilter<?>) edited);
             }
             tile.setChanged();
         }
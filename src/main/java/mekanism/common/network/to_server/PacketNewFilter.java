@@ -37,11 +37,11 @@ public class PacketNewFilter implements IMekanismPacket {
                 if (filter instanceof SorterFilter<?> filter && blockEntity instanceof TileEntityLogisticalSorter tile) {
                     tile.getFilters().add(filter);
                 } else if (filter instanceof MinerFilter<?> filter && blockEntity instanceof TileEntityDigitalMiner tile) {
-                    tile.getFilters().add(filter);
+                    tile.addFilter(filter);
                 } else if (filter instanceof OredictionificatorItemFilter filter && blockEntity instanceof TileEntityOredictionificator tile) {
                     tile.getFilters().add(filter);
                 } else if (filter instanceof QIOFilter<?> filter && blockEntity instanceof TileEntityQIOFilterHandler tile) {
-                    tile.getFilters().add(filter);
+                    tile.addFilter(filter);
                 }
                 blockEntity.setChanged();
             }
@@ -18,6 +18,7 @@ import net.minecraft.world.level.Level;
 public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> implements IInputRecipeCache {
 
     protected final MekanismRecipeType<RECIPE, ?> recipeType;
+    protected final NegativeLookupCache negativeLookups = new NegativeLookupCache();
     protected boolean initialized;
 
     protected AbstractInputRecipeCache(MekanismRecipeType<RECIPE, ?> recipeType) {
@@ -28,6 +29,14 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> im
     public void clear() {
         //Mark the cache as no longer being initialized
         initialized = false;
+        negativeLookups.clear();
+    }
+
+    /**
+     * Gets the cache of inputs that aren't used by any recipe of this cache's recipe type, and how often it let lookups be skipped.
+     */
+    public NegativeLookupCache getNegativeLookups() {
+        return negativeLookups;
     }
 
     /**
@@ -52,7 +61,14 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> im
      */
     @Nullable
     protected RECIPE findFirstRecipe(@Nullable Collection<RECIPE> recipes, Predicate<RECIPE> matchCriteria) {
-        return recipes == null ? null : recipes.stream().filter(matchCriteria).findFirst().orElse(null);
+        if (recipes != null) {
+            for (RECIPE recipe : recipes) {
+                if (matchCriteria.test(recipe)) {
+                    return recipe;
+                }
+            }
+        }
+        return null;
     }
 
     /**
@@ -65,7 +81,27 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> im
             return false;
         }
         initCacheIfNeeded(world);
-        return cache.contains(input) || complexRecipes.stream().anyMatch(recipe -> inputExtractor.apply(recipe).testType(input));
+        return !negativeLookups.isMissing(cache, input) && hasRecipeWithInput(input, inputExtractor, cache, complexRecipes);
+    }
+
+    /**
+     * Helper to check if a cache contains a given input, or if not, if the complex recipe fallback set contains a matching recipe. If neither do the input gets
+     * remembered as not being used by any recipe.
+     *
+     * @implNote Expects the cache to already be initialized and the input to not be empty.
+     */
+    protected <INPUT, INGREDIENT extends InputIngredient<INPUT>, CACHE extends IInputCache<INPUT, INGREDIENT, RECIPE>> boolean hasRecipeWithInput(INPUT input,
+          Function<RECIPE, INGREDIENT> inputExtractor, CACHE cache, Set<RECIPE> complexRecipes) {
+        if (cache.contains(input)) {
+            return true;
+        }
+        for (RECIPE recipe : complexRecipes) {
+            if (inputExtractor.apply(recipe).testType(input)) {
+                return true;
+            }
+        }
+        negativeLookups.markMissing(cache, input);
+        return false;
     }
 
     /**
@@ -88,11 +124,19 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> im
             return true;
         }
         initCacheIfNeeded(world);
+        if (negativeLookups.isMissing(cache1, input1) || negativeLookups.isMissing(cache2, input2)) {
+            return false;
+        }
         //Note: If cache 1 contains input 1 then we only need to test the type of input 2 as we already know input 1 matches
         if (cache1.contains(input1, recipe -> input2Extractor.apply(recipe).testType(input2))) {
             return true;
         }
         //Our quick lookup 1 cache does not contain it, check any recipes where the 1 ingredient was complex
-        return complexIngredients1.stream().anyMatch(recipe -> input1Extractor.apply(recipe).testType(input1) && input2Extractor.apply(recipe).testType(input2));
+        for (RECIPE recipe : complexIngredients1) {
+            if (input1Extractor.apply(recipe).testType(input1) && input2Extractor.apply(recipe).testType(input2)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
\ No newline at end of file
@@ -143,6 +143,9 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
             return null;
         }
         initCacheIfNeeded(world);
+        if (negativeLookups.isMissing(cacheA, inputA) || negativeLookups.isMissing(cacheB, inputB)) {
+            return null;
+        }
         Predicate<RECIPE> matchPredicate = r -> r.test(inputA, inputB);
         //Lookup a recipe from the specified input map
         RECIPE recipe;
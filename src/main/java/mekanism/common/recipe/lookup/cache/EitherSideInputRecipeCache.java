@@ -53,8 +53,18 @@ public abstract class EitherSideInputRecipeCache<INPUT, INGREDIENT extends Input
             return false;
         }
         initCacheIfNeeded(world);
-        return cache.contains(input) || complexRecipes.stream().anyMatch(recipe -> inputAExtractor.apply(recipe).testType(input) ||
-                                                                                   inputBExtractor.apply(recipe).testType(input));
+        if (negativeLookups.isMissing(cache, input)) {
+            return false;
+        } else if (cache.contains(input)) {
+            return true;
+        }
+        for (RECIPE recipe : complexRecipes) {
+            if (inputAExtractor.apply(recipe).testType(input) || inputBExtractor.apply(recipe).testType(input)) {
+                return true;
+            }
+        }
+        negativeLookups.markMissing(cache, input);
+        return false;
     }
 
     /**
@@ -92,11 +102,14 @@ public abstract class EitherSideInputRecipeCache<INPUT, INGREDIENT extends Input
             return true;
         }
         //Our quick lookup cache does not contain it, check any recipes where the ingredients are complex
-        return complexRecipes.stream().anyMatch(recipe -> {
+        for (RECIPE recipe : complexRecipes) {
             INGREDIENT ingredientA = inputAExtractor.apply(recipe);
             INGREDIENT ingredientB = inputBExtractor.apply(recipe);
-            return ingredientA.testType(inputA) && ingredientB.testType(inputB) || ingredientB.testType(inputA) && ingredientA.testType(inputB);
-        });
+            if (ingredientA.testType(inputA) && ingredientB.testType(inputB) || ingredientB.testType(inputA) && ingredientA.testType(inputB)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
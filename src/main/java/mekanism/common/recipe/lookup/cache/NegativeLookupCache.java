@@ -0,0 +1,66 @@
+package mekanism.common.recipe.lookup.cache;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectArrayMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import mekanism.common.recipe.lookup.cache.type.IInputCache;
+
+/**
+ * Remembers inputs that no recipe of a recipe type uses, so that machines holding inputs without recipes, and transporters trying to insert them, don't have to check
+ * through the recipes again each time. Inputs are remembered separately for each of the type's {@link IInputCache input caches}, and only the most recently looked up
+ * inputs are remembered. This gets cleared along with the rest of the recipe type's cache when recipes are reloaded.
+ */
+public class NegativeLookupCache {
+
+    private static final int MAX_INPUTS = 256;
+
+    private final Map<IInputCache<?, ?, ?>, Map<Object, Boolean>> missingInputs = new Reference2ObjectArrayMap<>();
+    private long lookups;
+    private long hits;
+
+    /**
+     * @return {@code true} if the given input is known to not be used by any recipe.
+     */
+    public synchronized <INPUT> boolean isMissing(IInputCache<INPUT, ?, ?> cache, INPUT input) {
+        lookups++;
+        Map<Object, Boolean> missing = missingInputs.get(cache);
+        //Note: We use get rather than containsKey so that the input is marked as recently used
+        if (missing != null && missing.get(cache.createMissingKey(input, false)) != null) {
+            hits++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Remembers that the given input is not used by any recipe.
+     */
+    public synchronized <INPUT> void markMissing(IInputCache<INPUT, ?, ?> cache, INPUT input) {
+        missingInputs.computeIfAbsent(cache, c -> new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Boolean> eldest) {
+                return size() > MAX_INPUTS;
+            }
+        }).put(cache.createMissingKey(input, true), Boolean.TRUE);
+    }
+
+    public synchronized void clear() {
+        missingInputs.clear();
+        lookups = 0;
+        hits = 0;
+    }
+
+    /**
+     * @return The number of times inputs have been checked since recipes were last reloaded.
+     */
+    public synchronized long getLookups() {
+        return lookups;
+    }
+
+    /**
+     * @return The number of checked inputs that were known to not be used by any recipe, and so didn't have to be looked up.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+}
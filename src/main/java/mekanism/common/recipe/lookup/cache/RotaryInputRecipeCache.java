@@ -77,9 +77,19 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
             return null;
         }
         initCacheIfNeeded(world);
+        if (negativeLookups.isMissing(fluidInputCache, input)) {
+            return null;
+        }
         Predicate<RotaryRecipe> matchPredicate = recipe -> recipe.test(input);
         RotaryRecipe recipe = fluidInputCache.findFirstRecipe(input, matchPredicate);
-        return recipe == null ? findFirstRecipe(complexFluidInputRecipes, matchPredicate) : recipe;
+        if (recipe == null) {
+            recipe = findFirstRecipe(complexFluidInputRecipes, matchPredicate);
+            if (recipe == null) {
+                //Remember the input if the reason there is no match is that no recipe uses it rather than the input being too small
+                hasRecipeWithInput(input, RotaryRecipe::getFluidInput, fluidInputCache, complexFluidInputRecipes);
+            }
+        }
+        return recipe;
     }
 
     /**
@@ -97,9 +107,19 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
             return null;
         }
         initCacheIfNeeded(world);
+        if (negativeLookups.isMissing(gasInputCache, input)) {
+            return null;
+        }
         Predicate<RotaryRecipe> matchPredicate = recipe -> recipe.test(input);
         RotaryRecipe recipe = gasInputCache.findFirstRecipe(input, matchPredicate);
-        return recipe == null ? findFirstRecipe(complexGasInputRecipes, matchPredicate) : recipe;
+        if (recipe == null) {
+            recipe = findFirstRecipe(complexGasInputRecipes, matchPredicate);
+            if (recipe == null) {
+                //Remember the input if the reason there is no match is that no recipe uses it rather than the input being too small
+                hasRecipeWithInput(input, RotaryRecipe::getGasInput, gasInputCache, complexGasInputRecipes);
+            }
+        }
+        return recipe;
     }
 
     @Override
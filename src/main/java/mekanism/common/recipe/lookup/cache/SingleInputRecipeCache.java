@@ -62,9 +62,19 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
             return null;
         }
         initCacheIfNeeded(world);
+        if (negativeLookups.isMissing(cache, input)) {
+            return null;
+        }
         Predicate<RECIPE> matchPredicate = recipe -> recipe.test(input);
         RECIPE recipe = cache.findFirstRecipe(input, matchPredicate);
-        return recipe == null ? findFirstRecipe(complexRecipes, matchPredicate) : recipe;
+        if (recipe == null) {
+            recipe = findFirstRecipe(complexRecipes, matchPredicate);
+            if (recipe == null) {
+                //Remember the input if the reason there is no match is that no recipe uses it rather than the input being too small
+                hasRecipeWithInput(input, inputExtractor, cache, complexRecipes);
+            }
+        }
+        return recipe;
     }
 
     /**
@@ -96,6 +106,9 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
             return null;
         }
         initCacheIfNeeded(world);
+        if (negativeLookups.isMissing(cache, input)) {
+            return null;
+        }
         RECIPE recipe = cache.findFirstRecipe(input, matchCriteria);
         return recipe == null ? findFirstRecipe(complexRecipes, r -> inputExtractor.apply(r).testType(input) && matchCriteria.test(r)) : recipe;
     }
@@ -184,14 +184,20 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
             return containsPairing(world, input1, input1Extractor, cache1, complexIngredients1, input2, input2Extractor, cache2, complexIngredients2);
         }
         initCacheIfNeeded(world);
+        if (negativeLookups.isMissing(cache1, input1) || negativeLookups.isMissing(cache2, input2) || negativeLookups.isMissing(cache3, input3)) {
+            return false;
+        }
         //Note: If cache 1 contains input 1 then we only need to test the type of input 2 and 3 as we already know input 1 matches
         if (cache1.contains(input1, recipe -> input2Extractor.apply(recipe).testType(input2) && input3Extractor.apply(recipe).testType(input3))) {
             return true;
         }
         //Our quick lookup 1 cache does not contain it, check any recipes where the 1 ingredient was complex
-        return complexIngredients1.stream().anyMatch(recipe -> input1Extractor.apply(recipe).testType(input1) &&
-                                                               input2Extractor.apply(recipe).testType(input2) &&
-                                                               input3Extractor.apply(recipe).testType(input3));
+        for (RECIPE recipe : complexIngredients1) {
+            if (input1Extractor.apply(recipe).testType(input1) && input2Extractor.apply(recipe).testType(input2) && input3Extractor.apply(recipe).testType(input3)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -213,6 +219,9 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
             return null;
         }
         initCacheIfNeeded(world);
+        if (negativeLookups.isMissing(cacheA, inputA) || negativeLookups.isMissing(cacheB, inputB)) {
+            return null;
+        }
         Predicate<RECIPE> matchPredicate = r -> r.test(inputA, inputB, inputC);
         //Lookup a recipe from the A input map (the fact that it is A is arbitrary, it just as well could be B or C)
         RECIPE recipe = cacheA.findFirstRecipe(inputA, matchPredicate);
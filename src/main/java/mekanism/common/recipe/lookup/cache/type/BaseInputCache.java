@@ -1,10 +1,5 @@
 package mekanism.common.recipe.lookup.cache.type;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
 import java.util.function.Predicate;
 import javax.annotation.Nullable;
 import mekanism.api.recipes.MekanismRecipe;
@@ -19,8 +14,10 @@ public abstract class BaseInputCache<KEY, INPUT, INGREDIENT extends InputIngredi
     /**
      * Map of keys representing inputs to a set of the recipes that contain said input. This allows for quick contains checking by checking if a key exists, as well as
      * quicker recipe lookup.
+     *
+     * @implNote The keys are registry objects, so we can compare them by reference.
      */
-    private final Map<KEY, Set<RECIPE>> inputCache = new HashMap<>();
+    private final RecipeLookupTable<KEY, RECIPE> inputCache = new RecipeLookupTable<>(true);
 
     @Override
     public void clear() {
@@ -34,22 +31,18 @@ public abstract class BaseInputCache<KEY, INPUT, INGREDIENT extends InputIngredi
 
     @Override
     public boolean contains(INPUT input, Predicate<RECIPE> matchCriteria) {
-        Set<RECIPE> recipes = inputCache.get(createKey(input));
-        return recipes != null && recipes.stream().anyMatch(matchCriteria);
+        return inputCache.contains(createKey(input), matchCriteria);
     }
 
     @Nullable
     @Override
     public RECIPE findFirstRecipe(INPUT input, Predicate<RECIPE> matchCriteria) {
-        return findFirstRecipe(inputCache.get(createKey(input)), matchCriteria);
+        return inputCache.findFirst(createKey(input), matchCriteria);
     }
 
-    /**
-     * Helper to filter a potentially null collection of recipes by a given predicate.
-     */
-    @Nullable
-    protected RECIPE findFirstRecipe(@Nullable Collection<RECIPE> recipes, Predicate<RECIPE> matchCriteria) {
-        return recipes == null ? null : recipes.stream().filter(matchCriteria).findFirst().orElse(null);
+    @Override
+    public Object createMissingKey(INPUT input, boolean stored) {
+        return createKey(input);
     }
 
     /**
@@ -68,6 +61,6 @@ public abstract class BaseInputCache<KEY, INPUT, INGREDIENT extends InputIngredi
      * @param recipe Recipe to add.
      */
     protected void addInputCache(KEY input, RECIPE recipe) {
-        inputCache.computeIfAbsent(input, i -> new HashSet<>()).add(recipe);
+        inputCache.add(input, recipe);
     }
 }
\ No newline at end of file
@@ -40,6 +40,11 @@ public class FluidInputCache<RECIPE extends MekanismRecipe> extends NBTSensitive
         return HashedFluid.raw(stack);
     }
 
+    @Override
+    protected HashedFluid createStoredNbtKey(FluidStack stack) {
+        return HashedFluid.create(stack);
+    }
+
     @Override
     public boolean isEmpty(FluidStack input) {
         return input.isEmpty();
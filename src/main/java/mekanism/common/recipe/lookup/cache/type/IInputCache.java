@@ -68,6 +68,16 @@ public interface IInputCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, R
         return multi.forEachIngredient(ingredient -> mapInputs(recipe, ingredient));
     }
 
+    /**
+     * Creates a key representing the given input, including any NBT data this cache can tell apart, for use in remembering inputs that aren't used by any recipe.
+     *
+     * @param input  Input to convert into a key.
+     * @param stored {@code true} if the key will be stored, {@code false} if it will only be used for querying and may be "raw".
+     *
+     * @return Key representing the given input.
+     */
+    Object createMissingKey(INPUT input, boolean stored);
+
     /**
      * Clears this {@link IInputCache}
      */
@@ -62,6 +62,11 @@ public class ItemInputCache<RECIPE extends MekanismRecipe> extends NBTSensitiveI
         return HashedItem.raw(stack);
     }
 
+    @Override
+    protected HashedItem createStoredNbtKey(ItemStack stack) {
+        return HashedItem.create(stack);
+    }
+
     @Override
     public boolean isEmpty(ItemStack input) {
         return input.isEmpty();
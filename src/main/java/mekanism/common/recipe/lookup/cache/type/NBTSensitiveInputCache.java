@@ -1,9 +1,5 @@
 package mekanism.common.recipe.lookup.cache.type;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
 import java.util.function.Predicate;
 import javax.annotation.Nullable;
 import mekanism.api.recipes.MekanismRecipe;
@@ -20,7 +16,7 @@ public abstract class NBTSensitiveInputCache<KEY, NBT_KEY, INPUT, INGREDIENT ext
      * Map of NBT based keys representing inputs to a set of the recipes that contain said input. This allows for quick contains checking by checking if a key exists, as
      * well as quicker recipe lookup.
      */
-    private final Map<NBT_KEY, Set<RECIPE>> nbtInputCache = new HashMap<>();
+    private final RecipeLookupTable<NBT_KEY, RECIPE> nbtInputCache = new RecipeLookupTable<>(false);
 
     @Override
     public void clear() {
@@ -45,8 +41,7 @@ public abstract class NBTSensitiveInputCache<KEY, NBT_KEY, INPUT, INGREDIENT ext
      */
     @Override
     public boolean contains(INPUT input, Predicate<RECIPE> matchCriteria) {
-        Set<RECIPE> recipes = nbtInputCache.get(createNbtKey(input));
-        return recipes != null && recipes.stream().anyMatch(matchCriteria) || super.contains(input, matchCriteria);
+        return nbtInputCache.contains(createNbtKey(input), matchCriteria) || super.contains(input, matchCriteria);
     }
 
     /**
@@ -57,10 +52,20 @@ public abstract class NBTSensitiveInputCache<KEY, NBT_KEY, INPUT, INGREDIENT ext
     @Nullable
     @Override
     public RECIPE findFirstRecipe(INPUT input, Predicate<RECIPE> matchCriteria) {
-        RECIPE recipe = findFirstRecipe(nbtInputCache.get(createNbtKey(input)), matchCriteria);
+        RECIPE recipe = nbtInputCache.findFirst(createNbtKey(input), matchCriteria);
         return recipe == null ? super.findFirstRecipe(input, matchCriteria) : recipe;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Uses the NBT based key, as a recipe may use the input with some NBT but not others.
+     */
+    @Override
+    public Object createMissingKey(INPUT input, boolean stored) {
+        return stored ? createStoredNbtKey(input) : createNbtKey(input);
+    }
+
     /**
      * Creates a key for the given input including NBT for use in querying our input cache.
      *
@@ -72,6 +77,17 @@ public abstract class NBTSensitiveInputCache<KEY, NBT_KEY, INPUT, INGREDIENT ext
      */
     protected abstract NBT_KEY createNbtKey(INPUT input);
 
+    /**
+     * Creates a key for the given input including NBT that is safe to store.
+     *
+     * @param input Input to convert into an NBT based key.
+     *
+     * @return Key representing the given input including any NBT data.
+     *
+     * @apiNote Unlike {@link #createNbtKey(Object)} this key must not be "raw", as it will be persisted.
+     */
+    protected abstract NBT_KEY createStoredNbtKey(INPUT input);
+
     /**
      * Adds a given recipe to the input cache using the corresponding NBT based key.
      *
@@ -79,6 +95,6 @@ public abstract class NBTSensitiveInputCache<KEY, NBT_KEY, INPUT, INGREDIENT ext
      * @param recipe Recipe to add.
      */
     protected void addNbtInputCache(NBT_KEY input, RECIPE recipe) {
-        nbtInputCache.computeIfAbsent(input, i -> new HashSet<>()).add(recipe);
+        nbtInputCache.add(input, recipe);
     }
 }
\ No newline at end of file
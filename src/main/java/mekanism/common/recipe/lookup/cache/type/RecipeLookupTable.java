@@ -0,0 +1,77 @@
+package mekanism.common.recipe.lookup.cache.type;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+import mekanism.api.recipes.MekanismRecipe;
+
+/**
+ * Lookup table of keys representing inputs to the recipes that contain said input. Recipes are collected into sets while the cache is being built, and the first lookup
+ * afterwards compiles them into arrays, so that lookups just have to get the array for the key and loop over it instead of having to create an iterator or stream.
+ */
+class RecipeLookupTable<KEY, RECIPE extends MekanismRecipe> {
+
+    private static final MekanismRecipe[] EMPTY_RECIPES = new MekanismRecipe[0];
+
+    private final boolean identityKeys;
+    private final Map<KEY, Set<RECIPE>> recipes;
+    @Nullable
+    private volatile Map<KEY, MekanismRecipe[]> compiled;
+
+    /**
+     * @param identityKeys {@code true} if keys are only ever equal to themselves, such as registry objects, which allows comparing them by reference.
+     */
+    RecipeLookupTable(boolean identityKeys) {
+        this.identityKeys = identityKeys;
+        this.recipes = identityKeys ? new Reference2ObjectOpenHashMap<>() : new Object2ObjectOpenHashMap<>();
+    }
+
+    void clear() {
+        recipes.clear();
+        compiled = null;
+    }
+
+    void add(KEY key, RECIPE recipe) {
+        //Note: We use a linked set so that the order recipes are checked in matches the order they were added in
+        recipes.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(recipe);
+        compiled = null;
+    }
+
+    boolean containsKey(KEY key) {
+        return getCompiled().containsKey(key);
+    }
+
+    boolean contains(KEY key, Predicate<RECIPE> matchCriteria) {
+        return findFirst(key, matchCriteria) != null;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    RECIPE findFirst(KEY key, Predicate<RECIPE> matchCriteria) {
+        MekanismRecipe[] candidates = getCompiled().get(key);
+        if (candidates != null) {
+            for (MekanismRecipe candidate : candidates) {
+                if (matchCriteria.test((RECIPE) candidate)) {
+                    return (RECIPE) candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Map<KEY, MekanismRecipe[]> getCompiled() {
+        Map<KEY, MekanismRecipe[]> table = compiled;
+        if (table == null) {
+            table = identityKeys ? new Reference2ObjectOpenHashMap<>(recipes.size()) : new Object2ObjectOpenHashMap<>(recipes.size());
+            for (Map.Entry<KEY, Set<RECIPE>> entry : recipes.entrySet()) {
+                table.put(entry.getKey(), entry.getValue().toArray(EMPTY_RECIPES));
+            }
+            compiled = table;
+        }
+        return table;
+    }
+}
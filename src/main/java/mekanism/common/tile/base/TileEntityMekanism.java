@@ -568,7 +568,6 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         }
         tile.onUpdateServer();
         tile.updateRadiationScale();
-        //TODO - 1.18: More generic "needs update" flag that we set that then means we don't end up sending an update packet more than once per tick
         if (tile.persists(SubstanceType.HEAT)) {
             // update heat after server tick as we now have simulated changes
             // we use persists, as only one reference should update
@@ -803,8 +802,13 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
 
     public void onNeighborChange(Block block, BlockPos neighborPos) {
-        if (!isRemote() && supportsRedstone()) {
-            updatePower();
+        if (!isRemote()) {
+            if (supportsRedstone()) {
+                updatePower();
+            }
+            for (ITileComponent component : components) {
+                component.onNeighborChange(neighborPos);
+            }
         }
     }
 
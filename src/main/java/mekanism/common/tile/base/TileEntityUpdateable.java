@@ -27,6 +27,11 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     @Nullable
     private Coord4D cachedCoord;
     private boolean cacheCoord;
+    /**
+     * Last update tag sent to players tracking this tile by an update packet, or {@code null} if players may have received a different update tag since then.
+     */
+    @Nullable
+    private CompoundTag lastSentUpdateTag;
 
     public TileEntityUpdateable(TileEntityTypeRegistryObject<?> type, BlockPos pos, BlockState state) {
         super(type.get(), pos, state);
@@ -107,6 +112,8 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     @Nonnull
     @Override
     public CompoundTag getUpdateTag() {
+        //Note: This gets used when players start tracking the tile, so we can't assume anymore that they all have the last update tag we sent
+        lastSentUpdateTag = null;
         return getReducedUpdateTag();
     }
 
@@ -140,14 +147,34 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
             Mekanism.logger.warn("Update packet call requested from client side", new IllegalStateException());
         } else if (isRemoved()) {
             Mekanism.logger.warn("Update packet call requested for removed tile", new IllegalStateException());
-        } else {
+        } else if (tracking == this) {
             //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
             // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
-            // does not need to and should not be redrawn
+            // does not need to and should not be redrawn. The update gets sent at the end of the tick so that if the
+            // tile changes multiple times during the tick only a single update is sent for it
+            TileUpdateBatcher.queue(this);
+        } else {
+            lastSentUpdateTag = null;
             Mekanism.packetHandler().sendToAllTracking(new PacketUpdateTile(this), tracking);
         }
     }
 
+    /**
+     * Gets the update tag to send at the end of the tick.
+     *
+     * @return The update tag, or {@code null} if it is the same as the last update tag that was sent so there is no need to send it again.
+     */
+    @Nullable
+    CompoundTag getChangedUpdateTag() {
+        CompoundTag updateTag = getReducedUpdateTag();
+        if (updateTag.equals(lastSentUpdateTag)) {
+            return null;
+        }
+        //Note: We copy the tag in case any part of it is also referenced by the tile and gets modified later
+        lastSentUpdateTag = updateTag.copy();
+        return updateTag;
+    }
+
     @Override
     public Level getTileWorld() {
         return level;
@@ -0,0 +1,91 @@
+package mekanism.common.tile.base;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import mekanism.common.Mekanism;
+import mekanism.common.network.to_client.PacketUpdateTile.Batch;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * Collects the tiles that requested an update packet during a tick, so that at the end of the tick each tile sends at most one update, and the updates of tiles in the
+ * same chunk get sent to the players tracking that chunk as a single packet.
+ *
+ * @apiNote Only used on the server thread.
+ */
+public class TileUpdateBatcher {
+
+    /**
+     * Number of bytes after which we stop adding updates to a packet. This is well below the 1 MiB vanilla allows custom payloads to be, so that the last update added
+     * to a packet has plenty of room.
+     */
+    private static final int MAX_BATCH_SIZE = 256 * 1_024;
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<Set<TileEntityUpdateable>>> pendingUpdates = new Object2ObjectOpenHashMap<>();
+
+    private TileUpdateBatcher() {
+    }
+
+    static void queue(TileEntityUpdateable tile) {
+        BlockPos pos = tile.getBlockPos();
+        pendingUpdates.computeIfAbsent(tile.getWorldNN().dimension(), dimension -> new Long2ObjectLinkedOpenHashMap<>())
+              .computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), chunk -> new ReferenceLinkedOpenHashSet<>())
+              .add(tile);
+    }
+
+    /**
+     * Sends the pending updates of tiles in the given world.
+     */
+    public static void flush(ServerLevel world) {
+        Long2ObjectMap<Set<TileEntityUpdateable>> chunks = pendingUpdates.remove(world.dimension());
+        if (chunks == null) {
+            return;
+        }
+        for (Long2ObjectMap.Entry<Set<TileEntityUpdateable>> entry : Long2ObjectMaps.fastIterable(chunks)) {
+            List<ServerPlayer> players = world.getChunkSource().chunkMap.getPlayers(new ChunkPos(entry.getLongKey()), false);
+            if (players.isEmpty()) {
+                //Nobody is tracking the chunk, players that start tracking it will receive the full update tag of the tiles in it anyway
+                continue;
+            }
+            Batch batch = null;
+            for (TileEntityUpdateable tile : entry.getValue()) {
+                if (!tile.isRemoved() && tile.getLevel() == world) {
+                    CompoundTag updateTag = tile.getChangedUpdateTag();
+                    if (updateTag != null) {
+                        if (batch == null) {
+                            batch = new Batch();
+                        }
+                        batch.add(tile.getBlockPos(), updateTag);
+                        if (batch.size() >= MAX_BATCH_SIZE) {
+                            //Start a new packet once this one gets big, so that lots of tiles in one chunk updating at once can't go over the size limit of packets
+                            send(batch, players);
+                            batch = null;
+                        }
+                    }
+                }
+            }
+            if (batch != null) {
+                send(batch, players);
+            }
+        }
+    }
+
+    private static void send(Batch batch, List<ServerPlayer> players) {
+        //Note: We send the packet to all the players at once so that it only gets encoded once
+        Mekanism.packetHandler().sendTo(batch.build(), players);
+    }
+
+    public static void reset() {
+        pendingUpdates.clear();
+    }
+}
@@ -1,9 +1,10 @@
 package mekanism.common.tile.component;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.EnumSet;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -19,6 +20,7 @@ import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.fluid.IExtendedFluidTank;
 import mekanism.api.math.FloatingLongSupplier;
 import mekanism.api.text.EnumColor;
+import mekanism.common.capabilities.NeighborCapabilityCache;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
@@ -46,6 +48,7 @@ import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.NBTUtils;
 import mekanism.common.util.TransporterUtils;
 import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
@@ -67,6 +70,8 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     private boolean strictInput;
     private EnumColor outputColor;
     private int tickDelay = 0;
+    private final NeighborCapabilityCache neighbors;
+    private final Map<TransmissionType, EjectOutputs> ejectOutputs = new EnumMap<>(TransmissionType.class);
 
     public TileComponentEjector(TileEntityMekanism tile) {
         this(tile, MekanismConfig.general.chemicalAutoEjectRate);
@@ -89,6 +94,7 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         this.chemicalEjectRate = chemicalEjectRate;
         this.fluidEjectRate = fluidEjectRate;
         this.energyEjectRate = energyEjectRate;
+        this.neighbors = new NeighborCapabilityCache(tile);
         tile.addComponent(this);
     }
 
@@ -134,53 +140,70 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
      * @apiNote Ensure that it can eject before calling this method.
      */
     private void eject(TransmissionType type, ConfigInfo info) {
+        for (EjectOutput output : getEjectOutputs(type, info)) {
+            if (type.isChemical()) {
+                IChemicalTank<?, ?> tank = (IChemicalTank<?, ?>) output.container();
+                if (!tank.isEmpty() && (canTankEject == null || canTankEject.test(tank))) {
+                    ChemicalUtil.emit(output.sides(), tank, neighbors, chemicalEjectRate.getAsLong());
+                }
+            } else if (type == TransmissionType.FLUID) {
+                FluidUtils.emit(output.sides(), (IExtendedFluidTank) output.container(), neighbors, fluidEjectRate.getAsInt());
+            } else if (type == TransmissionType.ENERGY) {
+                IEnergyContainer container = (IEnergyContainer) output.container();
+                if (!container.isEmpty()) {
+                    CableUtils.emit(output.sides(), container, neighbors, energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.get());
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the tanks of the given type that can output and the sides they output to, only recalculating them when the config or the direction of the tile changed.
+     */
+    private List<EjectOutput> getEjectOutputs(TransmissionType type, ConfigInfo info) {
+        Direction facing = tile.getDirection();
+        EjectOutputs outputs = ejectOutputs.get(type);
+        if (outputs == null || outputs.configVersion() != info.getVersion() || outputs.facing() != facing) {
+            outputs = new EjectOutputs(info.getVersion(), facing, calculateEjectOutputs(type, info));
+            ejectOutputs.put(type, outputs);
+        }
+        return outputs.outputs();
+    }
+
+    private static List<EjectOutput> calculateEjectOutputs(TransmissionType type, ConfigInfo info) {
         //Used to keep track of tanks to what sides they output to
-        Map<Object, Set<Direction>> outputData = null;
+        Map<Object, Set<Direction>> outputData = new LinkedHashMap<>();
         for (DataType dataType : info.getSupportedDataTypes()) {
             if (dataType.canOutput()) {
                 ISlotInfo slotInfo = info.getSlotInfo(dataType);
                 if (slotInfo != null) {
                     Set<Direction> outputSides = info.getSidesForData(dataType);
                     if (!outputSides.isEmpty()) {
-                        if (outputData == null) {
-                            //Lazy init outputData
-                            outputData = new HashMap<>();
-                        }
                         if (type.isChemical() && slotInfo instanceof ChemicalSlotInfo<?, ?, ?> chemicalSlotInfo) {
                             for (IChemicalTank<?, ?> tank : chemicalSlotInfo.getTanks()) {
-                                if (!tank.isEmpty() && (canTankEject == null || canTankEject.test(tank))) {
-                                    outputData.computeIfAbsent(tank, t -> EnumSet.noneOf(Direction.class)).addAll(outputSides);
-                                }
+                                outputData.computeIfAbsent(tank, t -> EnumSet.noneOf(Direction.class)).addAll(outputSides);
                             }
                         } else if (type == TransmissionType.FLUID && slotInfo instanceof FluidSlotInfo fluidSlotInfo) {
                             for (IExtendedFluidTank tank : fluidSlotInfo.getTanks()) {
-                                if (!tank.isEmpty()) {
-                                    outputData.computeIfAbsent(tank, t -> EnumSet.noneOf(Direction.class)).addAll(outputSides);
-                                }
+                                outputData.computeIfAbsent(tank, t -> EnumSet.noneOf(Direction.class)).addAll(outputSides);
                             }
                         } else if (type == TransmissionType.ENERGY && slotInfo instanceof EnergySlotInfo energySlotInfo) {
                             for (IEnergyContainer container : energySlotInfo.getContainers()) {
-                                if (!container.isEmpty()) {
-                                    outputData.computeIfAbsent(container, t -> EnumSet.noneOf(Direction.class)).addAll(outputSides);
-                                }
+                                outputData.computeIfAbsent(container, t -> EnumSet.noneOf(Direction.class)).addAll(outputSides);
                             }
                         }
                     }
                 }
             }
         }
-        if (outputData != null && !outputData.isEmpty()) {
-            for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
-                if (type.isChemical()) {
-                    ChemicalUtil.emit(entry.getValue(), (IChemicalTank<?, ?>) entry.getKey(), tile, chemicalEjectRate.getAsLong());
-                } else if (type == TransmissionType.FLUID) {
-                    FluidUtils.emit(entry.getValue(), (IExtendedFluidTank) entry.getKey(), tile, fluidEjectRate.getAsInt());
-                } else if (type == TransmissionType.ENERGY) {
-                    IEnergyContainer container = (IEnergyContainer) entry.getKey();
-                    CableUtils.emit(entry.getValue(), container, tile, energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.get());
-                }
-            }
+        if (outputData.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<EjectOutput> outputs = new ArrayList<>(outputData.size());
+        for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
+            outputs.add(new EjectOutput(entry.getKey(), entry.getValue()));
         }
+        return outputs;
     }
 
     /**
@@ -200,7 +223,7 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                           ((InventorySlotInfo) slotInfo).getSlots());
                     if (!ejectMap.isEmpty()) {
                         for (Direction side : outputs) {
-                            BlockEntity target = WorldUtils.getTileEntity(tile.getLevel(), tile.getBlockPos().relative(side));
+                            BlockEntity target = neighbors.getNeighbor(side);
                             if (target != null) {
                                 //Update the side so that if/when the response uses it, it makes sure it is grabbing from the correct side
                                 ejectMap.side = side;
@@ -273,6 +296,16 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         return inputColors[side.ordinal()];
     }
 
+    @Override
+    public void onNeighborChange(BlockPos neighborPos) {
+        neighbors.invalidate(neighborPos);
+    }
+
+    @Override
+    public void invalidate() {
+        neighbors.clear();
+    }
+
     @Override
     public void read(CompoundTag nbtTags) {
         if (nbtTags.contains(NBTConstants.COMPONENT_EJECTOR, Tag.TAG_COMPOUND)) {
@@ -391,6 +424,12 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     }
     //End computer related methods
 
+    private record EjectOutput(Object container, Set<Direction> sides) {
+    }
+
+    private record EjectOutputs(int configVersion, Direction facing, List<EjectOutput> outputs) {
+    }
+
     private static class EjectTransitRequest extends TileTransitRequest {
 
         public Direction side;
@@ -35,6 +35,7 @@ public class ConfigInfo {
     private final Map<Object, List<DataType>> containerTypeMapping;
     //Not final so that it can be lazily initialized
     private Set<RelativeSide> disabledSides;
+    private int version;
 
     public ConfigInfo(@Nonnull Supplier<Direction> facingSupplier) {
         this.facingSupplier = facingSupplier;
@@ -72,6 +73,15 @@ public class ConfigInfo {
             disabledSides.add(side);
             sideConfig.put(side, DataType.NONE);
         }
+        version++;
+    }
+
+    /**
+     * @return A number that changes whenever what data types sides are configured to or what slots are available changes, for use in caching things that are based on
+     * the config. Changes to the direction the tile is facing are not included.
+     */
+    public int getVersion() {
+        return version;
     }
 
     public boolean isSideEnabled(@Nonnull RelativeSide side) {
@@ -92,6 +102,7 @@ public class ConfigInfo {
                 sideConfig.put(side, dataType);
             }
         }
+        version++;
     }
 
     @Nonnull
@@ -119,6 +130,7 @@ public class ConfigInfo {
 
     public void addSlotInfo(@Nonnull DataType dataType, @Nonnull ISlotInfo info) {
         slotInfo.put(dataType, info);
+        version++;
         // set up mapping
         if (info instanceof ChemicalSlotInfo<?, ?, ?> slotInfo) {
             for (IChemicalTank<?, ?> tank : slotInfo.getTanks()) {
@@ -192,6 +204,7 @@ public class ConfigInfo {
             Set<DataType> supportedDataTypes = getSupportedDataTypes();
             DataType newType = current.getNext(supportedDataTypes::contains);
             sideConfig.put(relativeSide, newType);
+            version++;
             return newType;
         }
         return current;
@@ -207,6 +220,7 @@ public class ConfigInfo {
             Set<DataType> supportedDataTypes = getSupportedDataTypes();
             DataType newType = current.getPrevious(supportedDataTypes::contains);
             sideConfig.put(relativeSide, newType);
+            version++;
             return newType;
         }
         return current;
@@ -4,6 +4,9 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArraySet;
 import it.unimi.dsi.fastutil.objects.ObjectIterator;
@@ -41,6 +44,7 @@ import mekanism.common.capabilities.resolver.BasicCapabilityResolver;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.filter.BaseFilter;
 import mekanism.common.content.filter.IFilter;
+import mekanism.common.content.miner.MinerBlockChangeTracker;
 import mekanism.common.content.miner.MinerFilter;
 import mekanism.common.content.miner.ThreadMinerSearch;
 import mekanism.common.content.miner.ThreadMinerSearch.State;
@@ -51,6 +55,7 @@ import mekanism.common.integration.computer.annotation.WrappingComputerMethod;
 import mekanism.common.integration.energy.EnergyCompatUtils;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.SyncableBoolean;
+import mekanism.common.inventory.container.sync.SyncableDouble;
 import mekanism.common.inventory.container.sync.SyncableEnum;
 import mekanism.common.inventory.container.sync.SyncableInt;
 import mekanism.common.inventory.container.sync.SyncableItemStack;
@@ -96,7 +101,6 @@ import net.minecraft.world.item.Items;
 import net.minecraft.world.item.enchantment.Enchantments;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.PathNavigationRegion;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.LevelEvent;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -136,6 +140,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     private int delay;
     private int delayLength = MekanismConfig.general.minerTicksPerMine.get();
     private int cachedToMine;
+    private double clientSearchProgress;
     private boolean silkTouch;
     private boolean running;
     private int delayTicks;
@@ -146,6 +151,9 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     private final TileComponentChunkLoader<TileEntityDigitalMiner> chunkLoaderComponent = new TileComponentChunkLoader<>(this);
     @Nullable
     private ChunkPos targetChunk;
+    // positions of blocks that changed in our area since we last updated our targets
+    private final LongSet changedBlocks = new LongOpenHashSet();
+    private boolean filtersChanged;
 
     private MinerEnergyContainer energyContainer;
     private List<IInventorySlot> mainSlots;
@@ -212,13 +220,12 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
             //If it had finished searching, and we didn't initialize things yet,
             // reset it and start running again if needed. This happens after saving the miner to disk
             if (searcher.state == State.FINISHED) {
-                boolean prevRunning = running;
-                reset();
-                start();
-                running = prevRunning;
+                restartSearch();
             }
             initCalc = true;
         }
+        searcher.tick();
+        updateTargets();
 
         energySlot.fillContainerOrConvert();
 
@@ -269,9 +276,66 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         this.oresToMine = oresToMine;
         cachedToMine = found;
         updateTargetChunk(null);
+        if (searcher.updatesTargets()) {
+            MinerBlockChangeTracker.track(this);
+        }
         markForSave();
     }
 
+    /**
+     * Called when a block in our area changed after we finished searching, if we {@link ThreadMinerSearch#updatesTargets() update our targets}.
+     */
+    public void onBlockChanged(BlockPos pos) {
+        //Note: We wait until our next update to check the block, as we may be in the middle of mining a block which changes the blocks around it
+        changedBlocks.add(pos.asLong());
+    }
+
+    private void onFiltersChanged() {
+        if (searcher.updatesTargets()) {
+            filtersChanged = true;
+        }
+    }
+
+    private void updateTargets() {
+        if (!searcher.updatesTargets()) {
+            return;
+        }
+        if (filtersChanged) {
+            searcher.onFiltersChanged(this::updateTarget);
+            filtersChanged = false;
+        }
+        if (!changedBlocks.isEmpty()) {
+            for (LongIterator iter = changedBlocks.iterator(); iter.hasNext(); ) {
+                BlockPos pos = BlockPos.of(iter.nextLong());
+                Optional<BlockState> state = WorldUtils.getBlockState(level, pos);
+                if (state.isPresent()) {
+                    searcher.onBlockChanged(level, pos, state.get(), this::updateTarget);
+                }
+            }
+            changedBlocks.clear();
+        }
+    }
+
+    private void updateTarget(long chunk, int index, boolean mine) {
+        BitSet chunkToMine = oresToMine.get(chunk);
+        if (mine) {
+            if (chunkToMine == null) {
+                chunkToMine = new BitSet();
+                oresToMine.put(chunk, chunkToMine);
+            }
+            if (!chunkToMine.get(index)) {
+                chunkToMine.set(index);
+                cachedToMine++;
+            }
+        } else if (chunkToMine != null && chunkToMine.get(index)) {
+            chunkToMine.clear(index);
+            cachedToMine--;
+            if (chunkToMine.isEmpty()) {
+                oresToMine.remove(chunk);
+            }
+        }
+    }
+
     public int getDelay() {
         return delayLength;
     }
@@ -326,6 +390,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     public void toggleInverse() {
         inverse = !inverse;
+        onFiltersChanged();
         markForSave();
     }
 
@@ -337,6 +402,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     public void setInverseReplaceTarget(Item target) {
         if (target != inverseReplaceTarget) {
             inverseReplaceTarget = target;
+            onFiltersChanged();
             markForSave();
         }
     }
@@ -352,7 +418,11 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     }
 
     public void setRadiusFromPacket(int newRadius) {
+        int prevRadius = radius;
         setRadius(Math.min(Math.max(0, newRadius), MekanismConfig.general.minerMaxRadius.get()));
+        if (radius != prevRadius) {
+            onAreaChanged();
+        }
         //Send a packet to update the visual renderer
         //TODO: Only do this if the renderer is actually active
         sendUpdatePacket();
@@ -371,7 +441,11 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     public void setMinYFromPacket(int newMinY) {
         if (level != null) {
+            int prevMinY = minY;
             setMinY(Math.min(Math.max(level.getMinBuildHeight(), newMinY), getMaxY()));
+            if (minY != prevMinY) {
+                onAreaChanged();
+            }
             //Send a packet to update the visual renderer
             //TODO: Only do this if the renderer is actually active
             sendUpdatePacket();
@@ -389,7 +463,11 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     public void setMaxYFromPacket(int newMaxY) {
         if (level != null) {
+            int prevMaxY = maxY;
             setMaxY(Math.max(Math.min(newMaxY, level.getMaxBuildHeight() - 1), getMinY()));
+            if (maxY != prevMaxY) {
+                onAreaChanged();
+            }
             //Send a packet to update the visual renderer
             //TODO: Only do this if the renderer is actually active
             sendUpdatePacket();
@@ -408,15 +486,50 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     @Override
     public void moveUp(int filterIndex) {
         filters.swap(filterIndex, filterIndex - 1);
+        onFiltersChanged();
         markForSave();
     }
 
     @Override
     public void moveDown(int filterIndex) {
         filters.swap(filterIndex, filterIndex + 1);
+        onFiltersChanged();
         markForSave();
     }
 
+    public void addFilter(MinerFilter<?> filter) {
+        if (filters.add(filter)) {
+            onFiltersChanged();
+        }
+    }
+
+    public void replaceFilter(MinerFilter<?> filter, @Nullable MinerFilter<?> replacement) {
+        int index = filters.indexOf(filter);
+        if (index != -1) {
+            filters.remove(index);
+            if (replacement != null) {
+                filters.add(index, replacement);
+            }
+            onFiltersChanged();
+        }
+    }
+
+    /**
+     * Searches again if the area changed after we started searching, as we don't know about any of the blocks that are now part of our area.
+     */
+    private void onAreaChanged() {
+        if (searcher.state != State.IDLE) {
+            restartSearch();
+        }
+    }
+
+    private void restartSearch() {
+        boolean prevRunning = running;
+        reset();
+        start();
+        running = prevRunning;
+    }
+
     private void tryMineBlock() {
         long target = targetChunk == null ? ChunkPos.INVALID_CHUNK_POS : targetChunk.toLong();
         for (ObjectIterator<Long2ObjectMap.Entry<BitSet>> it = oresToMine.long2ObjectEntrySet().iterator(); it.hasNext(); ) {
@@ -446,9 +559,9 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
                 Optional<BlockState> blockState = WorldUtils.getBlockState(level, pos);
                 if (blockState.isPresent()) {
                     BlockState state = blockState.get();
-                    if (!state.isAir() && !state.is(MekanismTags.Blocks.MINER_BLACKLIST)) {
-                        //Make sure the block is loaded and is not air, and is not in the blacklist of blocks the miner can break
-                        // then check if the block matches one of our filters
+                    if (!state.isAir() && !state.is(MekanismTags.Blocks.MINER_BLACKLIST) && state.getDestroySpeed(level, pos) >= 0) {
+                        //Make sure the block is loaded and is not air, is not in the blacklist of blocks the miner can break, and is not unbreakable
+                        // at its position, then check if the block matches one of our filters
                         MinerFilter<?> matchingFilter = null;
                         for (MinerFilter<?> filter : filters) {
                             if (filter.canFilter(state)) {
@@ -672,9 +785,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
             return;
         }
         if (searcher.state == State.IDLE) {
-            BlockPos startingPos = getStartingPos();
-            searcher.setChunkCache(new PathNavigationRegion(getLevel(), startingPos, startingPos.offset(getDiameter(), getMaxY() - getMinY() + 1, getDiameter())));
-            searcher.start();
+            searcher.start(getLevel());
         }
         running = true;
         markForSave();
@@ -682,7 +793,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     public void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
             reset();
         } else if (searcher.state == State.FINISHED) {
             running = false;
@@ -694,8 +804,11 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     }
 
     public void reset() {
-        //TODO: Should the old searcher thread be terminated somehow?
+        searcher.cancel();
         searcher = new ThreadMinerSearch(this);
+        MinerBlockChangeTracker.untrack(this);
+        changedBlocks.clear();
+        filtersChanged = false;
         running = false;
         cachedToMine = 0;
         oresToMine = Long2ObjectMaps.emptyMap();
@@ -749,6 +862,14 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         energyContainer.updateMinerEnergyPerTick();
     }
 
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        //Stop searching as nothing will use the results
+        searcher.cancel();
+        MinerBlockChangeTracker.untrack(this);
+    }
+
     @Override
     public void setLevel(@Nonnull Level world) {
         super.setLevel(world);
@@ -783,6 +904,21 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         return start.offset(index % diameter, index / diameter / diameter, (index / diameter) % diameter);
     }
 
+    /**
+     * @return The index of the position in our area, or {@code -1} if it is outside our area.
+     */
+    public int getIndex(BlockPos pos) {
+        int diameter = getDiameter();
+        BlockPos start = getStartingPos();
+        int x = pos.getX() - start.getX();
+        int y = pos.getY() - start.getY();
+        int z = pos.getZ() - start.getZ();
+        if (x < 0 || x >= diameter || z < 0 || z >= diameter || y < 0 || y > getMaxY() - getMinY()) {
+            return -1;
+        }
+        return x + z * diameter + y * diameter * diameter;
+    }
+
     @Override
     public boolean isPowered() {
         return redstone || numPowering > 0;
@@ -1096,7 +1232,12 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     @ComputerMethod
     public int getToMine() {
-        return !isRemote() && searcher.state == State.SEARCHING ? searcher.found : cachedToMine;
+        return !isRemote() && searcher.state == State.SEARCHING ? searcher.getFound() : cachedToMine;
+    }
+
+    @ComputerMethod
+    public double getSearchProgress() {
+        return isRemote() ? clientSearchProgress : searcher.getProgress();
     }
 
     @ComputerMethod
@@ -1124,6 +1265,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         container.track(SyncableBoolean.create(this::getSilkTouch, this::setSilkTouch));
         container.track(SyncableEnum.create(State::byIndexStatic, State.IDLE, () -> searcher.state, value -> searcher.state = value));
         container.track(SyncableInt.create(this::getToMine, value -> cachedToMine = value));
+        container.track(SyncableDouble.create(this::getSearchProgress, value -> clientSearchProgress = value));
         container.track(SyncableItemStack.create(() -> missingStack, value -> missingStack = value));
     }
 
@@ -1255,6 +1397,14 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         }
     }
 
+    private void validateCanChangeFilters() throws ComputerException {
+        validateSecurityIsPublic();
+        //Validate the miner is stopped and reset first, unless it keeps its targets up to date when the filters change
+        if (searcher.state != State.IDLE && !searcher.updatesTargets()) {
+            throw new ComputerException("Miner must be stopped and reset before its filters are changed.");
+        }
+    }
+
     @ComputerMethod(nameOverride = "setRadius")
     private void computerSetRadius(int radius) throws ComputerException {
         validateCanChangeConfiguration();
@@ -1293,7 +1443,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     @ComputerMethod
     private void setInverseMode(boolean enabled) throws ComputerException {
-        validateCanChangeConfiguration();
+        validateCanChangeFilters();
         if (inverse != enabled) {
             toggleInverse();
         }
@@ -1301,7 +1451,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     @ComputerMethod
     private void setInverseModeRequiresReplacement(boolean requiresReplacement) throws ComputerException {
-        validateCanChangeConfiguration();
+        validateCanChangeFilters();
         if (inverseRequiresReplacement != requiresReplacement) {
             toggleInverseRequiresReplacement();
         }
@@ -1309,7 +1459,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     @ComputerMethod
     private void setInverseModeReplaceTarget(Item target) throws ComputerException {
-        validateCanChangeConfiguration();
+        validateCanChangeFilters();
         setInverseReplaceTarget(target);
     }
 
@@ -1318,16 +1468,24 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         setInverseModeReplaceTarget(Items.AIR);
     }
 
-    @ComputerMethod
-    private boolean addFilter(MinerFilter<?> filter) throws ComputerException {
-        validateCanChangeConfiguration();
-        return filters.add(filter);
+    @ComputerMethod(nameOverride = "addFilter")
+    private boolean computerAddFilter(MinerFilter<?> filter) throws ComputerException {
+        validateCanChangeFilters();
+        boolean added = filters.add(filter);
+        if (added) {
+            onFiltersChanged();
+        }
+        return added;
     }
 
     @ComputerMethod
     private boolean removeFilter(MinerFilter<?> filter) throws ComputerException {
-        validateCanChangeConfiguration();
-        return filters.remove(filter);
+        validateCanChangeFilters();
+        boolean removed = filters.remove(filter);
+        if (removed) {
+            onFiltersChanged();
+        }
+        return removed;
     }
     //End methods IComputerTile
 
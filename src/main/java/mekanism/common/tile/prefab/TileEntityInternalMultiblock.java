@@ -66,10 +66,10 @@ public class TileEntityInternalMultiblock extends TileEntityMekanism implements
             //If the neighbor change happened from inside the bounds of the multiblock,
             if (!multiblock.internalLocations.contains(neighborPos) || level.isEmptyBlock(neighborPos)) {
                 //And we are not already an internal part of the structure, or we are changing an internal part to air
-                // then we mark the structure as needing to be re-validated
+                // then we mark the position as needing to be checked
                 //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
                 // it won't know to invalidate it but oh well. (See java docs on internalLocations for more caveats)
-                multiblock.recheckStructure = true;
+                multiblock.markInnerChanged(neighborPos);
             }
         }
     }
@@ -77,10 +77,10 @@ public class TileEntityInternalMultiblock extends TileEntityMekanism implements
     @Override
     public void blockRemoved() {
         super.blockRemoved();
-        //If an internal multiblock is being removed then mark the multiblock it was in as needing to recheck the structure
+        //If an internal multiblock is being removed then mark its position in the multiblock it was in as needing to be checked
         if (!isRemote() && hasFormedMultiblock() && multiblock != null) {
             //Multiblock shouldn't be null but validate it just in case
-            multiblock.recheckStructure = true;
+            multiblock.markInnerChanged(getBlockPos());
         }
     }
 
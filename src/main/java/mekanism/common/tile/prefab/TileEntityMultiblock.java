@@ -123,10 +123,16 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
             structure.tick(this, ticker % 10 == 0);
         }
         T multiblock = getMultiblock();
-        if (isMaster() && multiblock.isFormed() && multiblock.recheckStructure) {
-            getStructure().markForUpdate(level, true);
-            multiblock.recheckStructure = false;
-            multiblock = getMultiblock();
+        if (isMaster() && multiblock.isFormed()) {
+            if (!multiblock.recheckStructure && multiblock.hasChangedInnerPositions()) {
+                //Check just the inner positions that changed, and only validate the entire structure again if the changes may affect whether it is valid
+                multiblock.recheckStructure = !createFormationProtocol().revalidateInner(multiblock);
+            }
+            if (multiblock.recheckStructure) {
+                getStructure().markForUpdate(level, true);
+                multiblock.recheckStructure = false;
+                multiblock = getMultiblock();
+            }
         }
         if (multiblock.isFormed()) {
             if (!prevStructure) {
@@ -397,10 +403,10 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
                 //If the neighbor change happened from inside the bounds of the multiblock,
                 if (!multiblock.internalLocations.contains(neighborPos) || level.isEmptyBlock(neighborPos)) {
                     //And we are not already an internal part of the structure, or we are changing an internal part to air
-                    // then we mark the structure as needing to be re-validated
+                    // then we mark the position as needing to be checked
                     //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
                     // it won't know to invalidate it but oh well. (See java docs on internalLocations for more caveats)
-                    getStructure().markForUpdate(level, true);
+                    multiblock.markInnerChanged(neighborPos);
                 }
             }
         }
@@ -2,28 +2,24 @@ package mekanism.common.tile.qio;
 
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.function.ToIntFunction;
+import javax.annotation.Nullable;
 import mekanism.api.NBTConstants;
 import mekanism.api.math.MathUtils;
 import mekanism.common.Mekanism;
+import mekanism.common.content.qio.QIOExportSubscription;
 import mekanism.common.content.qio.QIOFrequency;
-import mekanism.common.content.qio.QIOFrequency.QIOItemTypeData;
+import mekanism.common.content.qio.QIOItemTypeStore;
 import mekanism.common.content.qio.filter.QIOFilter;
-import mekanism.common.content.qio.filter.QIOItemStackFilter;
-import mekanism.common.content.qio.filter.QIOModIDFilter;
-import mekanism.common.content.qio.filter.QIOTagFilter;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.SyncableBoolean;
+import mekanism.common.lib.inventory.Finder;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.util.CapabilityUtils;
@@ -44,13 +40,17 @@ import net.minecraftforge.items.IItemHandler;
 public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
 
     private static final int MAX_DELAY = 10;
+    /**
+     * Maximum number of item types to try exporting each operation.
+     */
+    private static final int MAX_EJECT_ATTEMPTS = 100;
     private int delay = 0;
     private boolean exportWithoutFilter;
 
-    private final EfficientEjector<Object2LongMap.Entry<HashedItem>> filterEjector =
-          new EfficientEjector<>(Entry::getKey, e -> MathUtils.clampToInt(e.getLongValue()));
-    private final EfficientEjector<Map.Entry<HashedItem, QIOItemTypeData>> filterlessEjector =
-          new EfficientEjector<>(Entry::getKey, e -> MathUtils.clampToInt(e.getValue().getCount()));
+    @Nullable
+    private QIOExportSubscription subscription;
+    // the filterless mode the subscription was created for, so we can tell when it needs to be recreated
+    private boolean subscribedWithoutFilter;
 
     public TileEntityQIOExporter(BlockPos pos, BlockState state) {
         super(MekanismBlocks.QIO_EXPORTER, pos, state);
@@ -71,40 +71,123 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
 
     private void tryEject() {
         QIOFrequency freq = getQIOFrequency();
+        QIOExportSubscription subscription = getSubscription(freq);
+        if (subscription == null || !subscription.hasExportable()) {
+            return;
+        }
         Direction direction = getDirection();
         BlockEntity back = WorldUtils.getTileEntity(getLevel(), worldPosition.relative(direction.getOpposite()));
-        if (freq == null || !InventoryUtils.isItemHandler(back, direction)) {
-            return;
+        if (InventoryUtils.isItemHandler(back, direction)) {
+            eject(freq, subscription, back);
         }
-        if (!exportWithoutFilter && getFilters().isEmpty()) {
-            return;
+    }
+
+    /**
+     * Gets the subscription to the types we can export from the given frequency, recreating it if the frequency or the filterless mode changed since it was created.
+     *
+     * @implNote Changes to the filters drop the subscription in {@link #onFiltersChanged()}.
+     */
+    @Nullable
+    private QIOExportSubscription getSubscription(@Nullable QIOFrequency freq) {
+        if (subscription != null && (subscription.getFrequency() != freq || subscribedWithoutFilter != exportWithoutFilter)) {
+            unsubscribe();
         }
-        if (exportWithoutFilter && getFilters().isEmpty()) {
-            filterlessEjector.eject(freq, back, freq.getItemDataMap().entrySet());
-        } else if (!getFilters().isEmpty()) {
-            filterEjector.eject(freq, back, getFilterEjectMap(back, freq).object2LongEntrySet());
+        if (subscription == null && freq != null) {
+            Finder finder = getExportFinder();
+            if (finder != null) {
+                subscription = freq.subscribe(this, finder);
+                subscribedWithoutFilter = exportWithoutFilter;
+            }
         }
+        return subscription;
     }
 
-    private Object2LongMap<HashedItem> getFilterEjectMap(BlockEntity back, QIOFrequency freq) {
-        Object2LongMap<HashedItem> map = new Object2LongOpenHashMap<>();
+    @Nullable
+    private Finder getExportFinder() {
+        if (getFilters().isEmpty()) {
+            return exportWithoutFilter ? Finder.ANY : null;
+        }
+        List<Finder> finders = new ArrayList<>(getFilters().size());
         for (QIOFilter<?> filter : getFilters()) {
-            if (filter instanceof QIOItemStackFilter itemFilter) {
-                if (itemFilter.fuzzyMode) {
-                    map.putAll(freq.getStacksByItem(itemFilter.getItemStack().getItem()));
-                } else {
-                    HashedItem type = HashedItem.create(itemFilter.getItemStack());
-                    map.put(type, freq.getStored(type));
+            finders.add(filter.getFinder());
+        }
+        return stack -> {
+            for (Finder finder : finders) {
+                if (finder.modifies(stack)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private void unsubscribe() {
+        if (subscription != null) {
+            subscription.unsubscribe();
+            subscription = null;
+        }
+    }
+
+    @Override
+    protected void onFiltersChanged() {
+        super.onFiltersChanged();
+        //The finder of the subscription is built from the filters, so it needs to be recreated. We can't compare the filters to find out if it changed
+        // as filter equality ignores the NBT of the filtered item
+        unsubscribe();
+    }
+
+    /**
+     * Tries to export the next exportable types of the subscription, continuing on from where the last export stopped. This makes sure we will eventually try
+     * exporting each type, without having to try every type each operation.
+     */
+    private void eject(QIOFrequency freq, QIOExportSubscription subscription, BlockEntity tile) {
+        Optional<IItemHandler> capability = CapabilityUtils.getCapability(tile, CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, getDirection()).resolve();
+        if (capability.isEmpty()) {
+            return;
+        }
+        IItemHandler inventory = capability.get();
+        QIOItemTypeStore<?> itemTypes = freq.getItemTypes();
+        int maxTypes = getMaxTransitTypes(), maxCount = getMaxTransitCount();
+        Object2IntMap<HashedItem> removed = new Object2IntOpenHashMap<>();
+        int amountRemoved = 0;
+        int attempts = Math.min(MAX_EJECT_ATTEMPTS, subscription.getExportableCount());
+        // stop if we've reached our quota
+        for (int attempt = 0; attempt < attempts && amountRemoved < maxCount && removed.size() < maxTypes; attempt++) {
+            int id = subscription.nextExportable();
+            HashedItem type = itemTypes.getType(id);
+            ItemStack origInsert = type.createStack(Math.min(maxCount - amountRemoved, MathUtils.clampToInt(itemTypes.getCount(id))));
+            ItemStack toInsert = origInsert.copy();
+            for (int i = 0; i < inventory.getSlots(); i++) {
+                // Check validation
+                if (inventory.isItemValid(i, toInsert)) {
+                    // Do insert
+                    toInsert = inventory.insertItem(i, toInsert, false);
+                    // If empty, end
+                    if (toInsert.isEmpty()) {
+                        break;
+                    }
                 }
-            } else if (filter instanceof QIOTagFilter tagFilter) {
-                String tagName = tagFilter.getTagName();
-                map.putAll(freq.getStacksByTagWildcard(tagName));
-            } else if (filter instanceof QIOModIDFilter modIDFilter) {
-                String modID = modIDFilter.getModID();
-                map.putAll(freq.getStacksByModIDWildcard(modID));
+            }
+            ItemStack toUse = TransporterManager.getToUse(origInsert, toInsert);
+            if (!toUse.isEmpty()) {
+                amountRemoved += toUse.getCount();
+                removed.mergeInt(type, toUse.getCount(), Integer::sum);
+            }
+        }
+        // actually remove the items from the QIO frequency
+        for (Object2IntMap.Entry<HashedItem> entry : removed.object2IntEntrySet()) {
+            int amount = entry.getIntValue();
+            ItemStack ret = freq.removeByType(entry.getKey(), amount);
+            if (ret.getCount() != amount) {
+                Mekanism.logger.error("QIO ejection item removal didn't line up with prediction: removed {}, expected {}", ret.getCount(), amount);
             }
         }
-        return map;
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        unsubscribe();
     }
 
     @ComputerMethod
@@ -163,82 +246,4 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
         }
     }
     //End methods IComputerTile
-
-    /**
-     * An efficient way to handle large (in item type) item ejections from a QIO frequency. Each eject attempt of a certain item type will use a uniform probability
-     * distribution based on a predetermined 'max eject attempt' constant to see if the ejection should take place. This makes sure we will eventually eject each item
-     * type, but not attempt every item in the frequency each operation.
-     *
-     * Abstracting us away from the item map (using the type/count suppliers) allows us to interface directly with the entries of the QIO's item data map when running a
-     * filterless ejection, rather than recreating the whole map each ejection operation.
-     *
-     * Complexity: O(k * s), where 'k' is our max eject attempts constant and 's' is the size of the inventory.
-     *
-     * @author aidancbrady
-     */
-    private final class EfficientEjector<T> {
-
-        private static final int MAX_EJECT_ATTEMPTS = 100;
-
-        private final Function<T, HashedItem> typeSupplier;
-        private final ToIntFunction<T> countSupplier;
-
-        private EfficientEjector(Function<T, HashedItem> typeSupplier, ToIntFunction<T> countSupplier) {
-            this.typeSupplier = typeSupplier;
-            this.countSupplier = countSupplier;
-        }
-
-        private void eject(QIOFrequency freq, BlockEntity tile, Collection<T> ejectMap) {
-            if (ejectMap.isEmpty()) {
-                return;
-            }
-            double ejectChance = Math.min(1, (double) MAX_EJECT_ATTEMPTS / ejectMap.size());
-            int maxTypes = getMaxTransitTypes(), maxCount = getMaxTransitCount();
-            Object2IntMap<HashedItem> removed = new Object2IntOpenHashMap<>();
-            int amountRemoved = 0;
-
-            Optional<IItemHandler> capability = CapabilityUtils.getCapability(tile, CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, getDirection()).resolve();
-
-            if (capability.isPresent()) {
-                IItemHandler inventory = capability.get();
-                for (T obj : ejectMap) {
-                    // break if we've reached our quota
-                    if (amountRemoved == maxCount || removed.size() == maxTypes) {
-                        break;
-                    }
-                    // skip randomly based on our eject chance
-                    if (getLevel().getRandom().nextDouble() > ejectChance) {
-                        continue;
-                    }
-                    HashedItem type = typeSupplier.apply(obj);
-                    ItemStack origInsert = type.createStack(Math.min(maxCount - amountRemoved, countSupplier.applyAsInt(obj)));
-                    ItemStack toInsert = origInsert.copy();
-                    for (int i = 0; i < inventory.getSlots(); i++) {
-                        // Check validation
-                        if (inventory.isItemValid(i, toInsert)) {
-                            // Do insert
-                            toInsert = inventory.insertItem(i, toInsert, false);
-                            // If empty, end
-                            if (toInsert.isEmpty()) {
-                                break;
-                            }
-                        }
-                    }
-                    ItemStack toUse = TransporterManager.getToUse(origInsert, toInsert);
-                    if (!toUse.isEmpty()) {
-                        amountRemoved += toUse.getCount();
-                        removed.put(type, removed.getOrDefault(type, 0) + toUse.getCount());
-                    }
-                }
-            }
-            // actually remove the items from the QIO frequency
-            for (Object2IntMap.Entry<HashedItem> entry : removed.object2IntEntrySet()) {
-                int amount = entry.getIntValue();
-                ItemStack ret = freq.removeByType(entry.getKey(), amount);
-                if (ret.getCount() != amount) {
-                    Mekanism.logger.error("QIO ejection item removal didn't line up with prediction: removed {}, expected {}", ret.getCount(), amount);
-                }
-            }
-        }
-    }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package mekanism.common.tile.qio;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.Map;
+import javax.annotation.Nullable;
 import mekanism.api.NBTConstants;
 import mekanism.api.Upgrade;
 import mekanism.api.providers.IBlockProvider;
@@ -59,6 +60,7 @@ public class TileEntityQIOFilterHandler extends TileEntityQIOComponent implement
                     filters.add(qioFilter);
                 }
             }
+            onFiltersChanged();
         }
     }
 
@@ -94,6 +96,7 @@ public class TileEntityQIOFilterHandler extends TileEntityQIOComponent implement
                 }
             }
         }
+        onFiltersChanged();
     }
 
     @Override
@@ -120,6 +123,29 @@ public class TileEntityQIOFilterHandler extends TileEntityQIOComponent implement
         markForSave();
     }
 
+    public void addFilter(QIOFilter<?> filter) {
+        if (filters.add(filter)) {
+            onFiltersChanged();
+        }
+    }
+
+    public void replaceFilter(QIOFilter<?> filter, @Nullable QIOFilter<?> replacement) {
+        int index = filters.indexOf(filter);
+        if (index != -1) {
+            filters.remove(index);
+            if (replacement != null) {
+                filters.add(index, replacement);
+            }
+            onFiltersChanged();
+        }
+    }
+
+    /**
+     * Called when filters get added, removed, or replaced.
+     */
+    protected void onFiltersChanged() {
+    }
+
     protected int getMaxTransitCount() {
         // 64 to 320 items
         return 64 + 32 * upgradeComponent.getUpgrades(Upgrade.SPEED);
@@ -131,16 +157,24 @@ public class TileEntityQIOFilterHandler extends TileEntityQIOComponent implement
     }
 
     //Methods relating to IComputerTile
-    @ComputerMethod
-    private boolean addFilter(QIOFilter<?> filter) throws ComputerException {
+    @ComputerMethod(nameOverride = "addFilter")
+    private boolean computerAddFilter(QIOFilter<?> filter) throws ComputerException {
         validateSecurityIsPublic();
-        return filters.add(filter);
+        boolean added = filters.add(filter);
+        if (added) {
+            onFiltersChanged();
+        }
+        return added;
     }
 
     @ComputerMethod
     private boolean removeFilter(QIOFilter<?> filter) throws ComputerException {
         validateSecurityIsPublic();
-        return filters.remove(filter);
+        boolean removed = filters.remove(filter);
+        if (removed) {
+            onFiltersChanged();
+        }
+        return removed;
     }
     //End methods IComputerTile
 }
\ No newline at end of file
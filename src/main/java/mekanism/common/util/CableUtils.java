@@ -6,6 +6,7 @@ import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.math.FloatingLong;
+import mekanism.common.capabilities.NeighborCapabilityCache;
 import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
 import mekanism.common.integration.energy.EnergyCompatUtils;
 import net.minecraft.core.Direction;
@@ -53,4 +54,22 @@ public final class CableUtils {
         }
         return FloatingLong.ZERO;
     }
+
+    /**
+     * Similar to {@link #emit(Set, IEnergyContainer, BlockEntity, FloatingLong)} except gets the handlers of the neighbors from the given cache.
+     */
+    public static void emit(Set<Direction> outputSides, IEnergyContainer energyContainer, NeighborCapabilityCache neighbors, FloatingLong maxOutput) {
+        if (!energyContainer.isEmpty() && !maxOutput.isZero()) {
+            FloatingLong energyToSend = energyContainer.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL);
+            if (!energyToSend.isZero() && !outputSides.isEmpty()) {
+                EnergyAcceptorTarget target = new EnergyAcceptorTarget(6);
+                for (Direction side : outputSides) {
+                    neighbors.getStrictEnergyHandler(side).ifPresent(target::addHandler);
+                }
+                if (target.getHandlerCount() > 0) {
+                    energyContainer.extract(EmitUtils.sendToAcceptors(target, energyToSend), Action.EXECUTE, AutomationType.INTERNAL);
+                }
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -36,6 +36,7 @@ import mekanism.api.text.EnumColor;
 import mekanism.api.text.TextComponentUtil;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.capabilities.NeighborCapabilityCache;
 import mekanism.common.content.network.distribution.ChemicalHandlerTarget;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tags.MekanismTags;
@@ -319,6 +320,35 @@ public class ChemicalUtil {
         return 0;
     }
 
+    /**
+     * Similar to {@link #emit(Set, IChemicalTank, BlockEntity, long)} except gets the handlers of the neighbors from the given cache.
+     */
+    public static void emit(Set<Direction> outputSides, IChemicalTank<?, ?> tank, NeighborCapabilityCache neighbors, long maxOutput) {
+        if (!tank.isEmpty() && maxOutput > 0) {
+            tank.extract(emit(outputSides, tank.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL), neighbors), Action.EXECUTE, AutomationType.INTERNAL);
+        }
+    }
+
+    private static <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long emit(Set<Direction> sides, @Nonnull STACK stack,
+          NeighborCapabilityCache neighbors) {
+        if (stack.isEmpty() || sides.isEmpty()) {
+            return 0;
+        }
+        Capability<IChemicalHandler<CHEMICAL, STACK>> capability = getCapabilityForChemical(stack);
+        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = new ChemicalHandlerTarget<>(stack, 6);
+        for (Direction side : sides) {
+            neighbors.getCapability(side, capability).ifPresent(handler -> {
+                if (canInsert(handler, stack)) {
+                    target.addHandler(handler);
+                }
+            });
+        }
+        if (target.getHandlerCount() > 0) {
+            return EmitUtils.sendToAcceptors(target, stack.getAmount(), ChemicalUtil.copy(stack));
+        }
+        return 0;
+    }
+
     public static <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, HANDLER extends IChemicalHandler<CHEMICAL, STACK>> boolean canInsert(
           HANDLER handler, @Nonnull STACK stack) {
         return handler.insertChemical(stack, Action.SIMULATE).getAmount() < stack.getAmount();
@@ -7,6 +7,7 @@ import mekanism.common.lib.distribution.IntegerSplitInfo;
 import mekanism.common.lib.distribution.LongSplitInfo;
 import mekanism.common.lib.distribution.SplitInfo;
 import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.transmitter.NetworkProfiler;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
@@ -30,6 +31,17 @@ public class EmitUtils {
      */
     private static <HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA, TARGET extends Target<HANDLER, TYPE, EXTRA>> TYPE sendToAcceptors(
           TARGET availableTargets, SplitInfo<TYPE> splitInfo, EXTRA toSend) {
+        if (NetworkProfiler.isEnabled()) {
+            long start = System.nanoTime();
+            TYPE sent = distribute(availableTargets, splitInfo, toSend);
+            NetworkProfiler.recordEmit(System.nanoTime() - start);
+            return sent;
+        }
+        return distribute(availableTargets, splitInfo, toSend);
+    }
+
+    private static <HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA, TARGET extends Target<HANDLER, TYPE, EXTRA>> TYPE distribute(TARGET availableTargets,
+          SplitInfo<TYPE> splitInfo, EXTRA toSend) {
         if (availableTargets.getHandlerCount() == 0) {
             return splitInfo.getTotalSent();
         }
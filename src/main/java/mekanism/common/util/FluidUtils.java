@@ -12,6 +12,7 @@ import mekanism.api.DataHandlerUtils;
 import mekanism.api.NBTConstants;
 import mekanism.api.fluid.IExtendedFluidTank;
 import mekanism.api.providers.IFluidProvider;
+import mekanism.common.capabilities.NeighborCapabilityCache;
 import mekanism.common.capabilities.fluid.BasicFluidTank;
 import mekanism.common.content.network.distribution.FluidHandlerTarget;
 import net.minecraft.core.Direction;
@@ -98,6 +99,29 @@ public final class FluidUtils {
         return 0;
     }
 
+    /**
+     * Similar to {@link #emit(Set, IExtendedFluidTank, BlockEntity, int)} except gets the handlers of the neighbors from the given cache.
+     */
+    public static void emit(Set<Direction> outputSides, IExtendedFluidTank tank, NeighborCapabilityCache neighbors, int maxOutput) {
+        if (!tank.isEmpty() && maxOutput > 0) {
+            FluidStack stack = tank.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL);
+            if (!stack.isEmpty() && !outputSides.isEmpty()) {
+                FluidStack toSend = stack.copy();
+                FluidHandlerTarget target = new FluidHandlerTarget(stack, 6);
+                for (Direction side : outputSides) {
+                    neighbors.getCapability(side, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY).ifPresent(handler -> {
+                        if (canFill(handler, toSend)) {
+                            target.addHandler(handler);
+                        }
+                    });
+                }
+                if (target.getHandlerCount() > 0) {
+                    tank.extract(EmitUtils.sendToAcceptors(target, stack.getAmount(), toSend), Action.EXECUTE, AutomationType.INTERNAL);
+                }
+            }
+        }
+    }
+
     public static boolean canFill(IFluidHandler handler, @Nonnull FluidStack stack) {
         return handler.fill(stack, FluidAction.SIMULATE) > 0;
     }
@@ -118,4 +118,43 @@ class FloatingLongPropertyTest implements WithQuickTheories {
               longs().all()
         ).check((a, b) -> b == 0 || a.divide(b).equals(divideViaBigDecimal(a, FloatingLong.create(b))));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test accumulator addition matches FloatingLong")
+    void testAccumulatorAddition() {
+        floatingLongPairTheory().check((a, b) -> new FloatingLongAccumulator(a).add(b).equals(a.add(b)));
+    }
+
+    @Test
+    @DisplayName("Test accumulator subtraction matches FloatingLong")
+    void testAccumulatorSubtraction() {
+        floatingLongPairTheory().check((a, b) -> new FloatingLongAccumulator(a).subtract(b).equals(a.subtract(b)));
+    }
+
+    @Test
+    @DisplayName("Test accumulator multiplication matches FloatingLong")
+    void testAccumulatorMultiplying() {
+        floatingLongPairTheory().check((a, b) -> new FloatingLongAccumulator(a).multiply(b).equals(a.multiply(b)));
+    }
+
+    @Test
+    @DisplayName("Test accumulator division matches FloatingLong")
+    void testAccumulatorDivision() {
+        floatingLongPairTheory().check((a, b) -> b.isZero() || new FloatingLongAccumulator(a).divide(b).equals(a.divide(b)));
+    }
+
+    @Test
+    @DisplayName("Test accumulator division by long matches FloatingLong")
+    void testAccumulatorDivisionByLong() {
+        qt().forAll(
+              allFloatingLongs(),
+              longs().all()
+        ).check((a, b) -> b == 0 || new FloatingLongAccumulator(a).divide(b).equals(a.divide(b)));
+    }
+
+    @Test
+    @DisplayName("Test accumulator comparison matches FloatingLong")
+    void testAccumulatorCompare() {
+        floatingLongPairTheory().check((a, b) -> new FloatingLongAccumulator(a).compareTo(b) == a.compareTo(b));
+    }
+}
@@ -155,4 +155,38 @@ class FloatingLongTest {
     void testConvertingStringToDecimal() {
         Assertions.assertEquals("0.00", FloatingLong.create(0, (short) 1).toString(2));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test accumulating a chain of operations matches FloatingLong")
+    void testAccumulatorChain() {
+        FloatingLong a = FloatingLong.create(509_876, (short) 5_555);
+        FloatingLong b = FloatingLong.create(13_479, (short) 6_789);
+        FloatingLong expected = a.add(b).multiply(b).subtract(a).divide(7);
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator(a).add(b).multiply(b).subtract(a).divide(7);
+        Assertions.assertTrue(accumulator.equals(expected));
+        Assertions.assertEquals(expected, accumulator.toFloatingLong());
+    }
+
+    @Test
+    @DisplayName("Test accumulator clamps at the max value and at zero")
+    void testAccumulatorClamping() {
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator(FloatingLong.MAX_VALUE).add(FloatingLong.ONE);
+        Assertions.assertTrue(accumulator.equals(FloatingLong.MAX_VALUE));
+        accumulator.setZero().subtract(FloatingLong.ONE);
+        Assertions.assertTrue(accumulator.isZero());
+        accumulator.set(FloatingLong.create(-1)).multiply(FloatingLong.create(2));
+        Assertions.assertTrue(accumulator.equals(FloatingLong.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Test accumulator min and comparisons")
+    void testAccumulatorMin() {
+        FloatingLong small = FloatingLong.create(5, (short) 1);
+        FloatingLong big = FloatingLong.create(5, (short) 2);
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator(big);
+        Assertions.assertTrue(accumulator.greaterThan(small));
+        Assertions.assertTrue(accumulator.min(small).equals(small));
+        Assertions.assertTrue(accumulator.smallerThan(big));
+        Assertions.assertEquals(0, accumulator.compareTo(small));
+    }
+}
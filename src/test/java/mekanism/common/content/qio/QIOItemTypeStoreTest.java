@@ -0,0 +1,175 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.world.item.Items;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test QIOItemTypeStore")
+class QIOItemTypeStoreTest {
+
+    private static List<HashedItem> types;
+
+    @BeforeAll
+    static void setup() {
+        QIOTestHelper.bootstrap();
+        types = QIOTestHelper.createTypes();
+    }
+
+    @Test
+    @DisplayName("Test counts round trip through adding and removing")
+    void testCounts() {
+        QIOItemTypeStore<String> store = new QIOItemTypeStore<>();
+        HashedItem stone = types.get(0);
+        int id = store.add(stone, "stone");
+        Assertions.assertEquals(1, store.size());
+        Assertions.assertEquals(id, store.getId(stone));
+        Assertions.assertEquals(stone, store.getType(id));
+        Assertions.assertEquals("stone", store.getData(stone));
+        Assertions.assertEquals(0, store.getCount(id));
+        store.addCount(id, 64);
+        store.addCount(id, 36);
+        Assertions.assertEquals(100, store.getCount(stone));
+        store.addCount(id, -40);
+        Assertions.assertEquals(60, store.getCount(id));
+        Assertions.assertThrows(IllegalStateException.class, () -> store.add(stone, "stone"));
+
+        store.remove(id);
+        Assertions.assertTrue(store.isEmpty());
+        Assertions.assertFalse(store.isStored(id));
+        Assertions.assertEquals(-1, store.getId(stone));
+        Assertions.assertEquals(0, store.getCount(stone));
+        Assertions.assertNull(store.getData(stone));
+    }
+
+    @Test
+    @DisplayName("Test removed types keep their id and UUID until released")
+    void testReaddBeforeRelease() {
+        QIOItemTypeStore<String> store = new QIOItemTypeStore<>();
+        HashedItem stone = types.get(0);
+        int id = store.add(stone, "stone");
+        UUID uuid = store.getUUID(id);
+        store.remove(id);
+        Assertions.assertTrue(store.hasRemoved());
+        //Still known by UUID until released, so that clients can be told about the removal
+        Assertions.assertEquals(uuid, store.getUUID(stone));
+        Assertions.assertEquals(stone, store.getTypeByUUID(uuid));
+
+        Assertions.assertEquals(id, store.add(stone, "stone again"));
+        Assertions.assertEquals(uuid, store.getUUID(id));
+        Assertions.assertFalse(store.hasRemoved());
+        //Releasing must not free the id of a type that was added back
+        store.releaseRemoved();
+        Assertions.assertEquals(id, store.getId(stone));
+        Assertions.assertEquals(uuid, store.getUUID(stone));
+        Assertions.assertEquals("stone again", store.getData(id));
+    }
+
+    @Test
+    @DisplayName("Test released ids are reused by other types")
+    void testIdReuse() {
+        QIOItemTypeStore<String> store = new QIOItemTypeStore<>();
+        HashedItem stone = types.get(0), dirt = types.get(1), iron = types.get(2);
+        int stoneId = store.add(stone, "stone");
+        int dirtId = store.add(dirt, "dirt");
+        Assertions.assertNotEquals(stoneId, dirtId);
+        UUID stoneUUID = store.getUUID(stoneId);
+        store.remove(stoneId);
+        //Not released yet, so a new type can't take the id
+        int ironId = store.add(iron, "iron");
+        Assertions.assertNotEquals(stoneId, ironId);
+        store.remove(ironId);
+        store.releaseRemoved();
+        Assertions.assertNull(store.getUUID(stone));
+        Assertions.assertNull(store.getTypeByUUID(stoneUUID));
+
+        IntList reused = new IntArrayList();
+        reused.add(store.add(stone, "stone"));
+        reused.add(store.add(iron, "iron"));
+        Assertions.assertTrue(reused.contains(stoneId) && reused.contains(ironId), "Expected the released ids to be reused");
+        Assertions.assertNotEquals(stoneUUID, store.getUUID(stone), "Released types should get a new UUID");
+        Assertions.assertEquals(3, store.size());
+    }
+
+    @Test
+    @DisplayName("Test iteration order and lookups stay consistent with the stored types")
+    void testConsistency() {
+        QIOItemTypeStore<String> store = new QIOItemTypeStore<>();
+        //Expected counts of the stored types
+        Object2LongMap<HashedItem> expected = new Object2LongLinkedOpenHashMap<>();
+        Random random = new Random(42);
+        for (int step = 0; step < 2_000; step++) {
+            HashedItem type = types.get(random.nextInt(types.size()));
+            int id = store.getId(type);
+            if (id == -1) {
+                id = store.add(type, type.toString());
+                long amount = 1 + random.nextInt(1_000);
+                store.addCount(id, amount);
+                expected.put(type, amount);
+            } else if (random.nextInt(4) == 0) {
+                store.remove(id);
+                expected.removeLong(type);
+            } else {
+                long amount = 1 + random.nextInt(1_000);
+                store.addCount(id, amount);
+                expected.put(type, expected.getLong(type) + amount);
+            }
+            if (random.nextInt(10) == 0) {
+                store.releaseRemoved();
+            }
+            assertMatches(expected, store);
+        }
+    }
+
+    private static void assertMatches(Object2LongMap<HashedItem> expected, QIOItemTypeStore<String> store) {
+        Assertions.assertEquals(expected.size(), store.size());
+        long total = 0;
+        for (Object2LongMap.Entry<HashedItem> entry : expected.object2LongEntrySet()) {
+            Assertions.assertEquals(entry.getLongValue(), store.getCount(entry.getKey()));
+            total += entry.getLongValue();
+        }
+        //Iterating the ids visits each stored type exactly once in ascending order, and the totals match
+        long iteratedTotal = 0;
+        int stored = 0;
+        int lastId = -1;
+        for (int id = store.firstId(); id != -1; id = store.nextId(id)) {
+            Assertions.assertTrue(id > lastId);
+            Assertions.assertTrue(store.isStored(id));
+            Assertions.assertTrue(expected.containsKey(store.getType(id)));
+            iteratedTotal += store.getCount(id);
+            lastId = id;
+            stored++;
+        }
+        Assertions.assertEquals(expected.size(), stored);
+        Assertions.assertEquals(total, iteratedTotal);
+        //The data view iterates in the same order
+        List<String> data = new ArrayList<>(store.values());
+        Assertions.assertEquals(expected.size(), data.size());
+        int index = 0;
+        for (int id = store.firstId(); id != -1; id = store.nextId(id)) {
+            Assertions.assertEquals(store.getData(id), data.get(index++));
+        }
+        //The lookup indices only contain stored types
+        BitSet ids = new BitSet();
+        for (HashedItem type : expected.keySet()) {
+            ids.set(store.getId(type));
+        }
+        Assertions.assertEquals(ids, store.getIdsByModID("minecraft"));
+        BitSet pickaxes = store.getIdsByItem(Items.DIAMOND_PICKAXE);
+        for (int id = pickaxes.nextSetBit(0); id != -1; id = pickaxes.nextSetBit(id + 1)) {
+            Assertions.assertTrue(store.isStored(id));
+            Assertions.assertSame(Items.DIAMOND_PICKAXE, store.getType(id).getStack().getItem());
+        }
+    }
+}
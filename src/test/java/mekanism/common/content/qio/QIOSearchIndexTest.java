@@ -0,0 +1,100 @@
+package mekanism.common.content.qio;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import mekanism.common.inventory.ISlotClickHandler.IScrollableSlot;
+import mekanism.common.lib.inventory.HashedItem;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test QIOSearchIndex matches SearchQueryParser")
+class QIOSearchIndexTest {
+
+    private static final String[] QUERIES = {
+          //Names
+          "iron", "ingot", "di", "pickaxe", "iron ingot", "xyz",
+          //Mod ids
+          "@minecraft", "@mine", "@mekanism",
+          //Tags
+          "#ingots", "#forge:ingots/iron", "#dirt", "#gems", "#nothing",
+          //Combinations
+          "@minecraft ingot", "#ingots gold", "iron | diamond", "@(minecraft | mekanism) (ingot | pickaxe)", "#(dirt | gems)", ""
+    };
+
+    private static List<IScrollableSlot> slots;
+
+    @BeforeAll
+    static void setup() {
+        QIOTestHelper.bootstrap();
+        slots = new ArrayList<>();
+        for (HashedItem type : QIOTestHelper.createTypes()) {
+            slots.add(new TestSlot(type, UUID.randomUUID()));
+        }
+    }
+
+    @Test
+    @DisplayName("Test searching the index gives the same results as matching each stack")
+    void testMatches() {
+        QIOSearchIndex index = new QIOSearchIndex();
+        slots.forEach(index::add);
+        assertMatches(index, slots, slots);
+    }
+
+    @Test
+    @DisplayName("Test searching the index after adding and removing slots")
+    void testAddRemove() {
+        QIOSearchIndex index = new QIOSearchIndex();
+        slots.forEach(index::add);
+        List<IScrollableSlot> indexed = new ArrayList<>(slots);
+        //Remove every other slot
+        for (int i = 0; i < slots.size(); i += 2) {
+            index.remove(slots.get(i));
+            indexed.remove(slots.get(i));
+        }
+        assertMatches(index, indexed, slots);
+        //Add some of them back, which may reuse the ids of other removed slots
+        for (int i = 0; i < slots.size(); i += 4) {
+            index.add(slots.get(i));
+            indexed.add(slots.get(i));
+        }
+        assertMatches(index, indexed, slots);
+        index.clear();
+        assertMatches(index, List.of(), slots);
+        slots.forEach(index::add);
+        assertMatches(index, slots, slots);
+    }
+
+    private static void assertMatches(QIOSearchIndex index, List<IScrollableSlot> indexed, List<IScrollableSlot> all) {
+        for (String queryText : QUERIES) {
+            ISearchQuery query = SearchQueryParser.parse(queryText);
+            Predicate<IScrollableSlot> results = index.search(query);
+            for (IScrollableSlot slot : all) {
+                boolean expected = indexed.contains(slot) && query.matches(slot.getItem().getStack());
+                Assertions.assertEquals(expected, results.test(slot), () -> "Mismatch for query '" + queryText + "' and " + slot.getItem().getStack());
+            }
+        }
+    }
+
+    private record TestSlot(HashedItem getItem, UUID getItemUUID) implements IScrollableSlot {
+
+        @Override
+        public long getCount() {
+            return 1;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return getItem.getStack().getHoverName().getString();
+        }
+
+        @Override
+        public String getModID() {
+            return getItem.getStack().getItem().getRegistryName().getNamespace();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package mekanism.common.content.qio;
+
+import java.util.List;
+import java.util.Map;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+class QIOTestHelper {
+
+    private static boolean bootstrapped;
+
+    private QIOTestHelper() {
+    }
+
+    /**
+     * Bootstraps the vanilla registries, and binds a few item tags so that tag lookups have something to find.
+     */
+    static void bootstrap() {
+        if (!bootstrapped) {
+            SharedConstants.tryDetectVersion();
+            Bootstrap.bootStrap();
+            Registry.ITEM.bindTags(Map.of(
+                  tag("forge", "ingots/iron"), List.of(Items.IRON_INGOT.builtInRegistryHolder()),
+                  tag("forge", "ingots/gold"), List.of(Items.GOLD_INGOT.builtInRegistryHolder()),
+                  tag("forge", "ingots"), List.of(Items.IRON_INGOT.builtInRegistryHolder(), Items.GOLD_INGOT.builtInRegistryHolder()),
+                  tag("forge", "gems/diamond"), List.of(Items.DIAMOND.builtInRegistryHolder()),
+                  tag("minecraft", "dirt"), List.of(Items.DIRT.builtInRegistryHolder())
+            ));
+            bootstrapped = true;
+        }
+    }
+
+    private static TagKey<Item> tag(String namespace, String path) {
+        return TagKey.create(Registry.ITEM_REGISTRY, new ResourceLocation(namespace, path));
+    }
+
+    /**
+     * @return Types of a few different items, including multiple NBT variants of the same item.
+     */
+    static List<HashedItem> createTypes() {
+        return List.of(
+              HashedItem.create(new ItemStack(Items.STONE)),
+              HashedItem.create(new ItemStack(Items.DIRT)),
+              HashedItem.create(new ItemStack(Items.IRON_INGOT)),
+              HashedItem.create(new ItemStack(Items.GOLD_INGOT)),
+              HashedItem.create(new ItemStack(Items.DIAMOND)),
+              HashedItem.create(new ItemStack(Items.DIAMOND_PICKAXE)),
+              variant(Items.DIAMOND_PICKAXE, 1),
+              variant(Items.DIAMOND_PICKAXE, 2),
+              variant(Items.IRON_INGOT, 1)
+        );
+    }
+
+    private static HashedItem variant(Item item, int variant) {
+        ItemStack stack = new ItemStack(item);
+        stack.getOrCreateTag().putInt("variant", variant);
+        return HashedItem.create(stack);
+    }
+}
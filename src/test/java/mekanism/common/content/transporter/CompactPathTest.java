@@ -0,0 +1,89 @@
+package mekanism.common.content.transporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test CompactPath encoding")
+class CompactPathTest {
+
+    private static List<BlockPos> createPath(BlockPos start, Direction... directions) {
+        List<BlockPos> path = new ArrayList<>();
+        BlockPos pos = start;
+        path.add(pos);
+        for (Direction direction : directions) {
+            pos = pos.relative(direction);
+            path.add(pos);
+        }
+        return path;
+    }
+
+    private static void assertPathMatches(List<BlockPos> expected, CompactPath path) {
+        Assertions.assertEquals(expected.size(), path.size());
+        Assertions.assertEquals(expected, path.toList());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.get(i), path.get(i));
+            Assertions.assertEquals(expected.indexOf(expected.get(i)), path.indexOf(expected.get(i)));
+        }
+    }
+
+    @Test
+    @DisplayName("Test empty path")
+    void testEmpty() {
+        CompactPath path = CompactPath.of(List.of());
+        Assertions.assertTrue(path.isEmpty());
+        Assertions.assertEquals(-1, path.indexOf(BlockPos.ZERO));
+        Assertions.assertTrue(CompactPath.fromLongArray(path.toLongArray()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test adjacent hops in every direction")
+    void testAdjacentHops() {
+        List<BlockPos> expected = createPath(new BlockPos(-30_000_000, -64, 29_999_999), Direction.values());
+        CompactPath path = CompactPath.of(expected);
+        assertPathMatches(expected, path);
+        Assertions.assertEquals(-1, path.indexOf(new BlockPos(0, 0, 0)));
+    }
+
+    @Test
+    @DisplayName("Test paths longer than a single long of hops")
+    void testLongPath() {
+        Direction[] directions = new Direction[100];
+        for (int i = 0; i < directions.length; i++) {
+            directions[i] = i % 3 == 0 ? Direction.UP : Direction.EAST;
+        }
+        List<BlockPos> expected = createPath(new BlockPos(5, 70, -5), directions);
+        assertPathMatches(expected, CompactPath.of(expected));
+    }
+
+    @Test
+    @DisplayName("Test non adjacent positions are stored in full")
+    void testJumps() {
+        List<BlockPos> expected = new ArrayList<>(createPath(BlockPos.ZERO, Direction.NORTH, Direction.NORTH));
+        expected.addAll(createPath(new BlockPos(100, 10, 100), Direction.DOWN, Direction.WEST));
+        assertPathMatches(expected, CompactPath.of(expected));
+    }
+
+    @Test
+    @DisplayName("Test serialization round trip")
+    void testSerialization() {
+        List<BlockPos> expected = new ArrayList<>(createPath(new BlockPos(1, 2, 3), Direction.SOUTH, Direction.UP, Direction.UP));
+        expected.add(new BlockPos(-7, 8, -9));
+        CompactPath path = CompactPath.fromLongArray(CompactPath.of(expected).toLongArray());
+        assertPathMatches(expected, path);
+    }
+
+    @Test
+    @DisplayName("Test invalid serialized data")
+    void testInvalidData() {
+        Assertions.assertTrue(CompactPath.fromLongArray(new long[0]).isEmpty());
+        //Claims to have a jump but no jump code is present
+        Assertions.assertTrue(CompactPath.fromLongArray(new long[]{2, 0, 1, 0, 0}).isEmpty());
+        //Invalid hop code
+        Assertions.assertTrue(CompactPath.fromLongArray(new long[]{2, 0, 0, 7}).isEmpty());
+    }
+}
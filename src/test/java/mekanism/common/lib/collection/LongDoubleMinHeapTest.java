@@ -0,0 +1,57 @@
+package mekanism.common.lib.collection;
+
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test LongDoubleMinHeap implementation")
+class LongDoubleMinHeapTest {
+
+    @Test
+    @DisplayName("Test values are polled in priority order")
+    void testPollOrder() {
+        LongDoubleMinHeap heap = new LongDoubleMinHeap(2);
+        heap.push(3, 3.5);
+        heap.push(1, 1.25);
+        heap.push(4, 4);
+        heap.push(2, 2);
+        Assertions.assertEquals(4, heap.size());
+        Assertions.assertEquals(1, heap.poll());
+        Assertions.assertEquals(1.25, heap.lastPriority());
+        Assertions.assertEquals(2, heap.poll());
+        Assertions.assertEquals(3, heap.poll());
+        Assertions.assertEquals(3.5, heap.lastPriority());
+        Assertions.assertEquals(4, heap.poll());
+        Assertions.assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test duplicate values with different priorities")
+    void testDuplicates() {
+        LongDoubleMinHeap heap = new LongDoubleMinHeap();
+        heap.push(Long.MIN_VALUE, 10);
+        heap.push(Long.MIN_VALUE, 5);
+        Assertions.assertEquals(Long.MIN_VALUE, heap.poll());
+        Assertions.assertEquals(5, heap.lastPriority());
+        Assertions.assertEquals(Long.MIN_VALUE, heap.poll());
+        Assertions.assertEquals(10, heap.lastPriority());
+    }
+
+    @Test
+    @DisplayName("Test polling random priorities yields a sorted sequence")
+    void testRandomOrder() {
+        Random random = new Random(0);
+        LongDoubleMinHeap heap = new LongDoubleMinHeap();
+        for (int i = 0; i < 1_000; i++) {
+            double priority = random.nextDouble();
+            heap.push(i, priority);
+        }
+        double last = Double.NEGATIVE_INFINITY;
+        while (!heap.isEmpty()) {
+            heap.poll();
+            Assertions.assertTrue(heap.lastPriority() >= last);
+            last = heap.lastPriority();
+        }
+    }
+}
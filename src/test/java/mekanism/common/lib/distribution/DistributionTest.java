@@ -73,4 +73,41 @@ class DistributionTest {
             Assertions.fail(String.format(Locale.ROOT, "expected: <%s> to be greater or equal to: <%s>", toSend, sent));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test targets that were already simulated when added are not simulated again")
+    void testPreSimulated() {
+        int toSend = 10;
+        int[] simulations = new int[1];
+        IntegerTarget availableAcceptors = new IntegerTarget();
+        for (int i = 0; i < 4; i++) {
+            IntegerHandler handler = new SpecificAmountIntegerHandler(2) {
+                @Override
+                public int perform(int amountOffered, boolean isSimulate) {
+                    if (isSimulate) {
+                        simulations[0]++;
+                    }
+                    return super.perform(amountOffered, isSimulate);
+                }
+            };
+            availableAcceptors.addHandler(handler, handler.perform(toSend, true));
+        }
+        Assertions.assertEquals(8, EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend));
+        //Only the simulations from when the handlers were added
+        Assertions.assertEquals(4, simulations[0]);
+    }
+
+    @Test
+    @DisplayName("Test reusing a target after clearing it")
+    void testClearedTarget() {
+        int toSend = 10;
+        IntegerTarget availableAcceptors = new IntegerTarget();
+        addTargets(availableAcceptors, () -> new SpecificAmountIntegerHandler(2), 3);
+        Assertions.assertEquals(6, EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend));
+        availableAcceptors.clear();
+        Assertions.assertEquals(0, availableAcceptors.getHandlerCount());
+        IntegerHandler handler = new SpecificAmountIntegerHandler(4);
+        availableAcceptors.addHandler(handler, handler.perform(toSend, true));
+        Assertions.assertEquals(4, EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend));
+    }
+}
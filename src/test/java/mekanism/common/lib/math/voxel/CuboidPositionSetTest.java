@@ -0,0 +1,108 @@
+package mekanism.common.lib.math.voxel;
+
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Iterator;
+import java.util.Set;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test CuboidPositionSet")
+class CuboidPositionSetTest {
+
+    private static final VoxelCuboid CUBOID = new VoxelCuboid(new BlockPos(-3, 10, 5), new BlockPos(4, 14, 7));
+
+    private static void assertSetMatches(Set<BlockPos> expected, CuboidPositionSet set) {
+        Assertions.assertEquals(expected.size(), set.size());
+        Assertions.assertEquals(expected, set);
+        Assertions.assertEquals(set, expected);
+        Assertions.assertEquals(expected.hashCode(), set.hashCode());
+        Assertions.assertEquals(expected, new ObjectOpenHashSet<>(set));
+    }
+
+    @Test
+    @DisplayName("Test adding and removing positions")
+    void testAddRemove() {
+        CuboidPositionSet set = new CuboidPositionSet(CUBOID);
+        Set<BlockPos> expected = new ObjectOpenHashSet<>();
+        Assertions.assertTrue(set.isEmpty());
+        for (BlockPos pos : new BlockPos[]{CUBOID.getMinPos(), CUBOID.getMaxPos(), new BlockPos(0, 12, 6), new BlockPos(4, 10, 5), new BlockPos(-3, 14, 7)}) {
+            Assertions.assertEquals(expected.add(pos), set.add(pos));
+        }
+        Assertions.assertFalse(set.add(new BlockPos(0, 12, 6)));
+        assertSetMatches(expected, set);
+
+        Assertions.assertTrue(set.remove(new BlockPos(0, 12, 6)));
+        Assertions.assertFalse(set.remove(new BlockPos(0, 12, 6)));
+        Assertions.assertFalse(set.remove(new BlockPos(100, 12, 6)));
+        expected.remove(new BlockPos(0, 12, 6));
+        assertSetMatches(expected, set);
+
+        set.clear();
+        Assertions.assertTrue(set.isEmpty());
+        Assertions.assertFalse(set.contains(CUBOID.getMinPos()));
+    }
+
+    @Test
+    @DisplayName("Test checking positions")
+    void testContains() {
+        CuboidPositionSet set = new CuboidPositionSet(CUBOID);
+        BlockPos pos = new BlockPos(1, 13, 5);
+        set.add(pos);
+        Assertions.assertTrue(set.contains(pos));
+        Assertions.assertTrue(set.contains(new BlockPos.MutableBlockPos(1, 13, 5)));
+        Assertions.assertTrue(set.contains(pos.asLong()));
+        Assertions.assertTrue(set.contains(1, 13, 5));
+        Assertions.assertFalse(set.contains(new BlockPos(1, 13, 6)));
+        Assertions.assertFalse(set.contains(new BlockPos(1, 13, 6).asLong()));
+        Assertions.assertFalse(set.contains(new BlockPos(1, 9, 5)));
+        Assertions.assertFalse(set.contains(new BlockPos(5, 13, 5)));
+        Assertions.assertFalse(set.contains("not a position"));
+    }
+
+    @Test
+    @DisplayName("Test positions outside the cuboid can't be added")
+    void testOutside() {
+        CuboidPositionSet set = new CuboidPositionSet(CUBOID);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> set.add(new BlockPos(-4, 10, 5)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> set.add(new BlockPos(4, 15, 5)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> set.add(new BlockPos(4, 14, 8)));
+        Assertions.assertTrue(set.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test filling the cuboid")
+    void testFull() {
+        CuboidPositionSet set = new CuboidPositionSet(CUBOID);
+        Set<BlockPos> expected = new ObjectOpenHashSet<>();
+        for (BlockPos pos : BlockPos.betweenClosed(CUBOID.getMinPos(), CUBOID.getMaxPos())) {
+            expected.add(pos.immutable());
+            set.add(pos);
+        }
+        Assertions.assertEquals(CUBOID.length() * CUBOID.height() * CUBOID.width(), set.size());
+        assertSetMatches(expected, set);
+        CuboidPositionSet copy = new CuboidPositionSet(CUBOID);
+        copy.addAll(set);
+        Assertions.assertEquals(set, copy);
+    }
+
+    @Test
+    @DisplayName("Test removing positions while iterating")
+    void testIteratorRemove() {
+        CuboidPositionSet set = new CuboidPositionSet(CUBOID);
+        Set<BlockPos> expected = new ObjectOpenHashSet<>();
+        for (BlockPos pos : BlockPos.betweenClosed(CUBOID.getMinPos(), CUBOID.getMaxPos())) {
+            set.add(pos);
+            if (pos.getY() != 12) {
+                expected.add(pos.immutable());
+            }
+        }
+        for (Iterator<BlockPos> iterator = set.iterator(); iterator.hasNext(); ) {
+            if (iterator.next().getY() == 12) {
+                iterator.remove();
+            }
+        }
+        assertSetMatches(expected, set);
+    }
+}
@@ -0,0 +1,130 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import mekanism.common.lib.transmitter.NetworkSplitFinder.ConnectionLookup;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test finding out if removing a transmitter split a network")
+class NetworkSplitFinderTest {
+
+    /**
+     * Creates a lookup for transmitters in a flat grid, where each position is {@code x * 1000 + z}.
+     */
+    private static ConnectionLookup grid(LongSet transmitters) {
+        return (pos, action) -> {
+            for (long offset : new long[]{1, -1, 1_000, -1_000}) {
+                if (transmitters.contains(pos + offset)) {
+                    action.accept(pos + offset);
+                }
+            }
+        };
+    }
+
+    private static LongSet line(int length) {
+        LongSet transmitters = new LongOpenHashSet();
+        for (int x = 0; x < length; x++) {
+            transmitters.add(x * 1_000L);
+        }
+        return transmitters;
+    }
+
+    @Test
+    @DisplayName("Test removing a transmitter from the middle of a line")
+    void testLineSplit() {
+        LongSet transmitters = line(100);
+        transmitters.remove(10_000);
+        LongSet splitOff = new NetworkSplitFinder(LongArrayList.wrap(new long[]{9_000, 11_000}), grid(transmitters)).findSplitOff();
+        //The smaller piece should be the one that gets split off
+        Assertions.assertEquals(10, splitOff.size());
+        for (int x = 0; x < 10; x++) {
+            Assertions.assertTrue(splitOff.contains(x * 1_000L));
+        }
+    }
+
+    @Test
+    @DisplayName("Test removing a transmitter from a loop")
+    void testLoop() {
+        LongSet transmitters = new LongOpenHashSet();
+        for (int i = 0; i < 10; i++) {
+            transmitters.add(i * 1_000L);
+            transmitters.add(i * 1_000L + 5);
+        }
+        for (int z = 1; z < 5; z++) {
+            transmitters.add(z);
+            transmitters.add(9_000L + z);
+        }
+        transmitters.remove(5_000);
+        LongSet splitOff = new NetworkSplitFinder(LongArrayList.wrap(new long[]{4_000, 6_000}), grid(transmitters)).findSplitOff();
+        Assertions.assertTrue(splitOff.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test removing a transmitter joining multiple pieces")
+    void testMultipleSplits() {
+        LongSet transmitters = new LongOpenHashSet();
+        //Plus shape with arms of different lengths
+        for (int i = 1; i <= 5; i++) {
+            transmitters.add(i * 1_000L);
+        }
+        for (int i = 1; i <= 3; i++) {
+            transmitters.add(-i * 1_000L);
+        }
+        for (int i = 1; i <= 2; i++) {
+            transmitters.add(i);
+            transmitters.add(-i);
+        }
+        LongSet splitOff = new NetworkSplitFinder(LongArrayList.wrap(new long[]{1_000, -1_000, 1, -1}), grid(transmitters)).findSplitOff();
+        //Everything but the longest arm gets split off
+        Assertions.assertEquals(7, splitOff.size());
+        Assertions.assertFalse(splitOff.contains(1_000));
+        Assertions.assertFalse(splitOff.contains(5_000));
+        Assertions.assertTrue(splitOff.contains(-3_000));
+        Assertions.assertTrue(splitOff.contains(2));
+    }
+
+    @Test
+    @DisplayName("Test a large network that did not split only explores near the removed transmitter")
+    void testEarlyExit() {
+        LongSet transmitters = new LongOpenHashSet();
+        for (int x = 0; x < 100; x++) {
+            for (int z = 0; z < 100; z++) {
+                transmitters.add(x * 1_000L + z);
+            }
+        }
+        transmitters.remove(50_050);
+        LongSet explored = new LongOpenHashSet();
+        ConnectionLookup lookup = grid(transmitters);
+        LongSet splitOff = new NetworkSplitFinder(LongArrayList.wrap(new long[]{49_050, 51_050, 50_049, 50_051}), (pos, action) -> {
+            explored.add(pos);
+            lookup.forEachConnection(pos, action);
+        }).findSplitOff();
+        Assertions.assertTrue(splitOff.isEmpty());
+        Assertions.assertTrue(explored.size() < 100, "Explored " + explored.size() + " positions");
+    }
+
+    @Test
+    @DisplayName("Test a single piece split off of a large network")
+    void testSmallSplitOfLargeNetwork() {
+        LongSet transmitters = new LongOpenHashSet();
+        for (int x = 0; x < 100; x++) {
+            for (int z = 0; z < 100; z++) {
+                transmitters.add(x * 1_000L + z);
+            }
+        }
+        //Single transmitter sticking out of the grid, connected by the one that gets removed
+        transmitters.add(-2_000);
+        LongSet explored = new LongOpenHashSet();
+        ConnectionLookup lookup = grid(transmitters);
+        LongSet splitOff = new NetworkSplitFinder(LongArrayList.wrap(new long[]{-2_000, 0}), (pos, action) -> {
+            explored.add(pos);
+            lookup.forEachConnection(pos, action);
+        }).findSplitOff();
+        Assertions.assertEquals(1, splitOff.size());
+        Assertions.assertTrue(splitOff.contains(-2_000));
+        Assertions.assertTrue(explored.size() < 10, "Explored " + explored.size() + " positions");
+    }
+}
@@ -0,0 +1,69 @@
+package mekanism.common.lib.transmitter.acceptor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test skipping acceptors that could not accept anything")
+class AcceptorBackoffTest {
+
+    private static final long POS = 12_345L;
+
+    @Test
+    @DisplayName("Test the delay doubles up to the max")
+    void testDelayDoubles() {
+        AcceptorBackoff backoff = new AcceptorBackoff();
+        long tick = 0;
+        for (int expectedDelay : new int[]{1, 2, 4, 8, 10, 10}) {
+            backoff.markFull(POS, 0, tick, 10);
+            for (int i = 0; i < expectedDelay; i++) {
+                Assertions.assertTrue(backoff.shouldSkip(POS, 0, tick + i));
+            }
+            tick += expectedDelay;
+            Assertions.assertFalse(backoff.shouldSkip(POS, 0, tick));
+        }
+    }
+
+    @Test
+    @DisplayName("Test sides are tracked separately")
+    void testSides() {
+        AcceptorBackoff backoff = new AcceptorBackoff();
+        backoff.markFull(POS, 2, 0, 10);
+        Assertions.assertTrue(backoff.shouldSkip(POS, 2, 0));
+        Assertions.assertFalse(backoff.shouldSkip(POS, 3, 0));
+        Assertions.assertFalse(backoff.shouldSkip(POS + 1, 2, 0));
+    }
+
+    @Test
+    @DisplayName("Test accepting resets the delay")
+    void testAccepting() {
+        AcceptorBackoff backoff = new AcceptorBackoff();
+        backoff.markFull(POS, 0, 0, 10);
+        backoff.markFull(POS, 0, 1, 10);
+        backoff.markAccepting(POS, 0);
+        Assertions.assertTrue(backoff.isEmpty());
+        backoff.markFull(POS, 0, 5, 10);
+        Assertions.assertTrue(backoff.shouldSkip(POS, 0, 5));
+        Assertions.assertFalse(backoff.shouldSkip(POS, 0, 6));
+    }
+
+    @Test
+    @DisplayName("Test resetting an acceptor that changed")
+    void testReset() {
+        AcceptorBackoff backoff = new AcceptorBackoff();
+        backoff.markFull(POS, 0, 0, 10);
+        backoff.markFull(POS, 1, 0, 10);
+        backoff.reset(POS);
+        Assertions.assertFalse(backoff.shouldSkip(POS, 0, 0));
+        Assertions.assertFalse(backoff.shouldSkip(POS, 1, 0));
+    }
+
+    @Test
+    @DisplayName("Test a max delay of zero disables skipping")
+    void testDisabled() {
+        AcceptorBackoff backoff = new AcceptorBackoff();
+        backoff.markFull(POS, 0, 0, 0);
+        Assertions.assertFalse(backoff.shouldSkip(POS, 0, 0));
+        Assertions.assertTrue(backoff.isEmpty());
+    }
+}
@@ -0,0 +1,108 @@
+package mekanism.common.lib.transmitter.acceptor;
+
+import java.util.EnumSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraftforge.common.util.LazyOptional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the flat acceptor table of transmitter networks")
+class NetworkAcceptorCacheTest {
+
+    private static final BlockPos FIRST = new BlockPos(0, 64, 0);
+    private static final BlockPos SECOND = new BlockPos(1, 64, 0);
+    private static final BlockPos THIRD = new BlockPos(2, 64, 0);
+
+    private static LazyOptional<String> acceptor(String name) {
+        return LazyOptional.of(() -> name);
+    }
+
+    @Test
+    @DisplayName("Test adding multiple sides of the same position")
+    void testMultipleSides() {
+        NetworkAcceptorCache<String> cache = new NetworkAcceptorCache<>();
+        cache.setAcceptor(FIRST.asLong(), Direction.UP, acceptor("up"));
+        cache.setAcceptor(FIRST.asLong(), Direction.NORTH, acceptor("north"));
+        cache.setAcceptor(FIRST.asLong(), Direction.NORTH, acceptor("north"));
+        Assertions.assertEquals(1, cache.getPositionCount());
+        Assertions.assertEquals(2, cache.getAcceptorCount());
+        Assertions.assertEquals(FIRST.asLong(), cache.getPosition(0));
+        Assertions.assertNotNull(cache.getAcceptor(0, Direction.UP));
+        Assertions.assertNull(cache.getAcceptor(0, Direction.DOWN));
+        Assertions.assertEquals(EnumSet.of(Direction.UP, Direction.NORTH), cache.getAcceptorDirections(FIRST));
+    }
+
+    @Test
+    @DisplayName("Test removing a position keeps the rest of the table dense")
+    void testRemove() {
+        NetworkAcceptorCache<String> cache = new NetworkAcceptorCache<>();
+        cache.setAcceptor(FIRST.asLong(), Direction.UP, acceptor("first"));
+        cache.setAcceptor(SECOND.asLong(), Direction.UP, acceptor("second"));
+        cache.setAcceptor(THIRD.asLong(), Direction.DOWN, acceptor("third"));
+        cache.removeAcceptor(FIRST.asLong(), Direction.UP);
+        Assertions.assertFalse(cache.hasAcceptor(FIRST));
+        Assertions.assertTrue(cache.getAcceptorDirections(FIRST).isEmpty());
+        Assertions.assertEquals(2, cache.getPositionCount());
+        Assertions.assertEquals(2, cache.getAcceptorCount());
+        //The last position should have been moved into the removed one's index
+        Assertions.assertEquals(THIRD.asLong(), cache.getPosition(0));
+        Assertions.assertEquals("third", cache.getAcceptor(0, Direction.DOWN).resolve().orElseThrow());
+        //Removing and adding again should still be able to find the moved position
+        cache.removeAcceptor(THIRD.asLong(), Direction.DOWN);
+        Assertions.assertEquals(1, cache.getPositionCount());
+        Assertions.assertEquals(SECOND.asLong(), cache.getPosition(0));
+        Assertions.assertTrue(cache.hasAcceptor(SECOND));
+        Assertions.assertFalse(cache.hasAcceptor(THIRD));
+    }
+
+    @Test
+    @DisplayName("Test removing one of multiple sides")
+    void testRemoveSide() {
+        NetworkAcceptorCache<String> cache = new NetworkAcceptorCache<>();
+        cache.setAcceptor(FIRST.asLong(), Direction.UP, acceptor("up"));
+        cache.setAcceptor(FIRST.asLong(), Direction.DOWN, acceptor("down"));
+        cache.removeAcceptor(FIRST.asLong(), Direction.UP);
+        cache.removeAcceptor(SECOND.asLong(), Direction.UP);
+        Assertions.assertTrue(cache.hasAcceptor(FIRST));
+        Assertions.assertEquals(1, cache.getAcceptorCount());
+        Assertions.assertNull(cache.getAcceptor(0, Direction.UP));
+    }
+
+    @Test
+    @DisplayName("Test merging the acceptors of another network")
+    void testAdopt() {
+        NetworkAcceptorCache<String> cache = new NetworkAcceptorCache<>();
+        cache.setAcceptor(FIRST.asLong(), Direction.UP, acceptor("ours"));
+        NetworkAcceptorCache<String> other = new NetworkAcceptorCache<>();
+        other.setAcceptor(FIRST.asLong(), Direction.UP, acceptor("theirs"));
+        other.setAcceptor(FIRST.asLong(), Direction.EAST, acceptor("east"));
+        other.setAcceptor(SECOND.asLong(), Direction.WEST, acceptor("west"));
+        cache.adoptAcceptors(other);
+        other.deregister();
+        Assertions.assertEquals(2, cache.getPositionCount());
+        Assertions.assertEquals(3, cache.getAcceptorCount());
+        Assertions.assertEquals("theirs", cache.getAcceptor(0, Direction.UP).resolve().orElseThrow());
+        Assertions.assertEquals(EnumSet.of(Direction.UP, Direction.EAST), cache.getAcceptorDirections(FIRST));
+        Assertions.assertEquals(EnumSet.of(Direction.WEST), cache.getAcceptorDirections(SECOND));
+    }
+
+    @Test
+    @DisplayName("Test merging into an empty network")
+    void testAdoptEmpty() {
+        NetworkAcceptorCache<String> other = new NetworkAcceptorCache<>();
+        for (int i = 0; i < 20; i++) {
+            other.setAcceptor(new BlockPos(i, 0, 0).asLong(), Direction.SOUTH, acceptor("acceptor"));
+        }
+        NetworkAcceptorCache<String> cache = new NetworkAcceptorCache<>();
+        cache.adoptAcceptors(other);
+        other.deregister();
+        Assertions.assertEquals(20, cache.getPositionCount());
+        Assertions.assertEquals(20, cache.getAcceptorCount());
+        cache.removeAcceptor(BlockPos.ZERO.asLong(), Direction.SOUTH);
+        Assertions.assertEquals(19, cache.getPositionCount());
+        Assertions.assertTrue(cache.hasAcceptor(new BlockPos(19, 0, 0)));
+        Assertions.assertNotNull(cache.getAcceptor(0, Direction.SOUTH));
+    }
+}